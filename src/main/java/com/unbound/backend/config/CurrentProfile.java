@@ -0,0 +1,14 @@
+package com.unbound.backend.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Injects the authenticated user's {@link com.unbound.backend.entity.Student} or
+ * {@link com.unbound.backend.entity.College} profile into a controller method parameter of that
+ * type. Resolves to null when the caller is anonymous, has another role or has no profile yet.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentProfile {
+}
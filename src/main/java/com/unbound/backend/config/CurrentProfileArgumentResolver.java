@@ -0,0 +1,37 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.service.ProfileService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class CurrentProfileArgumentResolver implements HandlerMethodArgumentResolver {
+    @Autowired
+    private ProfileService profileService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentProfile.class)
+                && (parameter.getParameterType() == Student.class || parameter.getParameterType() == College.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User user = authentication != null && authentication.getPrincipal() instanceof User principal ? principal : null;
+        return parameter.getParameterType() == Student.class
+                ? profileService.findStudent(user)
+                : profileService.findCollege(user);
+    }
+}
@@ -5,9 +5,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
-import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import com.unbound.backend.exception.EmailNotFoundException;
@@ -32,6 +33,8 @@ import com.unbound.backend.exception.FestNotFoundException;
 import com.unbound.backend.exception.EventNotFoundException;
 import com.unbound.backend.exception.ForbiddenActionException;
 import com.unbound.backend.exception.StudentNotFoundException;
+import com.unbound.backend.exception.IdempotencyConflictException;
+import com.unbound.backend.exception.PaymentGatewayUnavailableException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.slf4j.Logger;
@@ -42,12 +45,15 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    // BindException also covers MethodArgumentNotValidException and query parameters bound to an object
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<Map<String, Object>> handleValidationExceptions(BindException ex) {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
+            String errorMessage = ((FieldError) error).isBindingFailure()
+                    ? "Invalid value: " + ((FieldError) error).getRejectedValue()
+                    : error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
         
@@ -109,6 +115,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "Invalid request");
+        response.put("message", "Invalid value for " + ex.getName() + ": " + ex.getValue());
+        response.put("timestamp", System.currentTimeMillis());
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(EmailNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleEmailNotFound(EmailNotFoundException ex) {
         Map<String, Object> body = new HashMap<>();
@@ -172,6 +188,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.PAYMENT_REQUIRED);
     }
 
+    @ExceptionHandler(PaymentGatewayUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handlePaymentGatewayUnavailable(PaymentGatewayUnavailableException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Payment Gateway Unavailable");
+        body.put("message", ex.getMessage());
+        body.put("timestamp", System.currentTimeMillis());
+        return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(EmailAlreadyRegisteredException.class)
     public ResponseEntity<Map<String, Object>> handleEmailAlreadyRegistered(EmailAlreadyRegisteredException ex) {
         Map<String, Object> body = new HashMap<>();
@@ -344,4 +369,13 @@ public class GlobalExceptionHandler {
         body.put("timestamp", System.currentTimeMillis());
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Conflict");
+        body.put("message", ex.getMessage());
+        body.put("timestamp", System.currentTimeMillis());
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
 } 
\ No newline at end of file
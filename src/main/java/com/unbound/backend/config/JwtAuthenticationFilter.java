@@ -29,11 +29,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
-        // Skip JWT processing for public endpoints
+        // Skip JWT processing for public endpoints. Explore is public too, but still reads an optional
+        // token so logged-in students get their registration status.
         String requestURI = request.getRequestURI();
         if (requestURI.startsWith("/api/auth/") || 
             requestURI.startsWith("/api/health/") || 
-            requestURI.startsWith("/api/explore/") ||
             requestURI.startsWith("/swagger-ui/") ||
             requestURI.startsWith("/v3/api-docs/") ||
             requestURI.startsWith("/uploads/") ||
@@ -64,6 +64,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/health/**").permitAll()
+                .requestMatchers("/api/payments/webhook").permitAll() // Verified by gateway signature
                 .requestMatchers("/api/explore/**").permitAll() // Public access for exploring
                 .requestMatchers("/api/users").permitAll() // Public access for debugging
                 .requestMatchers("/uploads/**").permitAll() // Public access to uploaded images
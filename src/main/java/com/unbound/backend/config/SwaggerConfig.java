@@ -3,10 +3,15 @@ package com.unbound.backend.config;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import org.springframework.context.annotation.Bean;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class SwaggerConfig {
+    static {
+        // Resolved from the security context, not a request parameter
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentProfile.class);
+    }
     
     @Bean
     public OpenAPI customOpenAPI() {
@@ -1,8 +1,13 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.dto.CollegeSummary;
+import com.unbound.backend.dto.EventSummary;
+import com.unbound.backend.dto.FestSummary;
+import com.unbound.backend.dto.FieldSelection;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +24,11 @@ import java.util.stream.Collectors;
 import com.unbound.backend.exception.ForbiddenActionException;
 import com.unbound.backend.exception.FestNotFoundException;
 import com.unbound.backend.exception.EventNotFoundException;
+import com.unbound.backend.service.CatalogChangedEvent;
+import com.unbound.backend.service.CollegePaymentDigestProcessor;
+import com.unbound.backend.service.EventCatalog;
+import com.unbound.backend.service.PaymentReconciler;
+import com.unbound.backend.service.PlatformCounters;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -35,39 +45,49 @@ public class AdminController {
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private PaymentRepository paymentRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformCounters platformCounters;
+    @Autowired
+    private EventCatalog eventCatalog;
+    @Autowired
+    private PaymentReconciler paymentReconciler;
+    @Autowired
+    private CollegePaymentDigestProcessor collegePaymentDigestProcessor;
 
     @GetMapping("/fests/pending")
-    @Operation(summary = "Get pending fests for approval", description = "Retrieves a list of fests that are pending approval.")
+    @Operation(summary = "Get pending fests for approval", description = "Retrieves a list of fests that are pending approval. Use ?fields= to pick FestSummary columns.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved pending fests"),
         @ApiResponse(responseCode = "403", description = "Forbidden: Only admins can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "No pending fests found")
     })
-    public ResponseEntity<?> getPendingFests(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getPendingFests(@AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated fields to return") @RequestParam(required = false) String fields) {
         if (user == null || user.getRole() != User.Role.Admin) {
             throw new ForbiddenActionException("Only admins can access this endpoint");
         }
-        List<Fest> pendingFests = festRepository.findAll().stream()
-                .filter(fest -> !fest.isApproved() && fest.isActive())
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(pendingFests);
+        FieldSelection selection = FieldSelection.parse(fields, FestSummary.class);
+        List<FestSummary> pendingFests = festRepository.findPendingSummaries();
+        return ResponseEntity.ok(selection.apply(pendingFests));
     }
 
     @GetMapping("/events/pending")
-    @Operation(summary = "Get pending events for approval", description = "Retrieves a list of events that are pending approval.")
+    @Operation(summary = "Get pending events for approval", description = "Retrieves a list of events that are pending approval. Use ?fields= to pick EventSummary columns.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved pending events"),
         @ApiResponse(responseCode = "403", description = "Forbidden: Only admins can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "No pending events found")
     })
-    public ResponseEntity<?> getPendingEvents(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getPendingEvents(@AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated fields to return") @RequestParam(required = false) String fields) {
         if (user == null || user.getRole() != User.Role.Admin) {
             throw new ForbiddenActionException("Only admins can access this endpoint");
         }
-        List<Event> pendingEvents = eventRepository.findAll().stream()
-                .filter(event -> !event.isApproved() && event.isActive())
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(pendingEvents);
+        FieldSelection selection = FieldSelection.parse(fields, EventSummary.class);
+        List<EventSummary> pendingEvents = eventRepository.findPendingSummaries();
+        return ResponseEntity.ok(selection.apply(pendingEvents));
     }
 
     @PostMapping("/fests/{festId}/approve")
@@ -87,6 +107,7 @@ public class AdminController {
         }
         fest.setApproved(true);
         festRepository.save(fest);
+        eventPublisher.publishEvent(CatalogChangedEvent.festSaved(festId));
         return ResponseEntity.ok(Map.of("message", "Fest approved successfully"));
     }
 
@@ -108,6 +129,7 @@ public class AdminController {
         String reason = request.getOrDefault("reason", "No reason provided");
         fest.setActive(false);
         festRepository.save(fest);
+        eventPublisher.publishEvent(CatalogChangedEvent.festSaved(festId));
         return ResponseEntity.ok(Map.of("message", "Fest rejected successfully", "reason", reason));
     }
 
@@ -128,6 +150,7 @@ public class AdminController {
         }
         event.setApproved(true);
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.eventSaved(eventId));
         return ResponseEntity.ok(Map.of("message", "Event approved successfully"));
     }
 
@@ -149,6 +172,7 @@ public class AdminController {
         String reason = request.getOrDefault("reason", "No reason provided");
         event.setActive(false);
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.eventSaved(eventId));
         return ResponseEntity.ok(Map.of("message", "Event rejected successfully", "reason", reason));
     }
 
@@ -163,42 +187,57 @@ public class AdminController {
             throw new ForbiddenActionException("Only admins can access this endpoint");
         }
         
-        long totalColleges = collegeRepository.count();
-        long totalFests = festRepository.count();
-        long totalEvents = eventRepository.count();
-        long totalRegistrations = eventRegistrationRepository.count();
-        long totalPayments = paymentRepository.count();
-        
-        long pendingFests = festRepository.findAll().stream()
-                .filter(fest -> !fest.isApproved() && fest.isActive())
-                .count();
-        
-        long pendingEvents = eventRepository.findAll().stream()
-                .filter(event -> !event.isApproved() && event.isActive())
-                .count();
-        
         return ResponseEntity.ok(Map.of(
-            "totalColleges", totalColleges,
-            "totalFests", totalFests,
-            "totalEvents", totalEvents,
-            "totalRegistrations", totalRegistrations,
-            "totalPayments", totalPayments,
-            "pendingFests", pendingFests,
-            "pendingEvents", pendingEvents
+            "totalColleges", platformCounters.colleges(),
+            "totalFests", platformCounters.totalFests(),
+            "totalEvents", platformCounters.totalEvents(),
+            "totalRegistrations", platformCounters.registrations(),
+            "totalPayments", platformCounters.payments(),
+            "pendingFests", platformCounters.pendingFests(),
+            "pendingEvents", platformCounters.pendingEvents(),
+            "eventCatalog", eventCatalog.stats()
         ));
     }
 
+    @GetMapping("/payments/reconciliation")
+    @Operation(summary = "Get payment reconciliation metrics", description = "Pending payments checked against the gateway and how many were found paid or failed, since startup and for the last run on this instance.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved reconciliation metrics"),
+        @ApiResponse(responseCode = "403", description = "Forbidden: Only admins can access this endpoint")
+    })
+    public ResponseEntity<?> getPaymentReconciliation(@AuthenticationPrincipal User user) {
+        if (user == null || user.getRole() != User.Role.Admin) {
+            throw new ForbiddenActionException("Only admins can access this endpoint");
+        }
+        return ResponseEntity.ok(paymentReconciler.stats());
+    }
+
+    @GetMapping("/payments/college-digests")
+    @Operation(summary = "Get college payment digest metrics", description = "Payment notifications waiting for a college digest, and digests sent since startup on this instance.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved digest metrics"),
+        @ApiResponse(responseCode = "403", description = "Forbidden: Only admins can access this endpoint")
+    })
+    public ResponseEntity<?> getCollegePaymentDigests(@AuthenticationPrincipal User user) {
+        if (user == null || user.getRole() != User.Role.Admin) {
+            throw new ForbiddenActionException("Only admins can access this endpoint");
+        }
+        return ResponseEntity.ok(collegePaymentDigestProcessor.stats());
+    }
+
     @GetMapping("/colleges")
-    @Operation(summary = "Get all colleges", description = "Retrieves a list of all colleges.")
+    @Operation(summary = "Get all colleges", description = "Retrieves a list of all colleges. Use ?fields= to pick CollegeSummary columns.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved all colleges"),
         @ApiResponse(responseCode = "403", description = "Forbidden: Only admins can access this endpoint")
     })
-    public ResponseEntity<?> getAllColleges(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getAllColleges(@AuthenticationPrincipal User user,
+            @Parameter(description = "Comma-separated fields to return") @RequestParam(required = false) String fields) {
         if (user == null || user.getRole() != User.Role.Admin) {
             throw new ForbiddenActionException("Only admins can access this endpoint");
         }
-        List<College> colleges = collegeRepository.findAll();
-        return ResponseEntity.ok(colleges);
+        FieldSelection selection = FieldSelection.parse(fields, CollegeSummary.class);
+        List<CollegeSummary> colleges = collegeRepository.findAllSummaries();
+        return ResponseEntity.ok(selection.apply(colleges));
     }
 } 
\ No newline at end of file
@@ -1,12 +1,19 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.config.CurrentProfile;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import com.unbound.backend.service.CollegeDashboardService;
+import com.unbound.backend.service.PaymentService;
+import com.unbound.backend.service.RegistrationImportService;
+import com.unbound.backend.service.RevenueLedgerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +22,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -28,12 +39,8 @@ import org.slf4j.LoggerFactory;
 public class CollegeDashboardController {
     private static final Logger logger = LoggerFactory.getLogger(CollegeDashboardController.class);
     @Autowired
-    private CollegeRepository collegeRepository;
-    @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private PaymentRepository paymentRepository;
-    @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private FestRepository festRepository;
@@ -41,13 +48,10 @@ public class CollegeDashboardController {
     private EventReviewRepository eventReviewRepository;
     @Autowired
     private CollegeDashboardService collegeDashboardService;
-
-    private College getCollegeForUser(User user) {
-        if (user == null || user.getUid() == null) {
-            return null;
-        }
-        return collegeRepository.findByUserUid(user.getUid()).orElse(null);
-    }
+    @Autowired
+    private RegistrationImportService registrationImportService;
+    @Autowired
+    private RevenueLedgerService revenueLedgerService;
 
     @GetMapping("/earnings")
     @Operation(summary = "Get total earnings for a college", description = "Retrieves the total earnings for a college based on paid registrations.")
@@ -56,29 +60,24 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
             @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> getTotalEarnings(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getTotalEarnings(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         logger.info("[GET] /api/college/dashboard/earnings called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         List<Event> events = eventRepository.findByCollege(college);
-        List<Payment> payments = events.stream()
-                .flatMap(e -> paymentRepository.findAll().stream()
-                        .filter(p -> p.getEventRegistration().getEvent().getEid().equals(e.getEid()) && "paid".equalsIgnoreCase(p.getStatus())))
-                .collect(Collectors.toList());
-        int totalEarnings = payments.stream().mapToInt(Payment::getAmount).sum();
+        long totalEarnings = revenueLedgerService.collegeTotal(college.getCid(), PaymentService.DEFAULT_CURRENCY);
+        Map<Long, Long> earningsByEvent = revenueLedgerService.totalsBy(college.getCid(), RevenueTotal.Scope.EVENT, PaymentService.DEFAULT_CURRENCY);
         Map<String, Object> breakdown = new HashMap<>();
         for (Event event : events) {
-            int eventEarnings = payments.stream()
-                    .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()))
-                    .mapToInt(Payment::getAmount).sum();
-            breakdown.put(event.getEname(), eventEarnings);
+            breakdown.put(event.getEname(), earningsByEvent.getOrDefault(event.getEid(), 0L));
         }
         logger.info("Total earnings calculated for college: {} (uid={})", college != null ? college.getCname() : "null", user != null ? user.getUid() : null);
         return ResponseEntity.ok(Map.of(
                 "totalEarnings", totalEarnings,
+                "currency", PaymentService.DEFAULT_CURRENCY,
+                "totalsByCurrency", revenueLedgerService.collegeTotals(college.getCid()),
                 "breakdown", breakdown
         ));
     }
@@ -90,11 +89,10 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
             @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> getRegistrationStats(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getRegistrationStats(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         List<Event> events = eventRepository.findByCollege(college);
         List<EventRegistration> allRegs = events.stream()
@@ -129,28 +127,18 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
             @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> getStatsByFest(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getStatsByFest(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         List<Fest> fests = festRepository.findByCollege(college);
+        Map<Long, Long> earningsByFest = revenueLedgerService.totalsBy(college.getCid(), RevenueTotal.Scope.FEST, PaymentService.DEFAULT_CURRENCY);
         Map<String, Object> festStats = new HashMap<>();
         for (Fest fest : fests) {
-            List<Event> festEvents = eventRepository.findByFest(fest);
-            int festRegistrations = 0;
-            int festEarnings = 0;
-            for (Event event : festEvents) {
-                List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
-                festRegistrations += regs.size();
-                festEarnings += paymentRepository.findAll().stream()
-                        .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()) && "paid".equalsIgnoreCase(p.getStatus()))
-                        .mapToInt(Payment::getAmount).sum();
-            }
             festStats.put(fest.getFname(), Map.of(
-                "registrations", festRegistrations,
-                "earnings", festEarnings
+                "registrations", eventRegistrationRepository.countByEventFestFid(fest.getFid()),
+                "earnings", earningsByFest.getOrDefault(fest.getFid(), 0L)
             ));
         }
         return ResponseEntity.ok(festStats);
@@ -163,24 +151,22 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
             @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> getStatsByDate(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getStatsByDate(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         List<Event> events = eventRepository.findByCollege(college);
+        Map<Long, Long> earningsByEvent = revenueLedgerService.totalsBy(college.getCid(), RevenueTotal.Scope.EVENT, PaymentService.DEFAULT_CURRENCY);
         Map<String, Map<String, Object>> dateStats = new HashMap<>();
         for (Event event : events) {
-            String date = event.getEventDate();
+            String date = event.getEventDate().toString();
             dateStats.putIfAbsent(date, new HashMap<>());
             Map<String, Object> stats = dateStats.get(date);
-            int regCount = eventRegistrationRepository.findByEvent(event).size();
-            int earnings = paymentRepository.findAll().stream()
-                    .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()) && "paid".equalsIgnoreCase(p.getStatus()))
-                    .mapToInt(Payment::getAmount).sum();
-            stats.put("registrations", ((int) stats.getOrDefault("registrations", 0)) + regCount);
-            stats.put("earnings", ((int) stats.getOrDefault("earnings", 0)) + earnings);
+            long regCount = eventRegistrationRepository.countByEventEid(event.getEid());
+            long earnings = earningsByEvent.getOrDefault(event.getEid(), 0L);
+            stats.put("registrations", ((long) stats.getOrDefault("registrations", 0L)) + regCount);
+            stats.put("earnings", ((long) stats.getOrDefault("earnings", 0L)) + earnings);
         }
         return ResponseEntity.ok(dateStats);
     }
@@ -192,19 +178,17 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
             @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> getTopEvents(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getTopEvents(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         List<Event> events = eventRepository.findByCollege(college);
+        Map<Long, Long> earningsByEvent = revenueLedgerService.totalsBy(college.getCid(), RevenueTotal.Scope.EVENT, PaymentService.DEFAULT_CURRENCY);
         List<Map<String, Object>> eventStats = new ArrayList<>();
         for (Event event : events) {
-            int regCount = eventRegistrationRepository.findByEvent(event).size();
-            int earnings = paymentRepository.findAll().stream()
-                    .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()) && "paid".equalsIgnoreCase(p.getStatus()))
-                    .mapToInt(Payment::getAmount).sum();
+            long regCount = eventRegistrationRepository.countByEventEid(event.getEid());
+            long earnings = earningsByEvent.getOrDefault(event.getEid(), 0L);
             eventStats.add(Map.of(
                 "eventName", event.getEname(),
                 "registrations", regCount,
@@ -213,12 +197,12 @@ public class CollegeDashboardController {
         }
         // Top 5 by registrations
         List<Map<String, Object>> topByRegistrations = eventStats.stream()
-                .sorted((a, b) -> Integer.compare((int) b.get("registrations"), (int) a.get("registrations")))
+                .sorted((a, b) -> Long.compare((long) b.get("registrations"), (long) a.get("registrations")))
                 .limit(5)
                 .collect(Collectors.toList());
         // Top 5 by earnings
         List<Map<String, Object>> topByEarnings = eventStats.stream()
-                .sorted((a, b) -> Integer.compare((int) b.get("earnings"), (int) a.get("earnings")))
+                .sorted((a, b) -> Long.compare((long) b.get("earnings"), (long) a.get("earnings")))
                 .limit(5)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(Map.of(
@@ -227,6 +211,41 @@ public class CollegeDashboardController {
         ));
     }
 
+    @GetMapping("/analytics/by-day")
+    @Operation(summary = "Get daily earnings for a college", description = "Retrieves earnings and paid payment counts per day in one currency (default: INR) over a date range (default: the last 30 days). Days without payments are omitted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Daily earnings retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+            @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
+            @ApiResponse(responseCode = "404", description = "College not found")
+    })
+    public ResponseEntity<?> getEarningsByDay(@AuthenticationPrincipal User user, @CurrentProfile College college,
+            @Parameter(description = "First day, inclusive (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Currency code, e.g. INR") @RequestParam(defaultValue = PaymentService.DEFAULT_CURRENCY) String currency) {
+        if (user == null || user.getRole() != User.Role.College) {
+            return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
+        }
+        if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "'from' must not be after 'to'"));
+        }
+        if (currency.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "'currency' must not be blank"));
+        }
+        List<Map<String, Object>> days = revenueLedgerService.dailyTotals(college.getCid(), currency, start, end).stream()
+                .map(t -> Map.<String, Object>of(
+                    "date", LocalDate.ofEpochDay(t.getRefId()).toString(),
+                    "earnings", t.getAmount(),
+                    "payments", t.getPayments()
+                ))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(Map.of("from", start.toString(), "to", end.toString(),
+                "currency", currency.trim().toUpperCase(Locale.ROOT), "days", days));
+    }
+
     @GetMapping("/college/dashboard/events/{eventId}/registrations")
     @Operation(summary = "Get registrations for a specific event", description = "Retrieves all registrations for a specific event.")
     @ApiResponses(value = {
@@ -234,11 +253,10 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can view event registrations"),
             @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> getEventRegistrations(@AuthenticationPrincipal User user, @PathVariable("eventId") Long eventId) {
+    public ResponseEntity<?> getEventRegistrations(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable("eventId") Long eventId) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can view event registrations"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
@@ -288,11 +306,10 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can approve certificates"),
             @ApiResponse(responseCode = "404", description = "Registration not found for this event or not owned by this college")
     })
-    public ResponseEntity<?> approveCertificate(@AuthenticationPrincipal User user, @PathVariable("eventId") Long eventId, @PathVariable("registrationId") Long registrationId) {
+    public ResponseEntity<?> approveCertificate(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable("eventId") Long eventId, @PathVariable("registrationId") Long registrationId) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can approve certificates"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
@@ -315,11 +332,10 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can approve certificates"),
             @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> approveAllCertificates(@AuthenticationPrincipal User user, @PathVariable("eventId") Long eventId) {
+    public ResponseEntity<?> approveAllCertificates(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable("eventId") Long eventId) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can approve certificates"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
@@ -340,11 +356,10 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can approve certificates"),
             @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> approveCertificatesForList(@AuthenticationPrincipal User user, @PathVariable("eventId") Long eventId, @RequestBody Map<String, List<Long>> req) {
+    public ResponseEntity<?> approveCertificatesForList(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable("eventId") Long eventId, @RequestBody Map<String, List<Long>> req) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can approve certificates"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
@@ -364,6 +379,32 @@ public class CollegeDashboardController {
         return ResponseEntity.ok(Map.of("message", "Certificates approved for " + approved + " registrations in eventId " + eventId));
     }
 
+    @PostMapping(value = "/college/dashboard/events/{eventId}/registrations/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk import registrations from CSV", description = "Registers students for an event from a CSV file whose header has a studentId and/or email column. Returns a result for every row.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed; see the per-row report"),
+            @ApiResponse(responseCode = "400", description = "Missing file or unrecognised CSV header"),
+            @ApiResponse(responseCode = "403", description = "Only colleges can import registrations"),
+            @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
+    })
+    public ResponseEntity<?> importRegistrations(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable("eventId") Long eventId,
+                                                 @Parameter(description = "CSV file") @RequestParam("file") MultipartFile file) throws IOException {
+        if (user == null || user.getRole() != User.Role.College) {
+            return ResponseEntity.status(403).body(Map.of("error", "Only colleges can import registrations"));
+        }
+        if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
+            return ResponseEntity.status(404).body(Map.of("error", "Event not found or not owned by this college"));
+        }
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(registrationImportService.importCsv(event, reader));
+        }
+    }
+
     @GetMapping("/events")
     @Operation(summary = "Get all events for a college", description = "Retrieves all events associated with a college.")
     @ApiResponses(value = {
@@ -371,11 +412,10 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
             @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> getAllCollegeEvents(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getAllCollegeEvents(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         return ResponseEntity.ok(collegeDashboardService.getAllCollegeEvents(college));
     }
@@ -387,11 +427,10 @@ public class CollegeDashboardController {
             @ApiResponse(responseCode = "403", description = "Only colleges can access this endpoint"),
             @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> getCollegeDashboardStats(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getCollegeDashboardStats(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         return ResponseEntity.ok(collegeDashboardService.getCollegeDashboardStats(college));
     }
@@ -1,11 +1,14 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.config.CurrentProfile;
 import com.unbound.backend.dto.EventRequest;
 import com.unbound.backend.dto.EventResponse;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
+import com.unbound.backend.service.CatalogChangedEvent;
 import com.unbound.backend.service.FileStorageService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -41,19 +44,13 @@ public class EventController {
     @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private CollegeRepository collegeRepository;
-    @Autowired
     private FestRepository festRepository;
     @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private FileStorageService fileStorageService;
-
-    private College getCollegeForUser(User user) {
-        return collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
-    }
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     @GetMapping
     @Operation(summary = "List events for a college")
@@ -62,13 +59,12 @@ public class EventController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> listEvents(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> listEvents(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         logger.info("[GET] /api/events called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/events by user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.notFound().build();
@@ -78,7 +74,7 @@ public class EventController {
         
         List<EventResponse> responses = events.stream().map(event -> {
             int registrationCount = eventRegistrationRepository.findByEvent(event).size();
-            int daysLeft = (int) ChronoUnit.DAYS.between(LocalDate.now(), LocalDate.parse(event.getEventDate()));
+            int daysLeft = (int) ChronoUnit.DAYS.between(LocalDate.now(), event.getEventDate());
             
             return EventResponse.builder()
                     .eid(event.getEid())
@@ -111,6 +107,7 @@ public class EventController {
                     .requirements(event.getRequirements())
                     .registrationDeadline(event.getRegistrationDeadline())
                     .registrationOpen(event.isRegistrationOpen())
+                    .queuedRegistration(event.isQueuedRegistration())
                     .collegeName(college.getCname())
                     .collegeEmail(college.getUser().getEmail())
                     .festName(event.getFest() != null ? event.getFest().getFname() : null)
@@ -130,13 +127,12 @@ public class EventController {
         @ApiResponse(responseCode = "404", description = "College not found"),
         @ApiResponse(responseCode = "400", description = "Event name already exists for this college")
     })
-    public ResponseEntity<?> createEvent(@AuthenticationPrincipal User user, @Valid @RequestBody EventRequest eventRequest) {
+    public ResponseEntity<?> createEvent(@AuthenticationPrincipal User user, @CurrentProfile College college, @Valid @RequestBody EventRequest eventRequest) {
         logger.info("[POST] /api/events called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/events by user: {}", user != null ? user.getEmail() : "null");
             throw new ForbiddenActionException("Only colleges can access this endpoint");
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             throw new CollegeNotFoundException("College not found for this user.");
@@ -190,10 +186,12 @@ public class EventController {
                 .requirements(eventRequest.getRequirements())
                 .registrationDeadline(eventRequest.getRegistrationDeadline())
                 .registrationOpen(eventRequest.getRegistrationOpen())
+                .queuedRegistration(Boolean.TRUE.equals(eventRequest.getQueuedRegistration()))
                 .approved(false) // Needs admin approval
                 .active(true)
                 .build();
         Event saved = eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.eventSaved(saved.getEid()));
         logger.info("Event created: {} for college: {}", event.getEname(), college.getCname());
         
         EventResponse response = EventResponse.builder()
@@ -227,11 +225,12 @@ public class EventController {
                 .requirements(saved.getRequirements())
                 .registrationDeadline(saved.getRegistrationDeadline())
                 .registrationOpen(saved.isRegistrationOpen())
+                .queuedRegistration(saved.isQueuedRegistration())
                 .collegeName(college.getCname())
                 .collegeEmail(college.getUser().getEmail())
                 .festName(fest != null ? fest.getFname() : null)
                 .registrationCount(0)
-                .daysLeft((int) ChronoUnit.DAYS.between(LocalDate.now(), LocalDate.parse(saved.getEventDate())))
+                .daysLeft((int) ChronoUnit.DAYS.between(LocalDate.now(), saved.getEventDate()))
                 .build();
         
         return ResponseEntity.ok(response);
@@ -244,13 +243,12 @@ public class EventController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> updateEvent(@AuthenticationPrincipal User user, @PathVariable Long eid, @Valid @RequestBody EventRequest eventRequest) {
+    public ResponseEntity<?> updateEvent(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long eid, @Valid @RequestBody EventRequest eventRequest) {
         logger.info("[PUT] /api/events/{eid} called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/events/{eid} by user: {}", user != null ? user.getEmail() : "null");
             throw new ForbiddenActionException("Only colleges can access this endpoint");
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             throw new CollegeNotFoundException("College not found for this user.");
@@ -307,10 +305,14 @@ public class EventController {
         event.setRequirements(eventRequest.getRequirements());
         event.setRegistrationDeadline(eventRequest.getRegistrationDeadline());
         event.setRegistrationOpen(eventRequest.getRegistrationOpen());
+        if (eventRequest.getQueuedRegistration() != null) {
+            event.setQueuedRegistration(eventRequest.getQueuedRegistration());
+        }
         eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.eventSaved(event.getEid()));
         
         int registrationCount = eventRegistrationRepository.findByEvent(event).size();
-        int daysLeft = (int) ChronoUnit.DAYS.between(LocalDate.now(), LocalDate.parse(event.getEventDate()));
+        int daysLeft = (int) ChronoUnit.DAYS.between(LocalDate.now(), event.getEventDate());
         
         EventResponse response = EventResponse.builder()
                 .eid(event.getEid())
@@ -343,6 +345,7 @@ public class EventController {
                 .requirements(event.getRequirements())
                 .registrationDeadline(event.getRegistrationDeadline())
                 .registrationOpen(event.isRegistrationOpen())
+                .queuedRegistration(event.isQueuedRegistration())
                 .collegeName(college.getCname())
                 .collegeEmail(college.getUser().getEmail())
                 .festName(fest != null ? fest.getFname() : null)
@@ -360,13 +363,12 @@ public class EventController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> deleteEvent(@AuthenticationPrincipal User user, @PathVariable Long eid) {
+    public ResponseEntity<?> deleteEvent(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long eid) {
         logger.info("[DELETE] /api/events/{eid} called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/events/{eid} by user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.notFound().build();
@@ -377,6 +379,7 @@ public class EventController {
             return ResponseEntity.status(404).body(Map.of("error", "Event not found or not owned by this college"));
         }
         eventRepository.delete(event);
+        eventPublisher.publishEvent(CatalogChangedEvent.eventRemoved(eid));
         logger.info("Event deleted: {}", eid);
         return ResponseEntity.ok(Map.of("message", "Event deleted successfully"));
     }
@@ -388,7 +391,7 @@ public class EventController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can upload event posters"),
         @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> uploadEventPoster(@AuthenticationPrincipal User user, 
+    public ResponseEntity<?> uploadEventPoster(@AuthenticationPrincipal User user, @CurrentProfile College college, 
                                              @PathVariable Long eid, 
                                              @RequestParam("file") MultipartFile file) {
         logger.info("[POST] /api/events/{eid}/poster called by user: {}", user != null ? user.getEmail() : "null");
@@ -397,7 +400,6 @@ public class EventController {
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can upload event posters"));
         }
         
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.notFound().build();
@@ -447,13 +449,12 @@ public class EventController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can delete posters"),
         @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> deleteEventPoster(@AuthenticationPrincipal User user, @PathVariable Long eid) {
+    public ResponseEntity<?> deleteEventPoster(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long eid) {
         logger.info("[DELETE] /api/events/{eid}/poster called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/events/{eid}/poster by user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can delete posters"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.notFound().build();
@@ -477,13 +478,12 @@ public class EventController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can view audit logs"),
         @ApiResponse(responseCode = "404", description = "Event not found or not owned by this college")
     })
-    public ResponseEntity<?> getEventPosterAuditLogs(@AuthenticationPrincipal User user, @PathVariable Long eid) {
+    public ResponseEntity<?> getEventPosterAuditLogs(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long eid) {
         logger.info("[GET] /api/events/{eid}/poster/audit-logs called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/events/{eid}/poster/audit-logs by user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can view audit logs"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.notFound().build();
@@ -502,15 +502,7 @@ public class EventController {
         ));
     }
 
-    private boolean isDateWithinRange(String eventDate, String startDate, String endDate) {
-        try {
-            LocalDate event = LocalDate.parse(eventDate);
-            LocalDate start = LocalDate.parse(startDate);
-            LocalDate end = LocalDate.parse(endDate);
-            return !event.isBefore(start) && !event.isAfter(end);
-        } catch (Exception e) {
-            logger.error("Error parsing date range for event: {}", e.getMessage());
-            return false;
-        }
+    private boolean isDateWithinRange(LocalDate eventDate, LocalDate startDate, LocalDate endDate) {
+        return !eventDate.isBefore(startDate) && !eventDate.isAfter(endDate);
     }
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.config.CurrentProfile;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,33 +23,23 @@ public class EventReviewController {
     @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private StudentRepository studentRepository;
-    @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private EventReviewRepository eventReviewRepository;
-    @Autowired
-    private CollegeRepository collegeRepository;
 
-    private Student getStudentForUser(User user) {
-        return studentRepository.findAll().stream()
-                .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
-    }
 
     // Student submits a review (only after event is completed and registered)
     @PostMapping("/{eventId}/review")
-    public ResponseEntity<?> submitReview(@AuthenticationPrincipal User user, @PathVariable Long eventId, @RequestBody Map<String, Object> req) {
+    public ResponseEntity<?> submitReview(@AuthenticationPrincipal User user, @CurrentProfile Student student, @PathVariable Long eventId, @RequestBody Map<String, Object> req) {
         if (user == null || user.getRole() != User.Role.Student) {
             throw new ForbiddenActionException("Only students can submit reviews");
         }
-        Student student = getStudentForUser(user);
         if (student == null) throw new StudentNotFoundException("Student not found");
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null) throw new EventNotFoundException("Event not found");
         // Check event is completed
         LocalDate today = LocalDate.now();
-        LocalDate eventDate = LocalDate.parse(event.getEventDate());
+        LocalDate eventDate = event.getEventDate();
         if (today.isBefore(eventDate)) {
             throw new RegistrationClosedException("You can only review after the event is completed");
         }
@@ -79,11 +70,10 @@ public class EventReviewController {
 
     // Student views their review for an event
     @GetMapping("/{eventId}/review")
-    public ResponseEntity<?> getMyReview(@AuthenticationPrincipal User user, @PathVariable Long eventId) {
+    public ResponseEntity<?> getMyReview(@AuthenticationPrincipal User user, @CurrentProfile Student student, @PathVariable Long eventId) {
         if (user == null || user.getRole() != User.Role.Student) {
             return ResponseEntity.status(403).body(Map.of("error", "Only students can view their review"));
         }
-        Student student = getStudentForUser(user);
         if (student == null) return ResponseEntity.status(404).body(Map.of("error", "Student not found"));
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null) return ResponseEntity.status(404).body(Map.of("error", "Event not found"));
@@ -94,13 +84,10 @@ public class EventReviewController {
 
     // College views all reviews for an event
     @GetMapping("/{eventId}/reviews")
-    public ResponseEntity<?> getEventReviews(@AuthenticationPrincipal User user, @PathVariable Long eventId) {
+    public ResponseEntity<?> getEventReviews(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long eventId) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can view reviews"));
         }
-        College college = collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
@@ -6,7 +6,6 @@ import com.unbound.backend.repository.EventRepository;
 import com.unbound.backend.repository.FestRepository;
 import com.unbound.backend.repository.EventRegistrationRepository;
 import com.unbound.backend.exception.EventNotFoundException;
-import com.unbound.backend.exception.ForbiddenActionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -36,28 +35,20 @@ public class EventStatsController {
     @Operation(summary = "Get event statistics", description = "Retrieves statistics for a specific event. This is a public endpoint that does not require authentication.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Event statistics retrieved successfully"),
-            @ApiResponse(responseCode = "404", description = "Event not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid event date format")
+            @ApiResponse(responseCode = "404", description = "Event not found")
     })
     public ResponseEntity<?> getEventStats(@PathVariable("eventId") Long eventId) {
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null) throw new EventNotFoundException("Event not found");
         int registrationCount = eventRegistrationRepository.findByEvent(event).size();
-        String eventDate = event.getEventDate();
-        LocalDate today = LocalDate.now();
-        LocalDate eventDay;
-        try {
-            eventDay = LocalDate.parse(eventDate);
-        } catch (Exception e) {
-            throw new ForbiddenActionException("Invalid event date format");
-        }
+        LocalDate eventDate = event.getEventDate();
         // Registration deadline: use fest endDate if linked, else event date
-        String deadline = eventDay.toString();
+        LocalDate deadline = eventDate;
         if (event.getFest() != null) {
             Fest fest = event.getFest();
             deadline = fest.getEndDate();
         }
-        long daysLeft = ChronoUnit.DAYS.between(today, eventDay);
+        long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), eventDate);
         Map<String, Object> stats = new HashMap<>();
         stats.put("registrationCount", registrationCount);
         stats.put("daysLeft", daysLeft);
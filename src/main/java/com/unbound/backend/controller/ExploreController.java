@@ -1,11 +1,33 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.EventSummary;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.dto.FacetedPage;
+import com.unbound.backend.dto.FestSearchCriteria;
+import com.unbound.backend.dto.FestSummary;
+import com.unbound.backend.dto.FieldSelection;
+import com.unbound.backend.dto.SearchHit;
+import com.unbound.backend.dto.Suggestion;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
+import com.unbound.backend.service.EventCatalog;
+import com.unbound.backend.service.ExploreResponseCache;
+import com.unbound.backend.service.ExploreService;
+import com.unbound.backend.service.FacetService;
+import com.unbound.backend.service.PlatformCounters;
+import com.unbound.backend.service.SearchIndexService;
+import com.unbound.backend.service.SuggestService;
+import com.unbound.backend.service.TrendingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,106 +35,98 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/explore")
 @Tag(name = "Public Exploration APIs", description = "APIs for exploring fests and events (public access)")
 public class ExploreController {
+    private static final int STREAM_BATCH_SIZE = 200;
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
-    private FestRepository festRepository;
+    private ExploreService exploreService;
     @Autowired
-    private EventRepository eventRepository;
+    private SearchIndexService searchIndexService;
     @Autowired
-    private CollegeRepository collegeRepository;
+    private SuggestService suggestService;
     @Autowired
-    private EventRegistrationRepository eventRegistrationRepository;
+    private ExploreResponseCache exploreResponseCache;
+    @Autowired
+    private PlatformCounters platformCounters;
+    @Autowired
+    private FacetService facetService;
+    @Autowired
+    private TrendingService trendingService;
+    @Autowired
+    private EventCatalog eventCatalog;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @GetMapping("/fests")
-    @Operation(summary = "Explore Fests", description = "Retrieve a list of fests based on various filters.")
+    @Operation(summary = "Explore Fests", description = "Retrieve a page of fests based on various filters, ordered by start date. Pass the returned nextCursor to fetch the following page.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful retrieval of fests"),
+        @ApiResponse(responseCode = "304", description = "Not modified - cached copy matching If-None-Match is current"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or date"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - User not authenticated"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<?> exploreFests(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String college,
-            @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String state,
             @RequestParam(required = false) String mode,
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Comma-separated summary fields to return (id is always included)") @RequestParam(required = false) String fields,
             @AuthenticationPrincipal User user
     ) {
-        List<Fest> fests = festRepository.findAll().stream()
-                .filter(fest -> fest.isApproved() && fest.isActive())
-                .collect(Collectors.toList());
+        FestSearchCriteria criteria = FestSearchCriteria.builder()
+                .name(name)
+                .college(college)
+                .startDate(startDate)
+                .endDate(endDate)
+                .city(city)
+                .state(state)
+                .mode(mode)
+                .build();
+        FieldSelection selection = FieldSelection.parse(fields, FestSummary.class);
         
-        // Apply filters
-        if (name != null && !name.trim().isEmpty()) {
-            fests = fests.stream()
-                    .filter(f -> f.getFname().toLowerCase().contains(name.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (college != null && !college.trim().isEmpty()) {
-            fests = fests.stream()
-                    .filter(f -> f.getCollege().getCname().toLowerCase().contains(college.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (startDate != null && !startDate.trim().isEmpty()) {
-            fests = fests.stream()
-                    .filter(f -> f.getStartDate().compareTo(startDate) >= 0)
-                    .collect(Collectors.toList());
-        }
-        if (endDate != null && !endDate.trim().isEmpty()) {
-            fests = fests.stream()
-                    .filter(f -> f.getEndDate().compareTo(endDate) <= 0)
-                    .collect(Collectors.toList());
-        }
-        if (city != null && !city.trim().isEmpty()) {
-            fests = fests.stream()
-                    .filter(f -> f.getCity() != null && f.getCity().toLowerCase().contains(city.toLowerCase()))
-                    .collect(Collectors.toList());
+        // For public users, return basic fest info from the shared response cache
+        if (user == null) {
+            String key = "fests|" + criteria.cacheKey() + "|" + cursor + "|" + ExploreService.pageSize(limit) + "|" + selection.cacheKey();
+            return exploreResponseCache.respond(key, () -> {
+                Map<String, Object> response = festPageResponse(exploreService.findFests(criteria, cursor, limit), selection);
+                response.put("isAuthenticated", false);
+                response.put("message", "Public access - Login for additional features");
+                return response;
+            });
         }
-        if (state != null && !state.trim().isEmpty()) {
-            fests = fests.stream()
-                    .filter(f -> f.getState() != null && f.getState().toLowerCase().contains(state.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (mode != null && !mode.trim().isEmpty()) {
-            fests = fests.stream()
-                    .filter(f -> f.getMode() != null && f.getMode().toLowerCase().contains(mode.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        
-        // Sort by start date (upcoming first)
-        fests.sort(Comparator.comparing(Fest::getStartDate));
         
         // If user is authenticated, add additional info
-        if (user != null) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("fests", fests);
-            response.put("totalCount", fests.size());
-            response.put("userRole", user.getRole().name());
-            response.put("isAuthenticated", true);
-            return ResponseEntity.ok(response);
-        }
-        
-        // For public users, return basic fest info
-        return ResponseEntity.ok(Map.of(
-            "fests", fests,
-            "totalCount", fests.size(),
-            "isAuthenticated", false,
-            "message", "Public access - Login for additional features"
-        ));
+        Map<String, Object> response = festPageResponse(exploreService.findFests(criteria, cursor, limit), selection);
+        response.put("userRole", user.getRole().name());
+        response.put("isAuthenticated", true);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/events")
-    @Operation(summary = "Explore Events", description = "Retrieve a list of events based on various filters.")
+    @Operation(summary = "Explore Events", description = "Retrieve a page of events based on various filters, ordered by event date, or by recent registration velocity with sort=trending. Pass the returned nextCursor to fetch the following page.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful retrieval of events"),
+        @ApiResponse(responseCode = "304", description = "Not modified - cached copy matching If-None-Match is current"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, sort or date"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - User not authenticated"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
@@ -122,117 +136,203 @@ public class ExploreController {
             @RequestParam(required = false) String college,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String mode,
-            @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Integer minFee,
             @RequestParam(required = false) Integer maxFee,
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String state,
             @RequestParam(required = false) Boolean teamAllowed,
+            @Parameter(description = "'date' (default) or 'trending'") @RequestParam(required = false) String sort,
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Comma-separated summary fields to return (id is always included)") @RequestParam(required = false) String fields,
             @AuthenticationPrincipal User user
     ) {
-        List<Event> events = eventRepository.findAll().stream()
-                .filter(event -> event.isApproved() && event.isActive())
-                .collect(Collectors.toList());
+        EventSearchCriteria criteria = EventSearchCriteria.builder()
+                .name(name)
+                .fest(fest)
+                .college(college)
+                .category(category)
+                .mode(mode)
+                .startDate(startDate)
+                .endDate(endDate)
+                .minFee(minFee)
+                .maxFee(maxFee)
+                .city(city)
+                .state(state)
+                .teamAllowed(teamAllowed)
+                .build();
+        FieldSelection selection = FieldSelection.parse(fields, EventSummary.class);
+        boolean trending = isTrending(sort);
         
-        // Apply filters
-        if (name != null && !name.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getEname().toLowerCase().contains(name.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (fest != null && !fest.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getFest() != null && e.getFest().getFname().toLowerCase().contains(fest.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (college != null && !college.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getCollege().getCname().toLowerCase().contains(college.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (category != null && !category.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getCategory() != null && e.getCategory().toLowerCase().contains(category.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (mode != null && !mode.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getMode() != null && e.getMode().toLowerCase().contains(mode.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (startDate != null && !startDate.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getEventDate().compareTo(startDate) >= 0)
-                    .collect(Collectors.toList());
-        }
-        if (endDate != null && !endDate.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getEventDate().compareTo(endDate) <= 0)
-                    .collect(Collectors.toList());
-        }
-        if (minFee != null) {
-            events = events.stream()
-                    .filter(e -> e.getFees() >= minFee)
-                    .collect(Collectors.toList());
-        }
-        if (maxFee != null) {
-            events = events.stream()
-                    .filter(e -> e.getFees() <= maxFee)
-                    .collect(Collectors.toList());
-        }
-        if (city != null && !city.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getCity() != null && e.getCity().toLowerCase().contains(city.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (state != null && !state.trim().isEmpty()) {
-            events = events.stream()
-                    .filter(e -> e.getState() != null && e.getState().toLowerCase().contains(state.toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-        if (teamAllowed != null) {
-            events = events.stream()
-                    .filter(e -> e.getTeamIsAllowed().equals(teamAllowed))
-                    .collect(Collectors.toList());
+        // For public users, return basic event info from the shared response cache
+        if (user == null) {
+            String key = "events|" + criteria.cacheKey() + "|" + cursor + "|" + ExploreService.pageSize(limit) + "|" + selection.cacheKey() + "|" + trending;
+            return exploreResponseCache.respond(key, () -> {
+                Map<String, Object> response = eventPageResponse(findEvents(criteria, cursor, limit, trending), selection);
+                response.put("isAuthenticated", false);
+                response.put("message", "Public access - Login for additional features like registration");
+                return response;
+            });
         }
         
-        // Sort by event date (upcoming first)
-        events.sort(Comparator.comparing(Event::getEventDate));
+        ExplorePage<EventSummary> page = findEvents(criteria, cursor, limit, trending);
+        List<EventSummary> events = page.getItems();
+        Map<String, Object> response = eventPageResponse(page, selection);
         
         // If user is authenticated, add additional info
-        if (user != null) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("events", events);
-            response.put("totalCount", events.size());
-            response.put("userRole", user.getRole().name());
-            response.put("isAuthenticated", true);
-            
-            // Add registration status for students
-            if (user.getRole() == User.Role.Student) {
-                List<Map<String, Object>> eventsWithStatus = events.stream().map(event -> {
-                    Map<String, Object> eventMap = new HashMap<>();
-                    eventMap.put("event", event);
-                    
-                    // Check if student is registered
-                    boolean isRegistered = eventRegistrationRepository.findByEvent(event).stream()
-                            .anyMatch(reg -> reg.getStudent().getUser().getUid().equals(user.getUid()));
-                    eventMap.put("isRegistered", isRegistered);
-                    
-                    return eventMap;
-                }).collect(Collectors.toList());
-                response.put("eventsWithStatus", eventsWithStatus);
-            }
-            
-            return ResponseEntity.ok(response);
+        response.put("userRole", user.getRole().name());
+        response.put("isAuthenticated", true);
+        
+        // Add registration status for students, looked up in one query for the whole page
+        if (user.getRole() == User.Role.Student) {
+            Map<Long, EventRegistration> registrationsByEvent = events.isEmpty() ? Map.of()
+                    : eventRegistrationRepository.findByStudentUserUidAndEventEidIn(user.getUid(),
+                            events.stream().map(EventSummary::getEid).collect(Collectors.toSet()))
+                        .stream()
+                        .collect(Collectors.toMap(reg -> reg.getEvent().getEid(), reg -> reg, (a, b) -> a));
+            List<Map<String, Object>> eventsWithStatus = events.stream().map(event -> {
+                Map<String, Object> eventMap = new HashMap<>();
+                eventMap.put("event", selection.apply(event));
+                
+                EventRegistration reg = registrationsByEvent.get(event.getEid());
+                eventMap.put("isRegistered", reg != null);
+                if (reg != null) {
+                    eventMap.put("registrationId", reg.getRid());
+                    eventMap.put("registrationStatus", reg.getStatus());
+                    eventMap.put("paymentStatus", reg.getPaymentStatus());
+                    eventMap.put("teamId", reg.getTeam() != null ? reg.getTeam().getTid() : null);
+                    eventMap.put("teamName", reg.getTeam() != null ? reg.getTeam().getTname() : null);
+                }
+                
+                return eventMap;
+            }).collect(Collectors.toList());
+            response.put("eventsWithStatus", eventsWithStatus);
         }
         
-        // For public users, return basic event info
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream Events", description = "With Accept: application/x-ndjson, streams every event matching the filters as one EventSummary JSON object per line. Rows are read in keyset batches and flushed as they arrive, so memory stays flat for any catalog size.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream"),
+        @ApiResponse(responseCode = "400", description = "Unknown field requested")
+    })
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @ParameterObject EventSearchCriteria criteria,
+            @Parameter(description = "Comma-separated summary fields to return (id is always included)") @RequestParam(required = false) String fields
+    ) {
+        return ndjson(fields, EventSummary.class, selection -> out -> exploreService.forEachEventBatch(criteria, STREAM_BATCH_SIZE,
+                batch -> writeLines(out, selection.apply(summaries(batch, EventSummary::of)))));
+    }
+
+    @GetMapping(value = "/fests", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream Fests", description = "With Accept: application/x-ndjson, streams every fest matching the filters as one FestSummary JSON object per line.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Fest stream"),
+        @ApiResponse(responseCode = "400", description = "Unknown field requested")
+    })
+    public ResponseEntity<StreamingResponseBody> streamFests(
+            @ParameterObject FestSearchCriteria criteria,
+            @Parameter(description = "Comma-separated summary fields to return (id is always included)") @RequestParam(required = false) String fields
+    ) {
+        return ndjson(fields, FestSummary.class, selection -> out -> exploreService.forEachFestBatch(criteria, STREAM_BATCH_SIZE,
+                batch -> writeLines(out, selection.apply(summaries(batch, FestSummary::of)))));
+    }
+
+    @GetMapping("/events/faceted")
+    @Operation(summary = "Faceted Event Explore", description = "Page of events matching the selected facet values plus per-value counts for category, mode, city, state and fee (free, 1-100, 101-500, 501-1000, 1000+). Repeat a parameter or comma-separate values to OR them.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful retrieval of events and facet counts"),
+        @ApiResponse(responseCode = "304", description = "Not modified - cached copy matching If-None-Match is current"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
+    public ResponseEntity<?> exploreEventsFaceted(
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) List<String> mode,
+            @RequestParam(required = false) List<String> city,
+            @RequestParam(required = false) List<String> state,
+            @RequestParam(required = false) List<String> fee,
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Comma-separated summary fields to return (id is always included)") @RequestParam(required = false) String fields
+    ) {
+        Map<String, Set<String>> filters = facetFilters(Map.of(
+                "category", orEmpty(category), "mode", orEmpty(mode), "city", orEmpty(city),
+                "state", orEmpty(state), "fee", orEmpty(fee)));
+        FieldSelection selection = FieldSelection.parse(fields, EventSummary.class);
+        String key = "events-faceted|" + filters + "|" + cursor + "|" + ExploreService.pageSize(limit) + "|" + selection.cacheKey();
+        return exploreResponseCache.respond(key, () -> {
+            FacetedPage<Event> page = facetService.findEvents(filters, cursor, limit);
+            return facetedResponse("events", page, selection.apply(summaries(page.getItems(), EventSummary::of)));
+        });
+    }
+
+    @GetMapping("/fests/faceted")
+    @Operation(summary = "Faceted Fest Explore", description = "Page of fests matching the selected facet values plus per-value counts for mode, city and state. Repeat a parameter or comma-separate values to OR them.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful retrieval of fests and facet counts"),
+        @ApiResponse(responseCode = "304", description = "Not modified - cached copy matching If-None-Match is current"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
+    public ResponseEntity<?> exploreFestsFaceted(
+            @RequestParam(required = false) List<String> mode,
+            @RequestParam(required = false) List<String> city,
+            @RequestParam(required = false) List<String> state,
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Comma-separated summary fields to return (id is always included)") @RequestParam(required = false) String fields
+    ) {
+        Map<String, Set<String>> filters = facetFilters(Map.of(
+                "mode", orEmpty(mode), "city", orEmpty(city), "state", orEmpty(state)));
+        FieldSelection selection = FieldSelection.parse(fields, FestSummary.class);
+        String key = "fests-faceted|" + filters + "|" + cursor + "|" + ExploreService.pageSize(limit) + "|" + selection.cacheKey();
+        return exploreResponseCache.respond(key, () -> {
+            FacetedPage<Fest> page = facetService.findFests(filters, cursor, limit);
+            return facetedResponse("fests", page, selection.apply(summaries(page.getItems(), FestSummary::of)));
+        });
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search Events and Fests", description = "Full-text, relevance-ranked search over approved events and fests with highlighted matches.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful search"),
+        @ApiResponse(responseCode = "400", description = "Missing query, invalid type or limit"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> search(
+            @Parameter(description = "Search text") @RequestParam String q,
+            @Parameter(description = "Restrict to 'event' or 'fest'") @RequestParam(required = false) String type,
+            @Parameter(description = "Maximum results (default 20, max 100)") @RequestParam(required = false) Integer limit
+    ) {
+        long started = System.currentTimeMillis();
+        List<SearchHit> results = searchIndexService.search(q, type, ExploreService.pageSize(limit));
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("query", q);
+        response.put("results", results);
+        response.put("count", results.size());
+        response.put("tookMs", System.currentTimeMillis() - started);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Autocomplete Suggestions", description = "Prefix suggestions for event, fest and college names, cities and categories, ranked by popularity. Served from memory.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful retrieval of suggestions"),
+        @ApiResponse(responseCode = "400", description = "Missing prefix or invalid limit")
+    })
+    public ResponseEntity<?> suggest(
+            @Parameter(description = "Prefix typed so far") @RequestParam String q,
+            @Parameter(description = "Maximum suggestions (default and max 10)") @RequestParam(required = false) Integer limit
+    ) {
+        List<Suggestion> suggestions = suggestService.suggest(q, limit);
         return ResponseEntity.ok(Map.of(
-            "events", events,
-            "totalCount", events.size(),
-            "isAuthenticated", false,
-            "message", "Public access - Login for additional features like registration"
+            "query", q,
+            "suggestions", suggestions,
+            "count", suggestions.size()
         ));
     }
 
@@ -243,21 +343,110 @@ public class ExploreController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<?> getExploreStats() {
-        long totalFests = festRepository.findAll().stream()
-                .filter(fest -> fest.isApproved() && fest.isActive())
-                .count();
-        
-        long totalEvents = eventRepository.findAll().stream()
-                .filter(event -> event.isApproved() && event.isActive())
-                .count();
-        
-        long totalColleges = collegeRepository.count();
-        
         return ResponseEntity.ok(Map.of(
-            "totalFests", totalFests,
-            "totalEvents", totalEvents,
-            "totalColleges", totalColleges,
+            "totalFests", platformCounters.publicFests(),
+            "totalEvents", platformCounters.publicEvents(),
+            "totalColleges", platformCounters.colleges(),
             "message", "Public statistics"
         ));
     }
+
+    private static Map<String, Object> facetedResponse(String itemsKey, FacetedPage<?> page, List<?> items) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(itemsKey, items);
+        response.put("count", items.size());
+        response.put("totalMatches", page.getTotalMatches());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasMore", page.isHasMore());
+        response.put("facets", page.getFacets());
+        return response;
+    }
+
+    // Sorted and lowercased so the map's toString doubles as a stable cache key.
+    private static Map<String, Set<String>> facetFilters(Map<String, List<String>> raw) {
+        Map<String, Set<String>> filters = new TreeMap<>();
+        raw.forEach((facet, values) -> {
+            Set<String> normalized = values.stream()
+                    .filter(v -> v != null && !v.isBlank())
+                    .map(v -> v.trim().toLowerCase())
+                    .collect(Collectors.toCollection(TreeSet::new));
+            if (!normalized.isEmpty()) {
+                filters.put(facet, normalized);
+            }
+        });
+        return filters;
+    }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static Map<String, Object> eventPageResponse(ExplorePage<EventSummary> page, FieldSelection selection) {
+        return pageResponse("events", page, selection.apply(page.getItems()));
+    }
+
+    private static Map<String, Object> festPageResponse(ExplorePage<Fest> page, FieldSelection selection) {
+        return pageResponse("fests", page, selection.apply(summaries(page.getItems(), FestSummary::of)));
+    }
+
+    // Date order is served from the in-memory catalog once it has loaded; SQL covers startup.
+    private ExplorePage<EventSummary> findEvents(EventSearchCriteria criteria, String cursor, Integer limit, boolean trending) {
+        if (!trending && eventCatalog.isLoaded()) {
+            return eventCatalog.findEvents(criteria, cursor, limit);
+        }
+        ExplorePage<Event> page = trending ? trendingService.findEvents(criteria, cursor, limit) : exploreService.findEvents(criteria, cursor, limit);
+        return new ExplorePage<>(summaries(page.getItems(), EventSummary::of), page.getNextCursor(), page.isHasMore());
+    }
+
+    private static boolean isTrending(String sort) {
+        if (sort == null || sort.isBlank() || sort.equalsIgnoreCase("date")) {
+            return false;
+        }
+        if (sort.equalsIgnoreCase("trending")) {
+            return true;
+        }
+        throw new IllegalArgumentException("sort must be 'date' or 'trending'");
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(String fields, Class<?> summaryType,
+            Function<FieldSelection, StreamingResponseBody> body) {
+        FieldSelection selection;
+        try {
+            selection = FieldSelection.parse(fields, summaryType);
+        } catch (IllegalArgumentException e) {
+            // The JSON exception handler can't answer an ndjson-only request, so the error goes out as a one-line stream.
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Invalid request");
+            error.put("message", e.getMessage());
+            error.put("timestamp", System.currentTimeMillis());
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_NDJSON).body(out -> writeLines(out, List.of(error)));
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body.apply(selection));
+    }
+
+    // One JSON document per line, flushed per batch so the client sees rows while later batches load.
+    private void writeLines(OutputStream out, List<?> items) {
+        try {
+            for (Object item : items) {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T, S> List<S> summaries(List<T> items, Function<T, S> mapper) {
+        return items.stream().map(mapper).collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> pageResponse(String itemsKey, ExplorePage<?> page, List<?> items) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(itemsKey, items);
+        response.put("count", items.size());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasMore", page.isHasMore());
+        return response;
+    }
 } 
\ No newline at end of file
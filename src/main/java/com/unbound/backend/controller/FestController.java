@@ -1,12 +1,15 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.config.CurrentProfile;
 import com.unbound.backend.dto.FestRequest;
 import com.unbound.backend.dto.FestResponse;
 import com.unbound.backend.dto.EventResponse;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
+import com.unbound.backend.service.CatalogChangedEvent;
 import com.unbound.backend.service.FileStorageService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -40,19 +43,13 @@ public class FestController {
     @Autowired
     private FestRepository festRepository;
     @Autowired
-    private CollegeRepository collegeRepository;
-    @Autowired
     private EventRepository eventRepository;
     @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private FileStorageService fileStorageService;
-
-    private College getCollegeForUser(User user) {
-        return collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
-    }
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     @GetMapping
     @Operation(summary = "List all fests for a college")
@@ -61,13 +58,12 @@ public class FestController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "College not found")
     })
-    public ResponseEntity<?> listFests(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> listFests(@AuthenticationPrincipal User user, @CurrentProfile College college) {
         logger.info("[GET] /api/fests called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/fests by user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can access this endpoint"));
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             return ResponseEntity.notFound().build();
@@ -115,13 +111,12 @@ public class FestController {
         @ApiResponse(responseCode = "404", description = "College not found"),
         @ApiResponse(responseCode = "400", description = "Fest name already exists for this college or invalid date range")
     })
-    public ResponseEntity<?> createFest(@AuthenticationPrincipal User user, @Valid @RequestBody FestRequest festRequest) {
+    public ResponseEntity<?> createFest(@AuthenticationPrincipal User user, @CurrentProfile College college, @Valid @RequestBody FestRequest festRequest) {
         logger.info("[POST] /api/fests called by user: {}", user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/fests by user: {}", user != null ? user.getEmail() : "null");
             throw new ForbiddenActionException("Only colleges can access this endpoint");
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             throw new CollegeNotFoundException("College not found for this user.");
@@ -156,6 +151,7 @@ public class FestController {
                 .active(true)
                 .build();
         Fest saved = festRepository.save(fest);
+        eventPublisher.publishEvent(CatalogChangedEvent.festSaved(saved.getFid()));
         logger.info("Fest created: {}", saved.getFname());
         
         FestResponse response = FestResponse.builder()
@@ -190,7 +186,7 @@ public class FestController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can upload fest images"),
         @ApiResponse(responseCode = "404", description = "Fest not found")
     })
-    public ResponseEntity<?> uploadFestImage(@AuthenticationPrincipal User user, 
+    public ResponseEntity<?> uploadFestImage(@AuthenticationPrincipal User user, @CurrentProfile College college, 
                                            @PathVariable Long fid, 
                                            @RequestParam("image") MultipartFile image) {
         logger.info("[POST] /api/fests/{}/image called by user: {}", fid, user != null ? user.getEmail() : "null");
@@ -205,7 +201,6 @@ public class FestController {
             return ResponseEntity.status(404).body(Map.of("error", "Fest not found"));
         }
         
-        College college = getCollegeForUser(user);
         if (college == null || !fest.getCollege().getCid().equals(college.getCid())) {
             logger.warn("Unauthorized access attempt to upload image for fest {} by user: {}", fid, user != null ? user.getEmail() : "null");
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: You can only upload images for your own fests"));
@@ -250,13 +245,12 @@ public class FestController {
         @ApiResponse(responseCode = "404", description = "Fest not found or not owned by this college"),
         @ApiResponse(responseCode = "400", description = "Fest name already exists for this college or invalid date range")
     })
-    public ResponseEntity<?> updateFest(@AuthenticationPrincipal User user, @PathVariable Long fid, @Valid @RequestBody FestRequest festRequest) {
+    public ResponseEntity<?> updateFest(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long fid, @Valid @RequestBody FestRequest festRequest) {
         logger.info("[PUT] /api/fests/{} called by user: {}", fid, user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/fests/{} by user: {}", fid, user != null ? user.getEmail() : "null");
             throw new ForbiddenActionException("Only colleges can access this endpoint");
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             throw new CollegeNotFoundException("College not found for this user.");
@@ -292,6 +286,7 @@ public class FestController {
         fest.setWebsite(festRequest.getWebsite());
         fest.setContactPhone(festRequest.getContactPhone());
         festRepository.save(fest);
+        eventPublisher.publishEvent(CatalogChangedEvent.festSaved(fest.getFid()));
         logger.info("Fest updated: {}", fest.getFname());
         
         int eventCount = eventRepository.findByFest(fest).size();
@@ -331,13 +326,12 @@ public class FestController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "Fest not found or not owned by this college")
     })
-    public ResponseEntity<?> deleteFest(@AuthenticationPrincipal User user, @PathVariable Long fid) {
+    public ResponseEntity<?> deleteFest(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long fid) {
         logger.info("[DELETE] /api/fests/{} called by user: {}", fid, user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/fests/{} by user: {}", fid, user != null ? user.getEmail() : "null");
             throw new ForbiddenActionException("Only colleges can access this endpoint");
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             throw new CollegeNotFoundException("College not found for this user.");
@@ -348,6 +342,7 @@ public class FestController {
             throw new FestNotFoundException("Fest not found or not owned by this college");
         }
         festRepository.delete(fest);
+        eventPublisher.publishEvent(CatalogChangedEvent.festRemoved(fid));
         logger.info("Fest deleted: {}", fest.getFname());
         return ResponseEntity.ok(Map.of("message", "Fest deleted successfully"));
     }
@@ -359,13 +354,12 @@ public class FestController {
         @ApiResponse(responseCode = "403", description = "Forbidden: Only colleges can access this endpoint"),
         @ApiResponse(responseCode = "404", description = "Fest not found or not owned by this college")
     })
-    public ResponseEntity<?> getFestEvents(@AuthenticationPrincipal User user, @PathVariable Long fid) {
+    public ResponseEntity<?> getFestEvents(@AuthenticationPrincipal User user, @CurrentProfile College college, @PathVariable Long fid) {
         logger.info("[GET] /api/fests/{}/events called by user: {}", fid, user != null ? user.getEmail() : "null");
         if (user == null || user.getRole() != User.Role.College) {
             logger.warn("Unauthorized access attempt to /api/fests/{}/events by user: {}", fid, user != null ? user.getEmail() : "null");
             throw new ForbiddenActionException("Only colleges can access this endpoint");
         }
-        College college = getCollegeForUser(user);
         if (college == null) {
             logger.error("College not found for user: {}", user != null ? user.getEmail() : "null");
             throw new CollegeNotFoundException("College not found for this user.");
@@ -383,7 +377,7 @@ public class FestController {
             int registrationCount = eventRegistrationRepository.findByEvent(event).size();
             int daysLeft = (int) java.time.temporal.ChronoUnit.DAYS.between(
                 java.time.LocalDate.now(), 
-                java.time.LocalDate.parse(event.getEventDate())
+                event.getEventDate()
             );
             return EventResponse.builder()
                 .eid(event.getEid())
@@ -416,6 +410,7 @@ public class FestController {
                 .requirements(event.getRequirements())
                 .registrationDeadline(event.getRegistrationDeadline())
                 .registrationOpen(event.isRegistrationOpen())
+                .queuedRegistration(event.isQueuedRegistration())
                 .collegeName(college.getCname())
                 .collegeEmail(college.getUser().getEmail())
                 .festName(fest.getFname())
@@ -427,7 +422,7 @@ public class FestController {
             int registrationCount = eventRegistrationRepository.findByEvent(event).size();
             int daysLeft = (int) java.time.temporal.ChronoUnit.DAYS.between(
                 java.time.LocalDate.now(), 
-                java.time.LocalDate.parse(event.getEventDate())
+                event.getEventDate()
             );
             return EventResponse.builder()
                 .eid(event.getEid())
@@ -460,6 +455,7 @@ public class FestController {
                 .requirements(event.getRequirements())
                 .registrationDeadline(event.getRegistrationDeadline())
                 .registrationOpen(event.isRegistrationOpen())
+                .queuedRegistration(event.isQueuedRegistration())
                 .collegeName(college.getCname())
                 .collegeEmail(college.getUser().getEmail())
                 .festName(null)
@@ -477,14 +473,7 @@ public class FestController {
         return ResponseEntity.ok(response);
     }
 
-    private boolean isValidDateRange(String start, String end) {
-        try {
-            LocalDate s = LocalDate.parse(start);
-            LocalDate e = LocalDate.parse(end);
-            return s.isBefore(e) || s.isEqual(e);
-        } catch (Exception ex) {
-            logger.error("Invalid date format for start date '{}' or end date '{}': {}", start, end, ex.getMessage());
-            throw new RuntimeException("Invalid date format for start date '" + start + "' or end date '" + end + "'.");
-        }
+    private boolean isValidDateRange(LocalDate start, LocalDate end) {
+        return !start.isAfter(end);
     }
 } 
\ No newline at end of file
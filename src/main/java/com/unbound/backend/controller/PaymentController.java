@@ -4,7 +4,9 @@ import com.razorpay.Order;
 import com.razorpay.RazorpayException;
 import com.unbound.backend.entity.EventRegistration;
 import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.service.IdempotencyService;
 import com.unbound.backend.service.PaymentService;
+import com.unbound.backend.service.PaymentWebhookService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,6 +26,10 @@ public class PaymentController {
     private PaymentService paymentService;
     @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private PaymentWebhookService paymentWebhookService;
 
     @GetMapping("/registrations")
     public ResponseEntity<?> getAllRegistrations() {
@@ -59,11 +65,17 @@ public class PaymentController {
     }
 
     @PostMapping("/create-order")
-    public ResponseEntity<?> createOrder(@AuthenticationPrincipal User user, @RequestBody Map<String, Object> req) {
+    public ResponseEntity<?> createOrder(@AuthenticationPrincipal User user, @RequestBody Map<String, Object> req,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("create-order", user != null ? user.getUid() : null, idempotencyKey, req,
+                () -> createOrder(req));
+    }
+
+    private ResponseEntity<?> createOrder(Map<String, Object> req) {
         try {
             Long registrationId = Long.valueOf((Integer) req.get("registrationId"));
             Integer amount = (Integer) req.get("amount");
-            String currency = (String) req.getOrDefault("currency", "INR");
+            String currency = (String) req.getOrDefault("currency", PaymentService.DEFAULT_CURRENCY);
             String receiptEmail = (String) req.get("receiptEmail");
             
             EventRegistration registration = eventRegistrationRepository.findById(registrationId).orElse(null);
@@ -90,7 +102,7 @@ public class PaymentController {
             }
             
             Order order = paymentService.createOrder(registration, amount, currency, receiptEmail);
-            return ResponseEntity.ok(Map.of("order", order.toJson()));
+            return ResponseEntity.ok(Map.of("order", order.toJson().toMap()));
         } catch (RazorpayException e) {
             throw new PaymentFailedException("Payment gateway error for registration ID " + req.get("registrationId") + ": " + e.getMessage());
         }
@@ -104,4 +116,16 @@ public class PaymentController {
         paymentService.updatePaymentStatus(razorpayOrderId, status, paymentId);
         return ResponseEntity.ok(Map.of("message", "Payment status updated"));
     }
+
+    // Called by Razorpay, not by users: authenticated by the signature over the raw body.
+    @PostMapping("/webhook")
+    public ResponseEntity<?> webhook(@RequestBody byte[] body,
+            @RequestHeader(value = PaymentWebhookService.SIGNATURE_HEADER, required = false) String signature,
+            @RequestHeader(value = PaymentWebhookService.EVENT_ID_HEADER, required = false) String eventId) {
+        if (!paymentWebhookService.isValidSignature(body, signature)) {
+            return ResponseEntity.status(401).body(Map.of("error", "Invalid signature"));
+        }
+        boolean recorded = paymentWebhookService.record(eventId, body);
+        return ResponseEntity.ok(Map.of("message", recorded ? "Event received" : "Duplicate event"));
+    }
 } 
\ No newline at end of file
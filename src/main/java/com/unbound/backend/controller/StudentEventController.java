@@ -1,16 +1,23 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.config.CurrentProfile;
 import com.unbound.backend.dto.EventRegistrationRequest;
 import com.unbound.backend.dto.RegistrationResponse;
+import com.unbound.backend.dto.TeamRegistrationRequest;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
-import com.unbound.backend.service.EmailService;
 import com.unbound.backend.service.StudentDashboardService;
 import com.unbound.backend.service.CertificateService;
+import com.unbound.backend.service.IdempotencyService;
+import com.unbound.backend.service.RegistrationQueue;
+import com.unbound.backend.service.RegistrationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,8 +43,6 @@ public class StudentEventController {
     @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private StudentRepository studentRepository;
-    @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private TeamRepository teamRepository;
@@ -48,31 +53,17 @@ public class StudentEventController {
     @Autowired
     private StudentDashboardService studentDashboardService;
     @Autowired
-    private EmailService emailService;
-    @Autowired
     private CertificateService certificateService;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private RegistrationQueue registrationQueue;
+    @Autowired
+    private IdempotencyService idempotencyService;
 
-    private Student getStudentForUser(User user) {
-        return studentRepository.findAll().stream()
-                .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
-    }
 
-    @PostMapping("/register")
-    @Operation(summary = "Register for an event", description = "Allows students to register for a specific event.")
-    @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Registration successful"),
-        @ApiResponse(responseCode = "400", description = "Invalid registration type, deadline passed, or event full"),
-        @ApiResponse(responseCode = "403", description = "Only students can register"),
-        @ApiResponse(responseCode = "404", description = "Event or Student not found")
-    })
-    public ResponseEntity<?> registerForEvent(@AuthenticationPrincipal User user, @RequestBody EventRegistrationRequest req) {
-        if (user == null || user.getRole() != User.Role.Student) {
-            throw new ForbiddenActionException("Only students can register for events.");
-        }
-        Student student = getStudentForUser(user);
-        if (student == null) throw new StudentNotFoundException("Student not found.");
-        Long eventId = req.getEventId();
+    // Event must be approved, active and still taking registrations
+    private Event findOpenEvent(Long eventId) {
         Event event = eventRepository.findById(eventId).orElseThrow(() -> new EventNotFoundException("Event not found"));
         
         // Check if event is approved and active
@@ -87,50 +78,67 @@ public class StudentEventController {
         }
         
         // Check registration deadline
-        try {
-            LocalDate deadline = LocalDate.parse(event.getRegistrationDeadline());
-            if (LocalDate.now().isAfter(deadline)) {
-                throw new RegistrationClosedException("Registration deadline has passed.");
-            }
-        } catch (Exception e) {
-            throw new RegistrationClosedException("Invalid registration deadline.");
+        if (LocalDate.now().isAfter(event.getRegistrationDeadline())) {
+            throw new RegistrationClosedException("Registration deadline has passed.");
         }
-        
-        // Check for duplicate registration
-        if (eventRegistrationRepository.findByEventAndStudent(event, student).isPresent()) {
-            throw new RegistrationClosedException("Already registered for this event.");
+        return event;
+    }
+
+    @PostMapping("/register")
+    @Operation(summary = "Register for an event", description = "Allows students to register for a specific event.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Registration successful"),
+        @ApiResponse(responseCode = "202", description = "Registration queued for a high-demand event; poll statusUrl for the outcome"),
+        @ApiResponse(responseCode = "400", description = "Invalid registration type, deadline passed, or event full"),
+        @ApiResponse(responseCode = "403", description = "Only students can register"),
+        @ApiResponse(responseCode = "404", description = "Event or Student not found"),
+        @ApiResponse(responseCode = "409", description = "Idempotency key reused with a different body, or its first request is still running"),
+        @ApiResponse(responseCode = "503", description = "Registration queue is full, retry later")
+    })
+    public ResponseEntity<?> registerForEvent(@AuthenticationPrincipal User user, @CurrentProfile Student student, @RequestBody EventRegistrationRequest req,
+            @Parameter(description = "Client-generated key; retries with the same key replay the first response")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("register", user != null ? user.getUid() : null, idempotencyKey, req,
+                () -> register(user, student, req));
+    }
+
+    private ResponseEntity<?> register(User user, Student student, EventRegistrationRequest req) {
+        if (user == null || user.getRole() != User.Role.Student) {
+            throw new ForbiddenActionException("Only students can register for events.");
         }
+        if (student == null) throw new StudentNotFoundException("Student not found.");
+        Long eventId = req.getEventId();
+        Event event = findOpenEvent(eventId);
         
-        // Check event capacity
-        long regCount = eventRegistrationRepository.findByEvent(event).stream().count();
-        if (regCount >= event.getCapacity()) {
-            throw new RegistrationClosedException("Event is full.");
-        }
+        // Duplicates and capacity are enforced atomically by RegistrationService
         
         // Solo registration
         if ("solo".equalsIgnoreCase(req.getRegistrationType())) {
             if (event.getTeamIsAllowed()) {
                 throw new EntityNotFoundException("This event requires team registration.");
             }
-            EventRegistration registration = EventRegistration.builder()
-                    .event(event)
-                    .student(student)
-                    .erdateTime(java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ISO_DATE_TIME))
-                    .status("registered")
-                    .paymentStatus(event.getFees() > 0 ? "pending" : "paid")
-                    .build();
-            eventRegistrationRepository.save(registration);
-            
             // Generate receipt number
-            String receiptNumber = "RCP" + System.currentTimeMillis();
+            String receiptNumber = registrationService.newReceiptNumber();
             
-            // Send detailed registration confirmation email
-            String emailBody = generateRegistrationEmailBody(student, event, registration, receiptNumber, "solo", null);
-            emailService.sendEmail(
-                student.getUser().getEmail(),
-                "Registration Confirmation - " + event.getEname(),
-                emailBody
-            );
+            // High-demand events admit solo registrations through the queue
+            if (event.isQueuedRegistration()) {
+                Optional<RegistrationQueue.Ticket> ticket = registrationQueue.submit(user.getUid(), eventId, student.getSid(), receiptNumber);
+                if (ticket.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, "5")
+                            .body(Map.of("success", false, "message", "Registrations are busy, please retry shortly."));
+                }
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("ticketId", ticket.get().ticketId());
+                body.put("status", ticket.get().status());
+                body.put("statusUrl", "/api/student/events/register/tickets/" + ticket.get().ticketId());
+                body.put("receiptNumber", receiptNumber);
+                body.put("message", ticket.get().message());
+                return ResponseEntity.accepted().body(body);
+            }
+            
+            // Registers and queues the confirmation email in one transaction
+            EventRegistration registration = registrationService.registerSolo(event, student, receiptNumber);
             
             // Create response
             RegistrationResponse response = RegistrationResponse.builder()
@@ -155,7 +163,7 @@ public class StudentEventController {
                     .registrationDeadline(event.getRegistrationDeadline())
                     .daysLeft((int) java.time.temporal.ChronoUnit.DAYS.between(
                         java.time.LocalDate.now(), 
-                        java.time.LocalDate.parse(event.getEventDate())
+                        event.getEventDate()
                     ))
                     .receiptNumber(receiptNumber)
                     .message("Registration successful! Check your email for receipt.")
@@ -170,59 +178,12 @@ public class StudentEventController {
             if (!event.getTeamIsAllowed()) {
                 throw new EntityNotFoundException("This event does not allow team registration.");
             }
-            Team team = null;
-            // Join existing team
-            if (req.getTeamId() != null) {
-                Long teamId = req.getTeamId();
-                Optional<Team> teamOpt = teamRepository.findById(teamId);
-                if (teamOpt.isEmpty()) throw new EntityNotFoundException("Team not found.");
-                team = teamOpt.get();
-                // Check if already a member
-                if (teamMembersRepository.findByTeamAndStudent(team, student).isPresent()) {
-                    throw new EntityNotFoundException("Already a member of this team.");
-                }
-                // Add to team
-                TeamMembers teamMember = TeamMembers.builder()
-                        .team(team)
-                        .student(student)
-                        .build();
-                teamMembersRepository.save(teamMember);
-            } else {
-                // Create new team
-                team = Team.builder()
-                        .event(event)
-                        .creator(student)
-                        .tname(req.getTeamName())
-                        .build();
-                team = teamRepository.save(team);
-                // Add creator as member
-                TeamMembers teamMember = TeamMembers.builder()
-                        .team(team)
-                        .student(student)
-                        .build();
-                teamMembersRepository.save(teamMember);
-            }
-            
-            EventRegistration registration = EventRegistration.builder()
-                    .event(event)
-                    .student(student)
-                    .team(team)
-                    .erdateTime(java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ISO_DATE_TIME))
-                    .status("registered")
-                    .paymentStatus(event.getFees() > 0 ? "pending" : "paid")
-                    .build();
-            eventRegistrationRepository.save(registration);
-            
             // Generate receipt number
-            String receiptNumber = "RCP" + System.currentTimeMillis();
+            String receiptNumber = registrationService.newReceiptNumber();
             
-            // Send detailed registration confirmation email
-            String emailBody = generateRegistrationEmailBody(student, event, registration, receiptNumber, "team", team);
-            emailService.sendEmail(
-                student.getUser().getEmail(),
-                "Registration Confirmation - " + event.getEname(),
-                emailBody
-            );
+            // Joins req.teamId, or creates a new team when none is given, and queues the confirmation email
+            EventRegistration registration = registrationService.registerTeam(event, student, req.getTeamId(), req.getTeamName(), receiptNumber);
+            Team team = registration.getTeam();
             
             // Create response
             RegistrationResponse response = RegistrationResponse.builder()
@@ -247,7 +208,7 @@ public class StudentEventController {
                     .registrationDeadline(event.getRegistrationDeadline())
                     .daysLeft((int) java.time.temporal.ChronoUnit.DAYS.between(
                         java.time.LocalDate.now(), 
-                        java.time.LocalDate.parse(event.getEventDate())
+                        event.getEventDate()
                     ))
                     .receiptNumber(receiptNumber)
                     .message("Team registration successful! Check your email for receipt.")
@@ -260,88 +221,113 @@ public class StudentEventController {
         throw new EntityNotFoundException("Invalid registration type.");
     }
 
-    private String generateRegistrationEmailBody(Student student, Event event, EventRegistration registration, String receiptNumber, String registrationType, Team team) {
-        StringBuilder emailBody = new StringBuilder();
-        emailBody.append("Dear ").append(student.getSname()).append(",\n\n");
-        emailBody.append("Thank you for registering for the event!\n\n");
-        
-        emailBody.append("=== REGISTRATION RECEIPT ===\n");
-        emailBody.append("Receipt Number: ").append(receiptNumber).append("\n");
-        emailBody.append("Registration Date: ").append(registration.getErdateTime()).append("\n");
-        emailBody.append("Registration Type: ").append(registrationType.toUpperCase()).append("\n\n");
-        
-        emailBody.append("=== EVENT DETAILS ===\n");
-        emailBody.append("Event Name: ").append(event.getEname()).append("\n");
-        emailBody.append("Event Date: ").append(event.getEventDate()).append("\n");
-        emailBody.append("Event Time: ").append(event.getEventDate()).append("\n");
-        emailBody.append("Location: ").append(event.getLocation()).append("\n");
-        emailBody.append("Category: ").append(event.getCategory()).append("\n");
-        emailBody.append("Mode: ").append(event.getMode()).append("\n");
-        emailBody.append("Entry Fee: ₹").append(event.getFees()).append("\n");
-        emailBody.append("Registration Deadline: ").append(event.getRegistrationDeadline()).append("\n\n");
-        
-        if (event.getCashPrize() != null && !event.getCashPrize().isEmpty()) {
-            emailBody.append("=== PRIZES ===\n");
-            emailBody.append("Cash Prize: ").append(event.getCashPrize()).append("\n");
-            if (event.getFirstPrize() != null) emailBody.append("1st Prize: ").append(event.getFirstPrize()).append("\n");
-            if (event.getSecondPrize() != null) emailBody.append("2nd Prize: ").append(event.getSecondPrize()).append("\n");
-            if (event.getThirdPrize() != null) emailBody.append("3rd Prize: ").append(event.getThirdPrize()).append("\n");
-            emailBody.append("\n");
-        }
-        
-        emailBody.append("=== ORGANIZER DETAILS ===\n");
-        emailBody.append("College: ").append(event.getCollege().getCname()).append("\n");
-        if (event.getFest() != null) {
-            emailBody.append("Fest: ").append(event.getFest().getFname()).append("\n");
-        }
-        if (event.getOrganizerName() != null) {
-            emailBody.append("Organizer: ").append(event.getOrganizerName()).append("\n");
-        }
-        if (event.getOrganizerEmail() != null) {
-            emailBody.append("Organizer Email: ").append(event.getOrganizerEmail()).append("\n");
+    @PostMapping("/register/team")
+    @Operation(summary = "Register a whole team", description = "Creates a team with the full roster and registers every member in one request. The caller is the team creator and is always included.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Team registered"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "403", description = "Only students can register, registration closed, a member is already registered, or not enough seats"),
+        @ApiResponse(responseCode = "404", description = "Event or a team member not found"),
+        @ApiResponse(responseCode = "409", description = "Idempotency key reused with a different body, or its first request is still running")
+    })
+    public ResponseEntity<?> registerTeam(@AuthenticationPrincipal User user, @CurrentProfile Student student, @Valid @RequestBody TeamRegistrationRequest req,
+            @Parameter(description = "Client-generated key; retries with the same key replay the first response")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("register-team", user != null ? user.getUid() : null, idempotencyKey, req,
+                () -> registerRoster(user, student, req));
+    }
+
+    private ResponseEntity<?> registerRoster(User user, Student student, TeamRegistrationRequest req) {
+        if (user == null || user.getRole() != User.Role.Student) {
+            throw new ForbiddenActionException("Only students can register for events.");
         }
-        if (event.getOrganizerPhone() != null) {
-            emailBody.append("Organizer Phone: ").append(event.getOrganizerPhone()).append("\n");
+        if (student == null) throw new StudentNotFoundException("Student not found.");
+        Event event = findOpenEvent(req.getEventId());
+        if (!event.getTeamIsAllowed()) {
+            throw new EntityNotFoundException("This event does not allow team registration.");
         }
-        emailBody.append("\n");
+        String receiptNumber = registrationService.newReceiptNumber();
         
-        if ("team".equals(registrationType) && team != null) {
-            emailBody.append("=== TEAM DETAILS ===\n");
-            emailBody.append("Team Name: ").append(team.getTname()).append("\n");
-            emailBody.append("Team Creator: ").append(team.getCreator().getSname()).append("\n");
-            emailBody.append("\n");
-        }
+        RegistrationService.RosterRegistration roster = registrationService.registerRoster(
+                event, student, req.getTeamName(), req.getMemberIds(), req.getMemberEmails(), receiptNumber);
         
-        if (event.getRules() != null && !event.getRules().isEmpty()) {
-            emailBody.append("=== EVENT RULES ===\n");
-            emailBody.append(event.getRules()).append("\n\n");
+        List<Map<String, Object>> members = new ArrayList<>();
+        for (EventRegistration registration : roster.registrations()) {
+            Map<String, Object> member = new LinkedHashMap<>();
+            member.put("registrationId", registration.getRid());
+            member.put("studentId", registration.getStudent().getSid());
+            member.put("studentName", registration.getStudent().getSname());
+            member.put("studentEmail", registration.getStudent().getUser().getEmail());
+            member.put("paymentStatus", registration.getPaymentStatus());
+            members.add(member);
         }
-        
-        if (event.getRequirements() != null && !event.getRequirements().isEmpty()) {
-            emailBody.append("=== EVENT REQUIREMENTS ===\n");
-            emailBody.append(event.getRequirements()).append("\n\n");
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("teamId", roster.team().getTid());
+        body.put("teamName", roster.team().getTname());
+        body.put("eventId", event.getEid());
+        body.put("eventName", event.getEname());
+        body.put("fees", event.getFees());
+        body.put("receiptNumber", receiptNumber);
+        body.put("members", members);
+        body.put("message", "Team registration successful! Each member will receive a confirmation email.");
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/register/tickets/{ticketId}")
+    @Operation(summary = "Get queued registration status", description = "Returns the outcome of a registration that was queued for a high-demand event.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ticket status returned"),
+        @ApiResponse(responseCode = "403", description = "Only students can view tickets"),
+        @ApiResponse(responseCode = "404", description = "Ticket not found or expired"),
+        @ApiResponse(responseCode = "421", description = "Ticket was issued by another node")
+    })
+    public ResponseEntity<?> getRegistrationTicket(@AuthenticationPrincipal User user, @Parameter(description = "Ticket ID") @PathVariable String ticketId) {
+        if (user == null || user.getRole() != User.Role.Student) {
+            throw new ForbiddenActionException("Only students can view registration tickets.");
         }
-        
-        emailBody.append("=== PAYMENT STATUS ===\n");
-        emailBody.append("Status: ").append(registration.getPaymentStatus().toUpperCase()).append("\n");
-        if ("pending".equalsIgnoreCase(registration.getPaymentStatus()) && event.getFees() > 0) {
-            emailBody.append("Please complete your payment to confirm your registration.\n");
+        if (!registrationQueue.issuedHere(ticketId)) {
+            return ResponseEntity.status(421)
+                    .body(Map.of("success", false, "message", "Ticket was issued by another server; poll it through the same server."));
         }
-        emailBody.append("\n");
-        
-        emailBody.append("=== IMPORTANT NOTES ===\n");
-        emailBody.append("- Please arrive 15 minutes before the event start time\n");
-        emailBody.append("- Bring your college ID card for verification\n");
-        emailBody.append("- Check your email for any updates or changes\n");
-        emailBody.append("- Contact the organizer if you have any questions\n\n");
-        
-        emailBody.append("We look forward to seeing you at the event!\n\n");
-        emailBody.append("Best regards,\n");
-        emailBody.append("Unbound Platform Team\n");
-        emailBody.append("Email: support@unbound.com\n");
-        emailBody.append("Phone: +91-XXXXXXXXXX\n");
-        
-        return emailBody.toString();
+        RegistrationQueue.Ticket ticket = registrationQueue.find(ticketId)
+                .filter(t -> t.uid().equals(user.getUid()))
+                .orElseThrow(() -> new EntityNotFoundException("Ticket not found."));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ticketId", ticket.ticketId());
+        body.put("eventId", ticket.eventId());
+        body.put("status", ticket.status());
+        body.put("registrationId", ticket.registrationId());
+        body.put("message", ticket.message());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/receipts/{receiptNumber}")
+    @Operation(summary = "Look up a registration by receipt number", description = "Returns the registration that a receipt number from a confirmation belongs to.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Registration returned"),
+        @ApiResponse(responseCode = "403", description = "Only students can look up receipts"),
+        @ApiResponse(responseCode = "404", description = "Receipt not found")
+    })
+    public ResponseEntity<?> getRegistrationByReceipt(@AuthenticationPrincipal User user, @CurrentProfile Student student,
+                                                      @Parameter(description = "Receipt number") @PathVariable String receiptNumber) {
+        if (user == null || user.getRole() != User.Role.Student) {
+            throw new ForbiddenActionException("Only students can look up receipts.");
+        }
+        if (student == null) throw new StudentNotFoundException("Student not found.");
+        EventRegistration registration = eventRegistrationRepository.findByReceiptNumber(receiptNumber)
+                .filter(r -> r.getStudent().getSid().equals(student.getSid()))
+                .orElseThrow(() -> new EntityNotFoundException("Registration not found for this receipt."));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("receiptNumber", registration.getReceiptNumber());
+        body.put("registrationId", registration.getRid());
+        body.put("eventId", registration.getEvent().getEid());
+        body.put("eventName", registration.getEvent().getEname());
+        body.put("eventDate", registration.getEvent().getEventDate());
+        body.put("registrationStatus", registration.getStatus());
+        body.put("paymentStatus", registration.getPaymentStatus());
+        body.put("registrationDateTime", registration.getErdateTime());
+        return ResponseEntity.ok(body);
     }
 
     @GetMapping("/my")
@@ -351,11 +337,10 @@ public class StudentEventController {
         @ApiResponse(responseCode = "403", description = "Only students can view their registrations"),
         @ApiResponse(responseCode = "404", description = "Student not found")
     })
-    public ResponseEntity<?> myRegistrations(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> myRegistrations(@AuthenticationPrincipal User user, @CurrentProfile Student student) {
         if (user == null || user.getRole() != User.Role.Student) {
             throw new EntityNotFoundException("Only students can view their registrations.");
         }
-        Student student = getStudentForUser(user);
         if (student == null) throw new EntityNotFoundException("Student not found.");
         return ResponseEntity.ok(studentDashboardService.getMyRegistrations(student));
     }
@@ -367,11 +352,10 @@ public class StudentEventController {
         @ApiResponse(responseCode = "403", description = "Only students can view dashboard stats"),
         @ApiResponse(responseCode = "404", description = "Student not found")
     })
-    public ResponseEntity<?> getStudentDashboardStats(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getStudentDashboardStats(@AuthenticationPrincipal User user, @CurrentProfile Student student) {
         if (user == null || user.getRole() != User.Role.Student) {
             throw new EntityNotFoundException("Only students can view dashboard stats.");
         }
-        Student student = getStudentForUser(user);
         if (student == null) throw new EntityNotFoundException("Student not found.");
         return ResponseEntity.ok(studentDashboardService.getStudentDashboardStats(student));
     }
@@ -383,11 +367,10 @@ public class StudentEventController {
         @ApiResponse(responseCode = "403", description = "Only students can download certificates or not a registered and paid participant"),
         @ApiResponse(responseCode = "404", description = "Event or Student not found")
     })
-    public ResponseEntity<?> downloadCertificate(@AuthenticationPrincipal User user, @PathVariable("eventId") Long eventId) {
+    public ResponseEntity<?> downloadCertificate(@AuthenticationPrincipal User user, @CurrentProfile Student student, @PathVariable("eventId") Long eventId) {
         if (user == null || user.getRole() != User.Role.Student) {
             throw new EntityNotFoundException("Only students can download certificates.");
         }
-        Student student = getStudentForUser(user);
         if (student == null) throw new EntityNotFoundException("Student not found.");
         Event event = eventRepository.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found"));
         Optional<EventRegistration> regOpt = eventRegistrationRepository.findByEventAndStudent(event, student);
@@ -398,19 +381,15 @@ public class StudentEventController {
             throw new EntityNotFoundException("Certificate not yet approved by college.");
         }
         // Only after event is completed
-        try {
-            if (!java.time.LocalDate.now().isAfter(java.time.LocalDate.parse(event.getEventDate()))) {
-                throw new EntityNotFoundException("Certificate available only after event completion.");
-            }
-        } catch (Exception e) {
-            throw new EntityNotFoundException("Invalid event date for event ID " + eventId + ": " + e.getMessage());
+        if (!LocalDate.now().isAfter(event.getEventDate())) {
+            throw new EntityNotFoundException("Certificate available only after event completion.");
         }
         try {
             byte[] pdf = certificateService.generateCertificate(
                 student.getSname(),
                 event.getEname(),
                 event.getFest() != null ? event.getFest().getFname() : null,
-                event.getEventDate()
+                event.getEventDate().toString()
             );
             return ResponseEntity.ok()
                 .header("Content-Type", "application/pdf")
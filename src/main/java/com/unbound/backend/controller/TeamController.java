@@ -1,5 +1,9 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.config.CurrentProfile;
+import com.unbound.backend.dto.FieldSelection;
+import com.unbound.backend.dto.StudentSummary;
+import com.unbound.backend.dto.TeamSummary;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import com.unbound.backend.exception.EventNotFoundException;
@@ -13,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/student/teams")
@@ -23,51 +26,40 @@ public class TeamController {
     @Autowired
     private TeamMembersRepository teamMembersRepository;
     @Autowired
-    private StudentRepository studentRepository;
-    @Autowired
     private EventRepository eventRepository;
 
-    private Student getStudentForUser(User user) {
-        return studentRepository.findAll().stream()
-                .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
-    }
-
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<?> viewTeamsForEvent(@PathVariable Long eventId) {
-        Event event = eventRepository.findById(eventId).orElse(null);
-        if (event == null) throw new EventNotFoundException("Event not found");
-        List<Team> teams = teamRepository.findByEvent(event);
-        return ResponseEntity.ok(teams);
+    public ResponseEntity<?> viewTeamsForEvent(@PathVariable Long eventId, @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, TeamSummary.class);
+        if (!eventRepository.existsById(eventId)) throw new EventNotFoundException("Event not found");
+        List<TeamSummary> teams = teamRepository.findSummariesByEventId(eventId);
+        return ResponseEntity.ok(selection.apply(teams));
     }
 
     @GetMapping("/my")
-    public ResponseEntity<?> myTeams(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> myTeams(@AuthenticationPrincipal User user, @CurrentProfile Student student, @RequestParam(required = false) String fields) {
         if (user == null || user.getRole() != User.Role.Student) {
             throw new ForbiddenActionException("Only students can view their teams");
         }
-        Student student = getStudentForUser(user);
         if (student == null) throw new StudentNotFoundException("Student not found");
-        List<TeamMembers> memberships = teamMembersRepository.findByStudent(student);
-        List<Team> teams = memberships.stream().map(TeamMembers::getTeam).collect(Collectors.toList());
-        return ResponseEntity.ok(teams);
+        FieldSelection selection = FieldSelection.parse(fields, TeamSummary.class);
+        List<TeamSummary> teams = teamMembersRepository.findTeamSummariesByStudentId(student.getSid());
+        return ResponseEntity.ok(selection.apply(teams));
     }
 
     @GetMapping("/teams/{teamId}")
-    public ResponseEntity<?> getTeam(@PathVariable("teamId") Long teamId) {
-        Team team = teamRepository.findById(teamId).orElse(null);
-        if (team == null) throw new TeamNotFoundException("Team not found");
-        List<TeamMembers> members = teamMembersRepository.findByTeam(team);
-        List<Student> students = members.stream().map(TeamMembers::getStudent).collect(Collectors.toList());
-        return ResponseEntity.ok(students);
+    public ResponseEntity<?> getTeam(@PathVariable("teamId") Long teamId, @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, StudentSummary.class);
+        if (!teamRepository.existsById(teamId)) throw new TeamNotFoundException("Team not found");
+        List<StudentSummary> students = teamMembersRepository.findMemberSummariesByTeamId(teamId);
+        return ResponseEntity.ok(selection.apply(students));
     }
 
     @DeleteMapping("/{teamId}/leave")
-    public ResponseEntity<?> leaveTeam(@AuthenticationPrincipal User user, @PathVariable Long teamId) {
+    public ResponseEntity<?> leaveTeam(@AuthenticationPrincipal User user, @CurrentProfile Student student, @PathVariable Long teamId) {
         if (user == null || user.getRole() != User.Role.Student) {
             throw new ForbiddenActionException("Only students can leave teams");
         }
-        Student student = getStudentForUser(user);
         if (student == null) throw new StudentNotFoundException("Student not found");
         Team team = teamRepository.findById(teamId).orElse(null);
         if (team == null) throw new TeamNotFoundException("Team not found");
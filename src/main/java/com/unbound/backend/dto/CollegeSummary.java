@@ -0,0 +1,17 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CollegeSummary {
+    private Long cid;
+    private String cname;
+    private String address;
+    private String contactEmail;
+    private String loginEmail; // Email of the college's user account
+    private Boolean paymentConfigured; // Whether a Razorpay account ID is on file
+}
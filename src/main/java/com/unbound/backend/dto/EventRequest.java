@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Email;
 
+import java.time.LocalDate;
+
 @Data
 public class EventRequest {
     private Long eid;
@@ -16,8 +18,8 @@ public class EventRequest {
     @NotBlank(message = "Event description is required")
     private String edescription;
     
-    @NotBlank(message = "Event date is required")
-    private String eventDate;
+    @NotNull(message = "Event date is required")
+    private LocalDate eventDate;
     
     @NotBlank(message = "Location is required")
     private String location;
@@ -60,6 +62,7 @@ public class EventRequest {
     // Event details
     private String rules; // Event rules and guidelines
     private String requirements; // Event requirements and prerequisites
-    private String registrationDeadline; // Last date for registration
+    private LocalDate registrationDeadline; // Last date for registration
     private Boolean registrationOpen = true; // Whether registration is open
+    private Boolean queuedRegistration = false; // Ticketed admission for high-demand events
 } 
\ No newline at end of file
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -13,7 +15,7 @@ public class EventResponse {
     private Long eid;
     private String ename;
     private String edescription;
-    private String eventDate;
+    private LocalDate eventDate;
     private Integer fees;
     private String location;
     private Integer capacity;
@@ -46,8 +48,9 @@ public class EventResponse {
     // Event details
     private String rules;
     private String requirements;
-    private String registrationDeadline;
+    private LocalDate registrationDeadline;
     private Boolean registrationOpen;
+    private Boolean queuedRegistration;
     
     // Related data
     private String collegeName;
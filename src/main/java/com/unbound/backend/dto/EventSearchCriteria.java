@@ -0,0 +1,41 @@
+package com.unbound.backend.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSearchCriteria {
+    private String name;
+    private String fest;
+    private String college;
+    private String category;
+    private String mode;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+    private Integer minFee;
+    private Integer maxFee;
+    private String city;
+    private String state;
+    private Boolean teamAllowed;
+
+    // Text filters match case-insensitively, so requests differing only in case or padding share a key.
+    public String cacheKey() {
+        return String.join("|", text(name), text(fest), text(college), text(category), text(mode),
+                String.valueOf(startDate), String.valueOf(endDate), String.valueOf(minFee), String.valueOf(maxFee),
+                text(city), text(state), String.valueOf(teamAllowed));
+    }
+
+    static String text(String value) {
+        return value == null || value.isBlank() ? "" : value.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,61 @@
+package com.unbound.backend.dto;
+
+import com.unbound.backend.entity.Event;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Flat list view of an event. Field order matches the JPQL constructor expressions in
+ * EventRepository, so add new fields at the end of both.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSummary {
+    private Long eid;
+    private String ename;
+    private LocalDate eventDate;
+    private Integer fees;
+    private String category;
+    private String mode;
+    private String location;
+    private String city;
+    private String state;
+    private Integer capacity;
+    private Boolean teamIsAllowed;
+    private String posterThumbnailUrl;
+    private LocalDate registrationDeadline;
+    private Boolean registrationOpen;
+    private Long collegeId;
+    private String collegeName;
+    private Long festId;
+    private String festName;
+
+    public static EventSummary of(Event event) {
+        return EventSummary.builder()
+                .eid(event.getEid())
+                .ename(event.getEname())
+                .eventDate(event.getEventDate())
+                .fees(event.getFees())
+                .category(event.getCategory())
+                .mode(event.getMode())
+                .location(event.getLocation())
+                .city(event.getCity())
+                .state(event.getState())
+                .capacity(event.getCapacity())
+                .teamIsAllowed(event.getTeamIsAllowed())
+                .posterThumbnailUrl(event.getPosterThumbnailUrl())
+                .registrationDeadline(event.getRegistrationDeadline())
+                .registrationOpen(event.isRegistrationOpen())
+                .collegeId(event.getCollege().getCid())
+                .collegeName(event.getCollege().getCname())
+                .festId(event.getFest() != null ? event.getFest().getFid() : null)
+                .festName(event.getFest() != null ? event.getFest().getFname() : null)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExplorePage<T> {
+    private List<T> items;
+    private String nextCursor; // Opaque keyset cursor for the next page, null on the last page
+    private boolean hasMore;
+}
@@ -0,0 +1,14 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FacetCount {
+    private String value; // Normalized value to pass back as a filter
+    private String label; // Display text, e.g. "Technical"
+    private long count;
+}
@@ -0,0 +1,19 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FacetedPage<T> {
+    private List<T> items;
+    private String nextCursor; // Opaque keyset cursor for the next page, null on the last page
+    private boolean hasMore;
+    private long totalMatches;
+    private Map<String, List<FacetCount>> facets; // Facet name -> value counts under the other active filters
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Email;
 
+import java.time.LocalDate;
+
 @Data
 public class FestRequest {
     @NotBlank(message = "Fest name is required")
@@ -13,11 +15,11 @@ public class FestRequest {
     @NotBlank(message = "Fest description is required")
     private String fdescription;
     
-    @NotBlank(message = "Start date is required")
-    private String startDate;
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
     
-    @NotBlank(message = "End date is required")
-    private String endDate;
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
     
     // New fields with validation
     private String festImageUrl;
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -13,8 +15,8 @@ public class FestResponse {
     private Long fid;
     private String fname;
     private String fdescription;
-    private String startDate;
-    private String endDate;
+    private LocalDate startDate;
+    private LocalDate endDate;
     private String festImageUrl;
     private String festThumbnailUrl;
     private boolean approved;
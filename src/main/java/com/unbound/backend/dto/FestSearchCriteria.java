@@ -0,0 +1,31 @@
+package com.unbound.backend.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FestSearchCriteria {
+    private String name;
+    private String college;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+    private String city;
+    private String state;
+    private String mode;
+
+    public String cacheKey() {
+        return String.join("|", EventSearchCriteria.text(name), EventSearchCriteria.text(college),
+                String.valueOf(startDate), String.valueOf(endDate),
+                EventSearchCriteria.text(city), EventSearchCriteria.text(state), EventSearchCriteria.text(mode));
+    }
+}
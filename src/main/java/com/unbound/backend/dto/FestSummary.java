@@ -0,0 +1,45 @@
+package com.unbound.backend.dto;
+
+import com.unbound.backend.entity.Fest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Flat list view of a fest. Field order matches the JPQL constructor expressions in
+ * FestRepository.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FestSummary {
+    private Long fid;
+    private String fname;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String mode;
+    private String city;
+    private String state;
+    private String festThumbnailUrl;
+    private Long collegeId;
+    private String collegeName;
+
+    public static FestSummary of(Fest fest) {
+        return FestSummary.builder()
+                .fid(fest.getFid())
+                .fname(fest.getFname())
+                .startDate(fest.getStartDate())
+                .endDate(fest.getEndDate())
+                .mode(fest.getMode())
+                .city(fest.getCity())
+                .state(fest.getState())
+                .festThumbnailUrl(fest.getFestThumbnailUrl())
+                .collegeId(fest.getCollege().getCid())
+                .collegeName(fest.getCollege().getCname())
+                .build();
+    }
+}
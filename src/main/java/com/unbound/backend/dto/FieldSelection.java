@@ -0,0 +1,96 @@
+package com.unbound.backend.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset parsed from a {@code ?fields=a,b,c} parameter and applied to a list of summary
+ * DTOs. The DTO's first (id) field is always kept so clients can key rows. Selection happens while
+ * the response is written, through a {@link SimpleBeanPropertyFilter} over the bean serializer of
+ * whichever mapper writes it (the application one), so no intermediate Map is built per row.
+ */
+public final class FieldSelection {
+    private final List<String> fields; // Declaration order; null means every field
+    private final PropertyFilter filter;
+
+    private FieldSelection(List<String> fields) {
+        this.fields = fields;
+        this.filter = fields == null ? null : SimpleBeanPropertyFilter.filterOutAllExcept(new HashSet<>(fields));
+    }
+
+    public static FieldSelection parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) {
+            return new FieldSelection(null);
+        }
+        List<String> declared = Arrays.stream(type.getDeclaredFields())
+                .filter(f -> !Modifier.isStatic(f.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toList());
+        Set<String> requested = new HashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!declared.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown field '" + trimmed + "'. Allowed: " + String.join(",", declared));
+            }
+            requested.add(trimmed);
+        }
+        requested.add(declared.get(0));
+        return new FieldSelection(declared.stream().filter(requested::contains).collect(Collectors.toList()));
+    }
+
+    public Object apply(Object item) {
+        if (fields == null || item == null) {
+            return item;
+        }
+        return new Selected(item, filter);
+    }
+
+    public List<?> apply(List<?> items) {
+        if (fields == null) {
+            return items;
+        }
+        return items.stream().map(this::apply).collect(Collectors.toList());
+    }
+
+    public String cacheKey() {
+        return fields == null ? "*" : String.join(",", fields);
+    }
+
+    @JsonSerialize(using = SelectedSerializer.class)
+    record Selected(Object item, PropertyFilter filter) {
+    }
+
+    static class SelectedSerializer extends JsonSerializer<Selected> {
+        @Override
+        public void serialize(Selected selected, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Object item = selected.item();
+            JsonSerializer<Object> serializer = provider.findValueSerializer(item.getClass());
+            gen.writeStartObject(item);
+            Iterator<PropertyWriter> properties = serializer.properties();
+            while (properties.hasNext()) {
+                try {
+                    selected.filter().serializeAsField(item, gen, provider, properties.next());
+                } catch (IOException | RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+}
@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -14,14 +17,14 @@ public class RegistrationResponse {
     private Long eventId;
     private Long teamId;
     private String eventName;
-    private String eventDate;
+    private LocalDate eventDate;
     private String eventLocation;
     private Integer fees;
     private String registrationType; // "solo" or "team"
     private String teamName; // If team registration
     private String registrationStatus;
     private String paymentStatus;
-    private String registrationDateTime;
+    private LocalDateTime registrationDateTime;
     private String studentName;
     private String studentEmail;
     private String collegeName;
@@ -30,7 +33,7 @@ public class RegistrationResponse {
     private String firstPrize;
     private String secondPrize;
     private String thirdPrize;
-    private String registrationDeadline;
+    private LocalDate registrationDeadline;
     private Integer daysLeft;
     private String receiptNumber; // For receipt generation
     private String message;
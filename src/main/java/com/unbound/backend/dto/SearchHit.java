@@ -0,0 +1,22 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+    private String type; // event or fest
+    private Long id;
+    private String title;
+    private String date; // eventDate for events, startDate for fests
+    private String college;
+    private float score;
+    private Map<String, String> highlights; // Field name -> best matching passage with <b> markup
+}
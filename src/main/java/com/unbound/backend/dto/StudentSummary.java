@@ -0,0 +1,15 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StudentSummary {
+    private Long sid;
+    private String sname;
+    private Long collegeId;
+    private String collegeName;
+}
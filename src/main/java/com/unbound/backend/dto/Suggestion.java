@@ -0,0 +1,17 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Suggestion {
+    private String type; // event, fest, college, city or category
+    private Long id; // eid/fid for events and fests, null otherwise
+    private String text;
+    private long weight; // Popularity used for ranking (registrations + 1 per contributing item)
+}
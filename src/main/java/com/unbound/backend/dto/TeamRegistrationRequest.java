@@ -0,0 +1,17 @@
+package com.unbound.backend.dto;
+
+import lombok.Data;
+import java.util.List;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Data
+public class TeamRegistrationRequest {
+    @NotNull(message = "Please select an event to register for.")
+    private Long eventId;
+    @NotBlank(message = "Please enter a team name.")
+    private String teamName;
+    // Other members, by student ID and/or account email; the creator is always included
+    private List<Long> memberIds;
+    private List<String> memberEmails;
+}
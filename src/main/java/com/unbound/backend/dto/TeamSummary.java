@@ -0,0 +1,17 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TeamSummary {
+    private Long tid;
+    private String tname;
+    private Long eventId;
+    private String eventName;
+    private Long creatorId;
+    private String creatorName;
+}
@@ -2,8 +2,11 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.unbound.backend.service.PlatformCountersListener;
+import com.unbound.backend.service.ProfileCacheListener;
 
 @Entity
+@EntityListeners({PlatformCountersListener.class, ProfileCacheListener.class})
 @Table(name = "college")
 @Data
 @NoArgsConstructor
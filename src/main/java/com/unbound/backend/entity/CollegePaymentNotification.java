@@ -0,0 +1,53 @@
+package com.unbound.backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "college_payment_notification", indexes = {
+    @Index(name = "idx_college_payment_notification_pending", columnList = "digestedAt, cid, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CollegePaymentNotification {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "cid", referencedColumnName = "cid", nullable = false)
+    private College college;
+
+    @OneToOne
+    @JoinColumn(name = "pid", referencedColumnName = "pid", nullable = false, unique = true)
+    private Payment payment; // At most one line item per payment
+
+    // Line item details as they were when the payment was made
+    @Column(nullable = false)
+    private String studentName;
+
+    private String studentEmail;
+
+    @Column(nullable = false)
+    private String eventName;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Column(nullable = false)
+    private String currency;
+
+    private String paymentId;
+
+    @Column(nullable = false)
+    private String orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime paidAt;
+
+    private LocalDateTime digestedAt; // Null until included in a digest email
+}
@@ -3,8 +3,13 @@ package com.unbound.backend.entity;
 import lombok.*;
 import jakarta.persistence.*;
 
+import java.time.LocalDate;
+
 @Entity
-@Table(name = "event")
+@Table(name = "event", indexes = {
+    @Index(name = "idx_event_explore", columnList = "approved, active, eventDate, eid"),
+    @Index(name = "idx_event_date", columnList = "eventDate")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,7 +34,7 @@ public class Event {
     private String edescription;
 
     @Column(nullable = false)
-    private String eventDate;
+    private LocalDate eventDate;
 
     @Column(nullable = false)
     private Integer fees = 0;
@@ -103,8 +108,18 @@ public class Event {
     private String requirements; // Event requirements and prerequisites
 
     @Column(nullable = false)
-    private String registrationDeadline; // Last date for registration
+    private LocalDate registrationDeadline; // Last date for registration
 
     @Column(nullable = false)
     private boolean registrationOpen = true; // Whether registration is open
+
+    // Admit registrations through RegistrationQueue (ticketed) instead of inline, for launch spikes
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean queuedRegistration = false;
+
+    // Seats taken. Only changed by the conditional UPDATEs in EventRepository, never by entity saves.
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private int registeredCount = 0;
 } 
\ No newline at end of file
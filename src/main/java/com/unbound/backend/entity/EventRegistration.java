@@ -2,9 +2,18 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.unbound.backend.service.PlatformCountersListener;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "event_registration")
+@EntityListeners(PlatformCountersListener.class)
+@Table(name = "event_registration", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_event_registration_event_student", columnNames = {"eid", "sid"}),
+    @UniqueConstraint(name = "uk_event_registration_receipt", columnNames = {"receiptNumber"})
+}, indexes = {
+    @Index(name = "idx_event_registration_date", columnList = "erdateTime")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,7 +36,7 @@ public class EventRegistration {
     private Team team;
 
     @Column(nullable = false)
-    private String erdateTime;
+    private LocalDateTime erdateTime;
 
     @Column(nullable = false)
     private String status = "registered";
@@ -37,4 +46,7 @@ public class EventRegistration {
 
     @Column(nullable = false)
     private boolean certificateApproved = false;
+
+    @Column(length = 32)
+    private String receiptNumber; // From IdGenerator; null on rows created before receipts were stored
 } 
\ No newline at end of file
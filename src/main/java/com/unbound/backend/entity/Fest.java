@@ -3,8 +3,13 @@ package com.unbound.backend.entity;
 import lombok.*;
 import jakarta.persistence.*;
 
+import java.time.LocalDate;
+
 @Entity
-@Table(name = "fest")
+@Table(name = "fest", indexes = {
+    @Index(name = "idx_fest_explore", columnList = "approved, active, startDate, fid"),
+    @Index(name = "idx_fest_dates", columnList = "startDate, endDate")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,10 +30,10 @@ public class Fest {
     private String fdescription;
 
     @Column(nullable = false)
-    private String startDate;
+    private LocalDate startDate;
 
     @Column(nullable = false)
-    private String endDate;
+    private LocalDate endDate;
 
     @Column(nullable = false)
     private boolean approved = false;
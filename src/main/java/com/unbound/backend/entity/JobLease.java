@@ -0,0 +1,24 @@
+package com.unbound.backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease {
+    @Id
+    @Column(length = 64)
+    private String name; // Scheduled job the lease guards
+
+    @Column(nullable = false)
+    private String owner; // Instance currently holding the lease
+
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;
+}
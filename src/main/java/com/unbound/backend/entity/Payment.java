@@ -2,9 +2,19 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.unbound.backend.service.PlatformCountersListener;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payment")
+@EntityListeners(PlatformCountersListener.class)
+@Table(name = "payment", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_receipt", columnNames = {"receiptNumber"}),
+    @UniqueConstraint(name = "uk_payment_order", columnNames = {"razorpayOrderId"})
+}, indexes = {
+    @Index(name = "idx_payment_created", columnList = "createdAt"),
+    @Index(name = "idx_payment_status_created", columnList = "status, createdAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,11 +45,14 @@ public class Payment {
     private String currency;
 
     @Column(nullable = false)
-    private String createdAt;
+    private LocalDateTime createdAt;
 
     @Column
     private String paymentId; // Razorpay payment id (after success)
 
     @Column
     private String receiptEmail;
+
+    @Column(length = 32)
+    private String receiptNumber; // Receipt sent to Razorpay with the order
 } 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.unbound.backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payment_webhook_event", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_webhook_event", columnNames = {"eventId"})
+}, indexes = {
+    @Index(name = "idx_payment_webhook_pending", columnList = "status, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentWebhookEvent {
+    public enum Status { PENDING, APPLIED, IGNORED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String eventId; // Gateway event id, or a hash of the payload when the header is missing
+
+    @Column(length = 64)
+    private String eventType; // e.g. payment.captured
+
+    private String orderId;
+
+    private String paymentId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // Raw signed body, kept for audit and replay
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+
+    private LocalDateTime processedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,46 @@
+package com.unbound.backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revenue_ledger", indexes = {
+    @Index(name = "idx_revenue_ledger_college_day", columnList = "collegeId, paidOn")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueLedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne
+    @JoinColumn(name = "pid", referencedColumnName = "pid", nullable = false, unique = true)
+    private Payment payment; // At most one entry per payment
+
+    // Where the money went at the time it was paid
+    @Column(nullable = false)
+    private Long collegeId;
+
+    private Long festId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Column(nullable = false)
+    private String currency;
+
+    @Column(nullable = false)
+    private LocalDate paidOn;
+
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,39 @@
+package com.unbound.backend.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "revenue_total", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_revenue_total", columnNames = {"collegeId", "scope", "refId", "currency"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueTotal {
+    public enum Scope { COLLEGE, FEST, EVENT, DAY }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long collegeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Scope scope;
+
+    @Column(nullable = false)
+    private Long refId; // fid, eid or epoch day; 0 for the college total
+
+    @Column(nullable = false, length = 3)
+    private String currency; // Amounts in different currencies are never added together
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(nullable = false)
+    private long payments;
+}
@@ -2,8 +2,10 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.unbound.backend.service.ProfileCacheListener;
 
 @Entity
+@EntityListeners(ProfileCacheListener.class)
 @Table(name = "student")
 @Data
 @NoArgsConstructor
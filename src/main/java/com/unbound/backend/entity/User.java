@@ -8,8 +8,10 @@ import java.util.Collections;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import com.unbound.backend.service.ProfileCacheListener;
 
 @Entity
+@EntityListeners(ProfileCacheListener.class)
 @Table(name = "user")
 @Data
 @NoArgsConstructor
@@ -0,0 +1,30 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.CollegePaymentNotification;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CollegePaymentNotificationRepository extends JpaRepository<CollegePaymentNotification, Long> {
+    @Query("SELECT n.college.cid AS cid, COUNT(n) AS pending, MIN(n.paidAt) AS oldest FROM CollegePaymentNotification n "
+            + "WHERE n.digestedAt IS NULL GROUP BY n.college.cid")
+    List<PendingDigest> findPendingByCollege();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"college"})
+    List<CollegePaymentNotification> findByDigestedAtIsNullAndCollegeCidOrderByIdAsc(Long cid, Limit limit);
+
+    long countByDigestedAtIsNull();
+
+    interface PendingDigest {
+        Long getCid();
+        long getPending();
+        LocalDateTime getOldest();
+    }
+}
@@ -1,10 +1,18 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.CollegeSummary;
 import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
 import java.util.Optional;
 
 public interface CollegeRepository extends JpaRepository<College, Long> {
     Optional<College> findByUserUid(Integer uid);
+
+    @Query("SELECT new com.unbound.backend.dto.CollegeSummary(c.cid, c.cname, c.address, c.contactEmail, u.email, "
+            + "CASE WHEN c.razorpayAccountId IS NOT NULL THEN true ELSE false END) "
+            + "FROM College c JOIN c.user u ORDER BY c.cid")
+    List<CollegeSummary> findAllSummaries();
 } 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.EmailOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    List<EmailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(EmailOutbox.Status status, LocalDateTime now, Limit limit);
+    long countByStatus(EmailOutbox.Status status);
+}
@@ -4,7 +4,13 @@ import com.unbound.backend.entity.EventRegistration;
 import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.Student;
 import com.unbound.backend.entity.Team;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +18,42 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     List<EventRegistration> findByStudent(Student student);
     List<EventRegistration> findByEvent(Event event);
     Optional<EventRegistration> findByEventAndStudent(Event event, Student student);
+    @EntityGraph(attributePaths = {"event", "student"})
+    Optional<EventRegistration> findByReceiptNumber(String receiptNumber);
     List<EventRegistration> findByTeam(Team team);
+    @EntityGraph(attributePaths = {"event", "student", "team"})
+    List<EventRegistration> findByStudentUserUidAndEventEidIn(Integer uid, Collection<Long> eids);
+    @EntityGraph(attributePaths = {"event", "student"})
+    List<EventRegistration> findByEventEidAndStudentSidIn(Long eid, Collection<Long> sids);
+    long countByEventEid(Long eid);
+    long countByStudentAndEventEventDateAfter(Student student, LocalDate date);
+    long countByStudentAndEventEventDateBefore(Student student, LocalDate date);
+    long countByEventFestFid(Long fid);
+
+    @Query("SELECT r.event.eid AS eid, COUNT(r) AS registrations FROM EventRegistration r GROUP BY r.event.eid")
+    List<EventRegistrationCount> countGroupedByEvent();
+
+    // Registrations after the (erdateTime, rid) keyset, in that order, for incremental consumers.
+    @Query("SELECT r.rid AS rid, r.event.eid AS eid, r.erdateTime AS erdateTime FROM EventRegistration r "
+            + "WHERE r.erdateTime >= ?1 AND (r.erdateTime > ?1 OR r.rid > ?2) ORDER BY r.erdateTime, r.rid")
+    List<RegistrationTick> findTicksAfter(LocalDateTime erdateTime, Long rid, Limit limit);
+
+    @Query("SELECT r.rid AS rid, r.student.sid AS sid FROM EventRegistration r WHERE r.event.eid = ?1 AND r.student.sid IN ?2")
+    List<RegistrationKey> findRegistrationKeys(Long eid, Collection<Long> sids);
+
+    interface EventRegistrationCount {
+        Long getEid();
+        long getRegistrations();
+    }
+
+    interface RegistrationKey {
+        Long getRid();
+        Long getSid();
+    }
+
+    interface RegistrationTick {
+        Long getRid();
+        Long getEid();
+        LocalDateTime getErdateTime();
+    }
 } 
\ No newline at end of file
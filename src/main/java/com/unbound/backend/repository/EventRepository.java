@@ -1,13 +1,36 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.EventSummary;
 import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.Fest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.LocalDate;
 import java.util.List;
 
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
     List<Event> findByCollege(College college);
     List<Event> findByFest(Fest fest);
     List<Event> findByCollegeAndFestIsNull(College college);
+    long countByApprovedAndActive(boolean approved, boolean active);
+    List<Event> findByEventDate(LocalDate eventDate);
+
+    @Query("SELECT new com.unbound.backend.dto.EventSummary(e.eid, e.ename, e.eventDate, e.fees, e.category, e.mode, e.location, "
+            + "e.city, e.state, e.capacity, e.teamIsAllowed, e.posterThumbnailUrl, e.registrationDeadline, e.registrationOpen, "
+            + "c.cid, c.cname, f.fid, f.fname) "
+            + "FROM Event e JOIN e.college c LEFT JOIN e.fest f WHERE e.approved = false AND e.active = true ORDER BY e.eid")
+    List<EventSummary> findPendingSummaries();
+
+    // Takes a seat if one is left; returns 0 when the event is full. Capacity null means unlimited.
+    @Modifying
+    @Query("UPDATE Event e SET e.registeredCount = e.registeredCount + 1 "
+            + "WHERE e.eid = ?1 AND (e.capacity IS NULL OR e.registeredCount < e.capacity)")
+    int reserveSeat(Long eid);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.registeredCount = e.registeredCount + ?2 WHERE e.eid = ?1")
+    int addSeats(Long eid, int seats);
 } 
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    /**
+     * Approved and active events matching every non-blank filter, positioned after the cursor.
+     * College and fest are fetched in the same statement so serialization does not trigger extra selects.
+     */
+    public static Specification<Event> explore(EventSearchCriteria criteria, KeysetCursor after) {
+        return (root, query, cb) -> {
+            Join<Event, College> college = fetchOrJoin(root, query, "college", JoinType.INNER);
+            Join<Event, Fest> fest = fetchOrJoin(root, query, "fest", JoinType.LEFT);
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isTrue(root.get("approved")));
+            predicates.add(cb.isTrue(root.get("active")));
+
+            addContains(predicates, cb, root.get("ename"), criteria.getName());
+            addContains(predicates, cb, fest.get("fname"), criteria.getFest());
+            addContains(predicates, cb, college.get("cname"), criteria.getCollege());
+            addContains(predicates, cb, root.get("category"), criteria.getCategory());
+            addContains(predicates, cb, root.get("mode"), criteria.getMode());
+            addContains(predicates, cb, root.get("city"), criteria.getCity());
+            addContains(predicates, cb, root.get("state"), criteria.getState());
+
+            if (criteria.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("eventDate"), criteria.getStartDate()));
+            }
+            if (criteria.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("eventDate"), criteria.getEndDate()));
+            }
+            if (criteria.getMinFee() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("fees"), criteria.getMinFee()));
+            }
+            if (criteria.getMaxFee() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("fees"), criteria.getMaxFee()));
+            }
+            if (criteria.getTeamAllowed() != null) {
+                predicates.add(cb.equal(root.get("teamIsAllowed"), criteria.getTeamAllowed()));
+            }
+
+            if (after != null) {
+                Path<LocalDate> eventDate = root.get("eventDate");
+                Path<Long> eid = root.get("eid");
+                LocalDate afterDate = after.dateKey();
+                predicates.add(cb.or(
+                        cb.greaterThan(eventDate, afterDate),
+                        cb.and(cb.equal(eventDate, afterDate), cb.greaterThan(eid, after.id()))
+                ));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Events with the given ids, fetching college and fest with them.
+     */
+    public static Specification<Event> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> {
+            fetchOrJoin(root, query, "college", JoinType.INNER);
+            fetchOrJoin(root, query, "fest", JoinType.LEFT);
+            return root.get("eid").in(ids);
+        };
+    }
+
+    static void addContains(List<Predicate> predicates, CriteriaBuilder cb, Path<String> path, String value) {
+        if (hasText(value)) {
+            String escaped = value.trim().toLowerCase()
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+            predicates.add(cb.like(cb.lower(path), "%" + escaped + "%", '\\'));
+        }
+    }
+
+    static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X, Y> Join<X, Y> fetchOrJoin(Root<X> root, CriteriaQuery<?> query, String attribute, JoinType type) {
+        Class<?> resultType = query.getResultType();
+        if (resultType == Long.class || resultType == long.class) {
+            return root.join(attribute, type);
+        }
+        return (Join<X, Y>) root.fetch(attribute, type);
+    }
+}
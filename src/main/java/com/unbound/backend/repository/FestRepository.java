@@ -1,10 +1,19 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.FestSummary;
 import com.unbound.backend.entity.Fest;
 import com.unbound.backend.entity.College;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
-public interface FestRepository extends JpaRepository<Fest, Long> {
+public interface FestRepository extends JpaRepository<Fest, Long>, JpaSpecificationExecutor<Fest> {
     List<Fest> findByCollege(College college);
+    long countByApprovedAndActive(boolean approved, boolean active);
+
+    @Query("SELECT new com.unbound.backend.dto.FestSummary(f.fid, f.fname, f.startDate, f.endDate, f.mode, f.city, f.state, "
+            + "f.festThumbnailUrl, c.cid, c.cname) "
+            + "FROM Fest f JOIN f.college c WHERE f.approved = false AND f.active = true ORDER BY f.fid")
+    List<FestSummary> findPendingSummaries();
 } 
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.dto.FestSearchCriteria;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Fest;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.unbound.backend.repository.EventSpecifications.addContains;
+import static com.unbound.backend.repository.EventSpecifications.fetchOrJoin;
+
+public final class FestSpecifications {
+
+    private FestSpecifications() {
+    }
+
+    /**
+     * Approved and active fests matching every non-blank filter, positioned after the cursor.
+     */
+    public static Specification<Fest> explore(FestSearchCriteria criteria, KeysetCursor after) {
+        return (root, query, cb) -> {
+            Join<Fest, College> college = fetchOrJoin(root, query, "college", JoinType.INNER);
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isTrue(root.get("approved")));
+            predicates.add(cb.isTrue(root.get("active")));
+
+            addContains(predicates, cb, root.get("fname"), criteria.getName());
+            addContains(predicates, cb, college.get("cname"), criteria.getCollege());
+            addContains(predicates, cb, root.get("city"), criteria.getCity());
+            addContains(predicates, cb, root.get("state"), criteria.getState());
+            addContains(predicates, cb, root.get("mode"), criteria.getMode());
+
+            if (criteria.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("startDate"), criteria.getStartDate()));
+            }
+            if (criteria.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("endDate"), criteria.getEndDate()));
+            }
+
+            if (after != null) {
+                Path<LocalDate> startDate = root.get("startDate");
+                Path<Long> fid = root.get("fid");
+                LocalDate afterDate = after.dateKey();
+                predicates.add(cb.or(
+                        cb.greaterThan(startDate, afterDate),
+                        cb.and(cb.equal(startDate, afterDate), cb.greaterThan(fid, after.id()))
+                ));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Fests with the given ids, fetching the college with them.
+     */
+    public static Specification<Fest> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> {
+            fetchOrJoin(root, query, "college", JoinType.INNER);
+            return root.get("fid").in(ids);
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+    // Takes over an expired lease or extends our own; returns 0 while another owner holds it.
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.leaseUntil = :until "
+            + "WHERE l.name = :name AND (l.owner = :owner OR l.leaseUntil < :now)")
+    int claim(String name, String owner, LocalDateTime now, LocalDateTime until);
+
+    // Creates the lease row; a row another instance created first is left untouched.
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO job_lease (name, owner, lease_until) VALUES (:name, :owner, :until)", nativeQuery = true)
+    int insertIfAbsent(String name, String owner, LocalDateTime until);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobLease l SET l.leaseUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(String name, String owner, LocalDateTime now);
+}
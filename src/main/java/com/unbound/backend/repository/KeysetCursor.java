@@ -0,0 +1,44 @@
+package com.unbound.backend.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of an explore page, ordered by (sortKey, id).
+ * Encoded as an opaque URL-safe token so clients just echo it back.
+ */
+public record KeysetCursor(String sortKey, Long id) {
+
+    // Date-ordered listings keep the ISO date as the sort key, so keys still compare as strings.
+    public static KeysetCursor of(LocalDate date, Long id) {
+        return new KeysetCursor(date.toString(), id);
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return LocalDate.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(raw.substring(0, sep), Long.valueOf(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -2,9 +2,42 @@ package com.unbound.backend.repository;
 
 import com.unbound.backend.entity.Payment;
 import com.unbound.backend.entity.EventRegistration;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
     List<Payment> findByEventRegistration(EventRegistration eventRegistration);
-} 
\ No newline at end of file
+
+    // Status updates lock the row so concurrent paid reports record revenue once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Payment> findByRazorpayOrderId(String razorpayOrderId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"eventRegistration", "college"})
+    List<Payment> findByRazorpayOrderIdIn(Collection<String> razorpayOrderIds);
+
+    // Keyset page of payments in a status created in [from, to), after (afterCreatedAt, afterPid).
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.createdAt >= :from AND p.createdAt < :to "
+            + "AND (p.createdAt > :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.pid > :afterPid)) "
+            + "ORDER BY p.createdAt, p.pid")
+    List<Payment> findPageByStatusCreatedBetween(String status, LocalDateTime from, LocalDateTime to,
+            LocalDateTime afterCreatedAt, Integer afterPid, Limit limit);
+
+    // Paid payments not yet in the revenue ledger. applyStatus stores statuses lower-case; older
+    // mixed-case rows still match under MySQL's case-insensitive collation.
+    @Query("SELECT p FROM Payment p WHERE p.status = 'paid' "
+            + "AND NOT EXISTS (SELECT 1 FROM RevenueLedgerEntry e WHERE e.payment = p) ORDER BY p.pid")
+    List<Payment> findPaidWithoutLedgerEntry(Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"eventRegistration", "college"})
+    List<Payment> findByPidIn(Collection<Integer> pids);
+}
@@ -0,0 +1,12 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.PaymentWebhookEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+    List<PaymentWebhookEvent> findByStatusOrderByIdAsc(PaymentWebhookEvent.Status status, Limit limit);
+    boolean existsByEventId(String eventId);
+}
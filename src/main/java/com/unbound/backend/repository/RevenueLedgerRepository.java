@@ -0,0 +1,7 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.RevenueLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RevenueLedgerRepository extends JpaRepository<RevenueLedgerEntry, Long> {
+}
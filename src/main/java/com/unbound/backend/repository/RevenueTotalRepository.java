@@ -0,0 +1,26 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.RevenueTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RevenueTotalRepository extends JpaRepository<RevenueTotal, Long> {
+    // Creates the row or adds to it in one statement, so concurrent payments cannot lose an update.
+    @Modifying
+    @Query(value = "INSERT INTO revenue_total (college_id, scope, ref_id, currency, amount, payments) "
+            + "VALUES (:collegeId, :scope, :refId, :currency, :amount, 1) "
+            + "ON DUPLICATE KEY UPDATE amount = amount + :amount, payments = payments + 1", nativeQuery = true)
+    int add(Long collegeId, String scope, Long refId, String currency, long amount);
+
+    Optional<RevenueTotal> findByCollegeIdAndScopeAndRefIdAndCurrency(Long collegeId, RevenueTotal.Scope scope, Long refId, String currency);
+
+    List<RevenueTotal> findByCollegeIdAndScope(Long collegeId, RevenueTotal.Scope scope);
+
+    List<RevenueTotal> findByCollegeIdAndScopeAndCurrency(Long collegeId, RevenueTotal.Scope scope, String currency);
+
+    List<RevenueTotal> findByCollegeIdAndScopeAndCurrencyAndRefIdBetweenOrderByRefId(Long collegeId, RevenueTotal.Scope scope, String currency, Long fromRefId, Long toRefId);
+}
@@ -1,7 +1,32 @@
 package com.unbound.backend.repository;
 
 import com.unbound.backend.entity.Student;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Integer> {
+    @EntityGraph(attributePaths = {"user", "college"})
+    Optional<Student> findByUserUid(Integer uid);
+
+    @EntityGraph(attributePaths = "user")
+    List<Student> findBySidIn(Collection<Long> sids);
+
+    @Query("SELECT s.sid AS sid, u.email AS email FROM Student s JOIN s.user u WHERE s.sid IN ?1")
+    List<StudentKey> findKeysBySidIn(Collection<Long> sids);
+
+    @Query("SELECT s.sid AS sid, u.email AS email FROM Student s JOIN s.user u WHERE u.email IN ?1")
+    List<StudentKey> findKeysByEmailIn(Collection<String> emails);
+
+    interface StudentKey {
+        Long getSid();
+        String getEmail();
+    }
+
+    @EntityGraph(attributePaths = "user")
+    List<Student> findBySidInOrUserEmailIn(Collection<Long> sids, Collection<String> emails);
 } 
\ No newline at end of file
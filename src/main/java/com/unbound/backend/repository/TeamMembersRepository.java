@@ -1,9 +1,12 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.StudentSummary;
+import com.unbound.backend.dto.TeamSummary;
 import com.unbound.backend.entity.TeamMembers;
 import com.unbound.backend.entity.Team;
 import com.unbound.backend.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +14,12 @@ public interface TeamMembersRepository extends JpaRepository<TeamMembers, TeamMe
     List<TeamMembers> findByTeam(Team team);
     List<TeamMembers> findByStudent(Student student);
     Optional<TeamMembers> findByTeamAndStudent(Team team, Student student);
+
+    @Query("SELECT new com.unbound.backend.dto.TeamSummary(t.tid, t.tname, e.eid, e.ename, s.sid, s.sname) "
+            + "FROM TeamMembers m JOIN m.team t JOIN t.event e JOIN t.creator s WHERE m.student.sid = :sid ORDER BY t.tid")
+    List<TeamSummary> findTeamSummariesByStudentId(Long sid);
+
+    @Query("SELECT new com.unbound.backend.dto.StudentSummary(s.sid, s.sname, c.cid, c.cname) "
+            + "FROM TeamMembers m JOIN m.student s JOIN s.college c WHERE m.team.tid = :tid ORDER BY s.sid")
+    List<StudentSummary> findMemberSummariesByTeamId(Long tid);
 } 
\ No newline at end of file
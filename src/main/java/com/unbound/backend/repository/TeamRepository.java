@@ -1,10 +1,16 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.TeamSummary;
 import com.unbound.backend.entity.Team;
 import com.unbound.backend.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
     List<Team> findByEvent(Event event);
+
+    @Query("SELECT new com.unbound.backend.dto.TeamSummary(t.tid, t.tname, e.eid, e.ename, s.sid, s.sname) "
+            + "FROM Team t JOIN t.event e JOIN t.creator s WHERE e.eid = :eid ORDER BY t.tid")
+    List<TeamSummary> findSummariesByEventId(Long eid);
 } 
\ No newline at end of file
@@ -37,6 +37,8 @@ public class AuthService {
     @Autowired
     private CollegeRepository collegeRepository;
     @Autowired
+    private ProfileService profileService;
+    @Autowired
     private PasswordService passwordService;
     @Autowired
     private JwtService jwtService;
@@ -97,14 +99,10 @@ public class AuthService {
         }
         String sname = null, cname = null;
         if (user.getRole() == User.Role.Student) {
-            Student student = studentRepository.findAll().stream()
-                    .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                    .findFirst().orElse(null);
+            Student student = profileService.findStudent(user);
             if (student != null) sname = student.getSname();
         } else if (user.getRole() == User.Role.College) {
-            College college = collegeRepository.findAll().stream()
-                    .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                    .findFirst().orElse(null);
+            College college = profileService.findCollege(user);
             if (college != null) cname = college.getCname();
         }
         String token = jwtService.generateToken(user.getEmail(), user.getRole().name());
@@ -0,0 +1,33 @@
+package com.unbound.backend.service;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Published after an event or fest has been created, edited, approved, rejected or deleted.
+ * Listeners reload the row by id, so the payload only says what changed.
+ */
+public record CatalogChangedEvent(Kind kind, Long id, boolean removed) {
+
+    // Listener order: in-memory indexes are updated before the responses built from them are
+    // dropped, so a response recomputed straight after the invalidation sees the new data.
+    public static final int INDEX_ORDER = 0;
+    public static final int CACHE_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    public enum Kind { EVENT, FEST }
+
+    public static CatalogChangedEvent eventSaved(Long eid) {
+        return new CatalogChangedEvent(Kind.EVENT, eid, false);
+    }
+
+    public static CatalogChangedEvent eventRemoved(Long eid) {
+        return new CatalogChangedEvent(Kind.EVENT, eid, true);
+    }
+
+    public static CatalogChangedEvent festSaved(Long fid) {
+        return new CatalogChangedEvent(Kind.FEST, fid, false);
+    }
+
+    public static CatalogChangedEvent festRemoved(Long fid) {
+        return new CatalogChangedEvent(Kind.FEST, fid, true);
+    }
+}
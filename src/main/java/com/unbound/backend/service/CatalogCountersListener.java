@@ -0,0 +1,74 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate listener that reports fest and event inserts, deletes and listing changes to
+ * {@link PlatformCounters}. Unlike a JPA entity callback it sees the row's state before an update,
+ * so approving, rejecting or deactivating an item moves exactly one count between buckets.
+ */
+@Component
+public class CatalogCountersListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    @Lazy
+    private PlatformCounters counters;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (isCatalog(event.getEntity())) {
+            counters.catalogWritten(event.getEntity(), null, listing(event.getPersister(), event.getState()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // Without the old state (a detached update) the change is left to the scheduled reconcile.
+        if (isCatalog(event.getEntity()) && event.getOldState() != null) {
+            counters.catalogWritten(event.getEntity(), listing(event.getPersister(), event.getOldState()),
+                    listing(event.getPersister(), event.getState()));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (isCatalog(event.getEntity())) {
+            counters.catalogWritten(event.getEntity(), listing(event.getPersister(), event.getDeletedState()), null);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static boolean isCatalog(Object entity) {
+        return entity instanceof Event || entity instanceof Fest;
+    }
+
+    private static PlatformCounters.Listing listing(EntityPersister persister, Object[] state) {
+        boolean approved = Boolean.TRUE.equals(state[persister.getPropertyIndex("approved")]);
+        boolean active = Boolean.TRUE.equals(state[persister.getPropertyIndex("active")]);
+        return PlatformCounters.Listing.of(approved, active);
+    }
+}
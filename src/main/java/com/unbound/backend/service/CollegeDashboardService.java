@@ -16,7 +16,7 @@ public class CollegeDashboardService {
     @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
-    private PaymentRepository paymentRepository;
+    private RevenueLedgerService revenueLedgerService;
     @Autowired
     private EventReviewRepository eventReviewRepository;
 
@@ -56,13 +56,14 @@ public class CollegeDashboardService {
         long totalRegistrations = events.stream().mapToLong(e -> eventRegistrationRepository.findByEvent(e).size()).sum();
         long totalPaid = events.stream().mapToLong(e -> eventRegistrationRepository.findByEvent(e).stream().filter(r -> "paid".equalsIgnoreCase(r.getPaymentStatus())).count()).sum();
         long totalReviews = events.stream().mapToLong(e -> eventReviewRepository.findByEvent(e).size()).sum();
-        int totalRevenue = events.stream().mapToInt(e -> paymentRepository.findAll().stream().filter(p -> p.getEventRegistration().getEvent().getEid().equals(e.getEid()) && "paid".equalsIgnoreCase(p.getStatus())).mapToInt(p -> p.getAmount()).sum()).sum();
+        long totalRevenue = revenueLedgerService.collegeTotal(college.getCid(), PaymentService.DEFAULT_CURRENCY);
         Map<String, Object> stats = Map.of(
             "totalEvents", totalEvents,
             "totalRegistrations", totalRegistrations,
             "totalPaid", totalPaid,
             "totalReviews", totalReviews,
-            "totalRevenue", totalRevenue
+            "totalRevenue", totalRevenue,
+            "currency", PaymentService.DEFAULT_CURRENCY
         );
         logger.info("[COLLEGE DASHBOARD] Dashboard stats fetched for college: {}", college.getCname());
         return stats;
@@ -0,0 +1,96 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.repository.CollegePaymentNotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flushes buffered college payment notifications as digests. A college is due once it has
+ * {@code max-payments} payments waiting, or once its oldest waiting payment is {@code interval-ms}
+ * old; a busy college gets a digest per {@code max-payments} payments, a quiet one at most one
+ * digest per interval. A lease in job_lease keeps the job to one instance at a time.
+ */
+@Service
+public class CollegePaymentDigestProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(CollegePaymentDigestProcessor.class);
+
+    static final String LEASE = "college-payment-digest";
+
+    @Autowired
+    private CollegePaymentNotificationRepository notificationRepository;
+    @Autowired
+    private CollegePaymentDigestService collegePaymentDigestService;
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${payment.college-digest.interval-ms:900000}")
+    private long intervalMs;
+    @Value("${payment.college-digest.max-payments:100}")
+    private int maxPayments;
+    @Value("${payment.college-digest.lease-ms:300000}")
+    private long leaseMs;
+
+    // Since startup, on this instance
+    private final AtomicLong totalDigests = new AtomicLong();
+    private final AtomicLong totalPayments = new AtomicLong();
+    private final AtomicLong totalErrors = new AtomicLong();
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingPayments", notificationRepository.countByDigestedAtIsNull());
+        stats.put("totalDigests", totalDigests.get());
+        stats.put("totalPayments", totalPayments.get());
+        stats.put("totalErrors", totalErrors.get());
+        return stats;
+    }
+
+    @Scheduled(initialDelayString = "${payment.college-digest.poll-interval-ms:60000}", fixedDelayString = "${payment.college-digest.poll-interval-ms:60000}")
+    public synchronized void flush() {
+        if (!jobLeaseService.tryAcquire(LEASE, Duration.ofMillis(leaseMs))) {
+            logger.debug("[PAYMENT] College digests are being sent by another instance");
+            return;
+        }
+        LocalDateTime dueBefore = LocalDateTime.now().minus(Duration.ofMillis(intervalMs));
+        int digests = 0, payments = 0;
+        try {
+            for (CollegePaymentNotificationRepository.PendingDigest college : notificationRepository.findPendingByCollege()) {
+                boolean stale = !college.getOldest().isAfter(dueBefore);
+                long remaining = college.getPending();
+                // Full digests while there are enough; a stale college also gets the remainder
+                while (remaining >= maxPayments || (stale && remaining > 0)) {
+                    int covered;
+                    try {
+                        covered = collegePaymentDigestService.digest(college.getCid());
+                    } catch (RuntimeException e) {
+                        totalErrors.incrementAndGet();
+                        logger.warn("[PAYMENT] Digest for college {} failed, retrying next run: {}", college.getCid(), e.getMessage());
+                        break;
+                    }
+                    if (covered == 0) {
+                        break;
+                    }
+                    remaining -= covered;
+                    digests++;
+                    payments += covered;
+                }
+            }
+        } finally {
+            jobLeaseService.release(LEASE);
+            totalDigests.addAndGet(digests);
+            totalPayments.addAndGet(payments);
+        }
+        if (digests > 0) {
+            logger.info("[PAYMENT] Queued {} college digests covering {} payments", digests, payments);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.CollegePaymentNotification;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.repository.CollegePaymentNotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Buffers payment notifications for colleges and turns them into digest emails. A paid payment
+ * adds one row to college_payment_notification in the paying transaction; nothing is mailed
+ * then. {@link CollegePaymentDigestProcessor} later calls {@link #digest} to fold a college's
+ * buffered rows into a single email with totals and line items, queued in the email outbox.
+ */
+@Service
+public class CollegePaymentDigestService {
+    private static final Logger logger = LoggerFactory.getLogger(CollegePaymentDigestService.class);
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Autowired
+    private CollegePaymentNotificationRepository notificationRepository;
+    @Autowired
+    private EmailService emailService;
+
+    @Value("${payment.college-digest.max-payments:100}")
+    private int maxPayments;
+
+    /**
+     * Buffers a payment that has just become paid. Callers hold the transaction.
+     */
+    public void enqueue(Payment payment, Student student, String eventName) {
+        notificationRepository.save(CollegePaymentNotification.builder()
+                .college(payment.getCollege())
+                .payment(payment)
+                .studentName(student.getSname())
+                .studentEmail(student.getUser().getEmail())
+                .eventName(eventName)
+                .amount(payment.getAmount())
+                .currency(payment.getCurrency())
+                .paymentId(payment.getPaymentId())
+                .orderId(payment.getRazorpayOrderId())
+                .paidAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Sends one digest covering up to {@code max-payments} of the college's oldest buffered
+     * payments and marks them digested. The rows are locked, so instances racing on the same
+     * college cannot mail them twice. Returns how many payments the digest covered.
+     */
+    @Transactional
+    public int digest(Long cid) {
+        List<CollegePaymentNotification> items =
+                notificationRepository.findByDigestedAtIsNullAndCollegeCidOrderByIdAsc(cid, Limit.of(maxPayments));
+        if (items.isEmpty()) {
+            return 0;
+        }
+        College college = items.get(0).getCollege();
+        if (college.getContactEmail() == null) {
+            logger.warn("[PAYMENT] College {} has no contact email, dropping {} payment notifications", cid, items.size());
+        } else {
+            emailService.sendEmail(college.getContactEmail(), subject(items), body(college, items));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        items.forEach(item -> item.setDigestedAt(now));
+        notificationRepository.saveAll(items);
+        return items.size();
+    }
+
+    private static String subject(List<CollegePaymentNotification> items) {
+        return items.size() == 1
+                ? "New Payment Received - Event Registration"
+                : String.format("%d New Payments Received - Event Registrations", items.size());
+    }
+
+    private static String body(College college, List<CollegePaymentNotification> items) {
+        // Insertion-ordered so totals follow the order payments arrived in
+        Map<String, long[]> byCurrency = new LinkedHashMap<>();
+        Map<String, Map<String, long[]>> byEvent = new LinkedHashMap<>();
+        for (CollegePaymentNotification item : items) {
+            add(byCurrency.computeIfAbsent(item.getCurrency(), c -> new long[2]), item.getAmount());
+            add(byEvent.computeIfAbsent(item.getEventName(), e -> new LinkedHashMap<>())
+                    .computeIfAbsent(item.getCurrency(), c -> new long[2]), item.getAmount());
+        }
+
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Dear %s,\n\n", college.getCname()));
+        text.append(String.format("%d new %s received for your events between %s and %s.\n\n",
+                items.size(), items.size() == 1 ? "payment was" : "payments were",
+                items.get(0).getPaidAt().format(TIME), items.get(items.size() - 1).getPaidAt().format(TIME)));
+        text.append("Total:\n");
+        byCurrency.forEach((currency, total) -> text.append(String.format("- %d %s (%s)\n", total[0], currency, payments(total[1]))));
+        text.append("\nBy event:\n");
+        byEvent.forEach((event, totals) -> totals.forEach((currency, total) ->
+                text.append(String.format("- %s: %d %s (%s)\n", event, total[0], currency, payments(total[1])))));
+        text.append("\nPayments:\n");
+        for (CollegePaymentNotification item : items) {
+            text.append(String.format("- %s | %s (%s) | %s | %d %s | Payment ID: %s | Order ID: %s\n",
+                    item.getPaidAt().format(TIME), item.getStudentName(), item.getStudentEmail(), item.getEventName(),
+                    item.getAmount(), item.getCurrency(), item.getPaymentId(), item.getOrderId()));
+        }
+        text.append("\nThe payments have been credited to your account.\n\n- Unbound Platform Team");
+        return text.toString();
+    }
+
+    private static String payments(long count) {
+        return count == 1 ? "1 payment" : count + " payments";
+    }
+
+    // total[0] is the amount, total[1] the number of payments
+    private static void add(long[] total, int amount) {
+        total[0] += amount;
+        total[1]++;
+    }
+}
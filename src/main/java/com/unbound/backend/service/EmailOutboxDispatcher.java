@@ -0,0 +1,133 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.EmailOutbox;
+import com.unbound.backend.repository.EmailOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Delivers queued {@link EmailOutbox} rows. Each poll sends up to a batch of due messages through a
+ * single {@link JavaMailSender#send(SimpleMailMessage...)} call, which opens one SMTP connection for
+ * the whole batch. Failed messages are retried with exponential backoff and marked DEAD once they
+ * run out of attempts. No database transaction is held while talking to the mail server. A lease
+ * in job_lease keeps delivery to one instance at a time, so two nodes never send the same rows;
+ * it is renewed before each further batch.
+ */
+@Service
+public class EmailOutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    static final String LEASE = "email-outbox";
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private JavaMailSender mailSender;
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+    @Value("${email.outbox.initial-backoff-ms:30000}")
+    private long initialBackoffMs;
+    @Value("${email.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+    @Value("${email.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    @Scheduled(initialDelayString = "${email.outbox.poll-interval-ms:5000}", fixedDelayString = "${email.outbox.poll-interval-ms:5000}")
+    public synchronized void dispatch() {
+        Duration lease = Duration.ofMillis(leaseMs);
+        if (!jobLeaseService.tryAcquire(LEASE, lease)) {
+            logger.debug("[EMAIL] Outbox is being dispatched by another instance");
+            return;
+        }
+        try {
+            List<EmailOutbox> due;
+            do {
+                due = emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        EmailOutbox.Status.PENDING, LocalDateTime.now(), Limit.of(batchSize));
+                if (!due.isEmpty()) {
+                    sendBatch(due);
+                }
+            } while (due.size() == batchSize && jobLeaseService.tryAcquire(LEASE, lease));
+        } finally {
+            jobLeaseService.release(LEASE);
+        }
+    }
+
+    private void sendBatch(List<EmailOutbox> batch) {
+        // SimpleMailMessage equality is by content, so failures are matched back by identity.
+        Map<SimpleMailMessage, EmailOutbox> rows = new IdentityHashMap<>();
+        for (EmailOutbox row : batch) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(row.getRecipient());
+            message.setSubject(row.getSubject());
+            message.setText(row.getBody());
+            rows.put(message, row);
+        }
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(rows.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            failures.putAll(e.getFailedMessages());
+            if (failures.isEmpty()) {
+                rows.keySet().forEach(message -> failures.put(message, e));
+            }
+        } catch (MailException e) {
+            // Authentication or connection failure: nothing in the batch was sent
+            rows.keySet().forEach(message -> failures.put(message, e));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        for (Map.Entry<SimpleMailMessage, EmailOutbox> entry : rows.entrySet()) {
+            EmailOutbox row = entry.getValue();
+            row.setAttempts(row.getAttempts() + 1);
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                row.setStatus(EmailOutbox.Status.SENT);
+                row.setSentAt(now);
+                row.setLastError(null);
+                sent++;
+            } else {
+                row.setLastError(truncate(String.valueOf(failure.getMessage()), 1000));
+                if (row.getAttempts() >= maxAttempts) {
+                    row.setStatus(EmailOutbox.Status.DEAD);
+                    logger.error("[EMAIL] Giving up on email {} to {} after {} attempts: {}", row.getId(), row.getRecipient(), row.getAttempts(), row.getLastError());
+                } else {
+                    row.setNextAttemptAt(now.plusNanos(backoffMs(row.getAttempts()) * 1_000_000));
+                    logger.warn("[EMAIL] Email {} to {} failed (attempt {}), retrying at {}: {}", row.getId(), row.getRecipient(), row.getAttempts(), row.getNextAttemptAt(), row.getLastError());
+                }
+            }
+        }
+        emailOutboxRepository.saveAll(rows.values());
+        logger.info("[EMAIL] Dispatched {} of {} queued emails", sent, rows.size());
+    }
+
+    // initial, 2x, 4x, ... capped at the maximum
+    private long backoffMs(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMs, initialBackoffMs << doublings);
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+}
@@ -1,25 +1,36 @@
 package com.unbound.backend.service;
 
+import com.unbound.backend.entity.EmailOutbox;
+import com.unbound.backend.repository.EmailOutboxRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
+/**
+ * Queues outgoing mail in the email_outbox table. The row joins the caller's transaction, so a
+ * message is only sent if the work that produced it commits, and the request never waits on SMTP.
+ * {@link EmailOutboxDispatcher} delivers queued rows in the background.
+ */
 @Service
 public class EmailService {
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
     @Autowired
-    private JavaMailSender mailSender;
+    private EmailOutboxRepository emailOutboxRepository;
 
     public void sendEmail(String to, String subject, String body) {
-        logger.info("[EMAIL] Sending email to: {} with subject: {}", to, subject);
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(body);
-        mailSender.send(message);
-        logger.info("[EMAIL] Email sent to: {}", to);
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox message = emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .status(EmailOutbox.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        logger.info("[EMAIL] Queued email {} to: {} with subject: {}", message.getId(), to, subject);
     }
-} 
\ No newline at end of file
+}
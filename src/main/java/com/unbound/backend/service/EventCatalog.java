@@ -0,0 +1,117 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.EventSummary;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Serves date-ordered explore pages from an in-process {@link EventCatalogSnapshot} of approved,
+ * active events. Writers update the row map and publish a freshly built snapshot (copy-on-write);
+ * readers take whichever snapshot is current and never lock. A scheduled reload picks up changes
+ * that don't publish a {@link CatalogChangedEvent}, such as a college renaming itself.
+ */
+@Service
+public class EventCatalog {
+    private static final Logger logger = LoggerFactory.getLogger(EventCatalog.class);
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ExploreService exploreService;
+
+    private volatile EventCatalogSnapshot snapshot; // null until the first load
+    private final Map<Long, EventSummary> rows = new HashMap<>(); // Guarded by this
+    private volatile long lastRebuildMillis;
+    private volatile long lastRebuildAt;
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public ExplorePage<EventSummary> findEvents(EventSearchCriteria criteria, String cursor, Integer limit) {
+        EventCatalogSnapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Event catalog is not loaded yet");
+        }
+        return current.find(criteria, KeysetCursor.decode(cursor), ExploreService.pageSize(limit));
+    }
+
+    /**
+     * Size and freshness of the current snapshot.
+     */
+    public Map<String, Object> stats() {
+        EventCatalogSnapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("loaded", current != null);
+        stats.put("events", current != null ? current.size() : 0);
+        stats.put("estimatedBytes", current != null ? current.estimatedBytes() : 0);
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        stats.put("lastRebuildAt", lastRebuildAt);
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${catalog.reload-interval-ms:900000}", fixedDelayString = "${catalog.reload-interval-ms:900000}")
+    public synchronized void reload() {
+        Map<Long, EventSummary> loaded = new HashMap<>();
+        exploreService.forEachPublicEventBatch(LOAD_BATCH_SIZE, batch -> batch.forEach(event -> loaded.put(event.getEid(), EventSummary.of(event))));
+        rows.clear();
+        rows.putAll(loaded);
+        publish();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogChangedEvent.INDEX_ORDER)
+    public synchronized void onCatalogChanged(CatalogChangedEvent change) {
+        if (change.kind() == CatalogChangedEvent.Kind.EVENT) {
+            rows.remove(change.id());
+            if (!change.removed()) {
+                eventRepository.findAll(EventSpecifications.idIn(List.of(change.id()))).stream()
+                        .filter(event -> event.isApproved() && event.isActive())
+                        .forEach(this::put);
+            }
+        } else {
+            // Fest renames and removals show up in the fest name column of its events.
+            rows.values().removeIf(row -> change.id().equals(row.getFestId()));
+            if (!change.removed()) {
+                eventRepository.findAll(EventSpecifications.explore(EventSearchCriteria.builder().build(), null)
+                        .and((root, query, cb) -> cb.equal(root.get("fest").get("fid"), change.id())))
+                        .forEach(this::put);
+            }
+        }
+        publish();
+    }
+
+    private void put(Event event) {
+        rows.put(event.getEid(), EventSummary.of(event));
+    }
+
+    private void publish() {
+        long started = System.nanoTime();
+        EventCatalogSnapshot next = EventCatalogSnapshot.build(rows.values());
+        snapshot = next;
+        lastRebuildMillis = (System.nanoTime() - started) / 1_000_000;
+        lastRebuildAt = System.currentTimeMillis();
+        logger.debug("[CATALOG] Published snapshot of {} events (~{} bytes) in {} ms",
+                next.size(), next.estimatedBytes(), lastRebuildMillis);
+    }
+}
@@ -0,0 +1,213 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.EventSummary;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.repository.KeysetCursor;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Immutable column-per-field copy of the public event catalog, rows ordered by (eventDate, eid)
+ * exactly as the SQL explore query orders them. Low-cardinality text columns are dictionary
+ * encoded, so a "contains" filter is resolved once against the dictionary and then compared as
+ * ints per row. Filtering only reads primitive arrays; the prebuilt summaries are handed out
+ * for the rows that make the page.
+ */
+final class EventCatalogSnapshot {
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+
+    private final int size;
+    private final long[] eids;
+    private final int[] epochDays; // Sort key
+    private final int[] fees;
+    private final byte[] teamAllowed; // -1 unknown, 0 no, 1 yes
+    private final int[] categories;
+    private final int[] modes;
+    private final int[] cities;
+    private final int[] states;
+    private final String[] categoryDict;
+    private final String[] modeDict;
+    private final String[] cityDict;
+    private final String[] stateDict;
+    private final String[] names;
+    private final String[] festNames;
+    private final String[] collegeNames;
+    private final EventSummary[] summaries;
+
+    private EventCatalogSnapshot(List<EventSummary> rows) {
+        size = rows.size();
+        eids = new long[size];
+        epochDays = new int[size];
+        fees = new int[size];
+        teamAllowed = new byte[size];
+        categories = new int[size];
+        modes = new int[size];
+        cities = new int[size];
+        states = new int[size];
+        names = new String[size];
+        festNames = new String[size];
+        collegeNames = new String[size];
+        summaries = rows.toArray(new EventSummary[0]);
+
+        Map<String, Integer> categoryCodes = new HashMap<>();
+        Map<String, Integer> modeCodes = new HashMap<>();
+        Map<String, Integer> cityCodes = new HashMap<>();
+        Map<String, Integer> stateCodes = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            EventSummary row = rows.get(i);
+            eids[i] = row.getEid();
+            epochDays[i] = epochDay(row.getEventDate());
+            fees[i] = row.getFees() != null ? row.getFees() : NULL_INT;
+            teamAllowed[i] = row.getTeamIsAllowed() == null ? -1 : (byte) (row.getTeamIsAllowed() ? 1 : 0);
+            categories[i] = encode(categoryCodes, row.getCategory());
+            modes[i] = encode(modeCodes, row.getMode());
+            cities[i] = encode(cityCodes, row.getCity());
+            states[i] = encode(stateCodes, row.getState());
+            names[i] = lower(row.getEname());
+            festNames[i] = lower(row.getFestName());
+            collegeNames[i] = lower(row.getCollegeName());
+        }
+        categoryDict = dictionary(categoryCodes);
+        modeDict = dictionary(modeCodes);
+        cityDict = dictionary(cityCodes);
+        stateDict = dictionary(stateCodes);
+    }
+
+    static EventCatalogSnapshot build(Collection<EventSummary> rows) {
+        List<EventSummary> ordered = new ArrayList<>(rows);
+        ordered.sort(Comparator.comparing(EventSummary::getEventDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+                .thenComparing(EventSummary::getEid));
+        return new EventCatalogSnapshot(ordered);
+    }
+
+    int size() {
+        return size;
+    }
+
+    ExplorePage<EventSummary> find(EventSearchCriteria criteria, KeysetCursor after, int limit) {
+        String name = needle(criteria.getName());
+        String fest = needle(criteria.getFest());
+        String college = needle(criteria.getCollege());
+        boolean[] category = allowedCodes(categoryDict, criteria.getCategory());
+        boolean[] mode = allowedCodes(modeDict, criteria.getMode());
+        boolean[] city = allowedCodes(cityDict, criteria.getCity());
+        boolean[] state = allowedCodes(stateDict, criteria.getState());
+        int startDay = epochDay(criteria.getStartDate());
+        int endDay = epochDay(criteria.getEndDate());
+        Integer minFee = criteria.getMinFee();
+        Integer maxFee = criteria.getMaxFee();
+        int team = criteria.getTeamAllowed() == null ? NULL_CODE : (criteria.getTeamAllowed() ? 1 : 0);
+
+        List<EventSummary> items = new ArrayList<>(limit);
+        boolean hasMore = false;
+        for (int i = after == null ? 0 : startAfter(after); i < size; i++) {
+            if ((name != null && (names[i] == null || !names[i].contains(name)))
+                    || (fest != null && (festNames[i] == null || !festNames[i].contains(fest)))
+                    || (college != null && (collegeNames[i] == null || !collegeNames[i].contains(college)))
+                    || !matches(category, categories[i]) || !matches(mode, modes[i])
+                    || !matches(city, cities[i]) || !matches(state, states[i])
+                    || (startDay != NULL_INT && (epochDays[i] == NULL_INT || epochDays[i] < startDay))
+                    || (endDay != NULL_INT && (epochDays[i] == NULL_INT || epochDays[i] > endDay))
+                    || (minFee != null && (fees[i] == NULL_INT || fees[i] < minFee))
+                    || (maxFee != null && (fees[i] == NULL_INT || fees[i] > maxFee))
+                    || (team != NULL_CODE && teamAllowed[i] != team)) {
+                continue;
+            }
+            if (items.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            items.add(summaries[i]);
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            EventSummary last = items.get(items.size() - 1);
+            nextCursor = KeysetCursor.of(last.getEventDate(), last.getEid()).encode();
+        }
+        return new ExplorePage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Rough retained size of the columns and summaries, for monitoring.
+     */
+    long estimatedBytes() {
+        long bytes = (long) size * (8 + 4 * 6 + 1);
+        for (String[] dict : List.of(categoryDict, modeDict, cityDict, stateDict)) {
+            for (String value : dict) {
+                bytes += stringBytes(value);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            bytes += stringBytes(names[i]) + stringBytes(festNames[i]) + stringBytes(collegeNames[i]);
+            EventSummary s = summaries[i];
+            bytes += 144 + stringBytes(s.getEname()) + stringBytes(s.getCategory()) + stringBytes(s.getMode())
+                    + stringBytes(s.getLocation()) + stringBytes(s.getCity()) + stringBytes(s.getState())
+                    + stringBytes(s.getPosterThumbnailUrl())
+                    + stringBytes(s.getCollegeName()) + stringBytes(s.getFestName());
+        }
+        return bytes;
+    }
+
+    // First row strictly after the cursor in (eventDate, eid) order.
+    private int startAfter(KeysetCursor after) {
+        int afterDay = epochDay(after.dateKey());
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < afterDay || (epochDays[mid] == afterDay && eids[mid] <= after.id())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean matches(boolean[] allowed, int code) {
+        return allowed == null || (code != NULL_CODE && allowed[code]);
+    }
+
+    // Codes of dictionary values containing the filter text, or null when there is no filter.
+    private static boolean[] allowedCodes(String[] dictionary, String filter) {
+        String needle = needle(filter);
+        if (needle == null) {
+            return null;
+        }
+        boolean[] allowed = new boolean[dictionary.length];
+        for (int code = 0; code < dictionary.length; code++) {
+            allowed[code] = dictionary[code].contains(needle);
+        }
+        return allowed;
+    }
+
+    private static int encode(Map<String, Integer> codes, String value) {
+        String key = lower(value);
+        return key == null ? NULL_CODE : codes.computeIfAbsent(key, k -> codes.size());
+    }
+
+    private static String[] dictionary(Map<String, Integer> codes) {
+        String[] values = new String[codes.size()];
+        codes.forEach((value, code) -> values[code] = value);
+        return values;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date == null ? NULL_INT : Math.toIntExact(date.toEpochDay());
+    }
+
+    private static String needle(String filter) {
+        return filter == null || filter.isBlank() ? null : filter.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+}
@@ -26,19 +26,17 @@ public class EventReminderService {
     public void sendEventReminders() {
         logger.info("[REMINDER] Sending event reminders");
         LocalDate tomorrow = LocalDate.now().plusDays(1);
-        List<Event> events = eventRepository.findAll();
+        List<Event> events = eventRepository.findByEventDate(tomorrow);
         for (Event event : events) {
-            if (tomorrow.toString().equals(event.getEventDate())) {
-                List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
-                for (EventRegistration reg : regs) {
-                    Student student = reg.getStudent();
-                    emailService.sendEmail(
-                        student.getUser().getEmail(),
-                        "Event Reminder - " + event.getEname(),
-                        String.format("Dear %s,\n\nThis is a reminder for your upcoming event '%s'.\nEvent Date: %s\nLocation: %s\n\nSee you there!\n\n- Unbound Platform Team",
-                            student.getSname(), event.getEname(), event.getEventDate(), event.getLocation())
-                    );
-                }
+            List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
+            for (EventRegistration reg : regs) {
+                Student student = reg.getStudent();
+                emailService.sendEmail(
+                    student.getUser().getEmail(),
+                    "Event Reminder - " + event.getEname(),
+                    String.format("Dear %s,\n\nThis is a reminder for your upcoming event '%s'.\nEvent Date: %s\nLocation: %s\n\nSee you there!\n\n- Unbound Platform Team",
+                        student.getSname(), event.getEname(), event.getEventDate(), event.getLocation())
+                );
             }
         }
         logger.info("[REMINDER] Event reminders sent");
@@ -0,0 +1,109 @@
+package com.unbound.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Size- and TTL-bounded LRU cache of serialized public explore responses, keyed by normalized
+ * request parameters. Any {@link CatalogChangedEvent} empties it. Entries carry a strong ETag
+ * derived from the body, so clients revalidating with If-None-Match get a 304.
+ */
+@Service
+public class ExploreResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ExploreResponseCache.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${explore.cache.max-entries:1000}")
+    private int maxEntries;
+    @Value("${explore.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+    @Value("${explore.cache.stale-while-revalidate-seconds:60}")
+    private long staleWhileRevalidateSeconds;
+
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    // Bumped on every invalidation so a response computed before it is not stored after it.
+    private long generation;
+
+    public record CachedResponse(byte[] body, String etag, long expiresAt) {
+    }
+
+    /**
+     * Serves the cached body for {@code key}, computing and caching it on a miss. Spring answers
+     * 304 itself when the request's If-None-Match matches the returned ETag.
+     */
+    public ResponseEntity<byte[]> respond(String key, Supplier<Object> loader) {
+        CachedResponse cached = getOrCompute(key, loader);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cached.etag())
+                .cacheControl(CacheControl.maxAge(ttlSeconds, TimeUnit.SECONDS)
+                        .cachePublic()
+                        .staleWhileRevalidate(staleWhileRevalidateSeconds, TimeUnit.SECONDS))
+                .body(cached.body());
+    }
+
+    CachedResponse getOrCompute(String key, Supplier<Object> loader) {
+        long startedAt;
+        synchronized (this) {
+            CachedResponse hit = entries.get(key);
+            if (hit != null && hit.expiresAt() > System.currentTimeMillis()) {
+                return hit;
+            }
+            entries.remove(key);
+            startedAt = generation;
+        }
+        CachedResponse fresh = serialize(loader.get());
+        synchronized (this) {
+            if (startedAt == generation) {
+                entries.put(key, fresh);
+            }
+        }
+        return fresh;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogChangedEvent.CACHE_ORDER)
+    public synchronized void onCatalogChanged(CatalogChangedEvent change) {
+        generation++;
+        if (!entries.isEmpty()) {
+            logger.debug("[EXPLORE] Cache cleared ({} entries) after {} {} changed", entries.size(), change.kind(), change.id());
+            entries.clear();
+        }
+    }
+
+    private CachedResponse serialize(Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 27) + "\"";
+            return new CachedResponse(bytes, etag, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to serialize explore response", e);
+        }
+    }
+}
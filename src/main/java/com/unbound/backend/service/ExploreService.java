@@ -0,0 +1,124 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.dto.FestSearchCriteria;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.repository.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Service
+public class ExploreService {
+    private static final Logger logger = LoggerFactory.getLogger(ExploreService.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Sort EVENT_ORDER = Sort.by("eventDate").ascending().and(Sort.by("eid").ascending());
+    private static final Sort FEST_ORDER = Sort.by("startDate").ascending().and(Sort.by("fid").ascending());
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private FestRepository festRepository;
+
+    @Transactional(readOnly = true)
+    public ExplorePage<Event> findEvents(EventSearchCriteria criteria, String cursor, Integer limit) {
+        int size = pageSize(limit);
+        List<Event> rows = eventRepository.findBy(
+                EventSpecifications.explore(criteria, KeysetCursor.decode(cursor)),
+                q -> q.sortBy(EVENT_ORDER).limit(size + 1).all());
+        logger.debug("[EXPLORE] Event page fetched: {} rows (limit {})", rows.size(), size);
+        return toPage(rows, size, e -> KeysetCursor.of(e.getEventDate(), e.getEid()));
+    }
+
+    @Transactional(readOnly = true)
+    public ExplorePage<Fest> findFests(FestSearchCriteria criteria, String cursor, Integer limit) {
+        int size = pageSize(limit);
+        List<Fest> rows = festRepository.findBy(
+                FestSpecifications.explore(criteria, KeysetCursor.decode(cursor)),
+                q -> q.sortBy(FEST_ORDER).limit(size + 1).all());
+        logger.debug("[EXPLORE] Fest page fetched: {} rows (limit {})", rows.size(), size);
+        return toPage(rows, size, f -> KeysetCursor.of(f.getStartDate(), f.getFid()));
+    }
+
+    /**
+     * Walks every approved, active event in keyset order, one batch at a time, so in-memory
+     * indexes can load the catalog without holding it all at once.
+     */
+    public void forEachPublicEventBatch(int batchSize, Consumer<List<Event>> consumer) {
+        forEachEventBatch(EventSearchCriteria.builder().build(), batchSize, consumer);
+    }
+
+    public void forEachPublicFestBatch(int batchSize, Consumer<List<Fest>> consumer) {
+        forEachFestBatch(FestSearchCriteria.builder().build(), batchSize, consumer);
+    }
+
+    /**
+     * Walks every event matching {@code criteria} in keyset order. Each batch is a separate short
+     * query, so no connection or persistence context is held between batches and memory stays
+     * bounded by {@code batchSize} however large the result is.
+     */
+    public void forEachEventBatch(EventSearchCriteria criteria, int batchSize, Consumer<List<Event>> consumer) {
+        KeysetCursor after = null;
+        while (true) {
+            KeysetCursor position = after;
+            List<Event> batch = eventRepository.findBy(EventSpecifications.explore(criteria, position),
+                    q -> q.sortBy(EVENT_ORDER).limit(batchSize).all());
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+            if (batch.size() < batchSize) {
+                return;
+            }
+            Event last = batch.get(batch.size() - 1);
+            after = KeysetCursor.of(last.getEventDate(), last.getEid());
+        }
+    }
+
+    public void forEachFestBatch(FestSearchCriteria criteria, int batchSize, Consumer<List<Fest>> consumer) {
+        KeysetCursor after = null;
+        while (true) {
+            KeysetCursor position = after;
+            List<Fest> batch = festRepository.findBy(FestSpecifications.explore(criteria, position),
+                    q -> q.sortBy(FEST_ORDER).limit(batchSize).all());
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+            if (batch.size() < batchSize) {
+                return;
+            }
+            Fest last = batch.get(batch.size() - 1);
+            after = KeysetCursor.of(last.getStartDate(), last.getFid());
+        }
+    }
+
+    public static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    // One extra row is fetched to learn whether another page exists without a COUNT query.
+    private static <T> ExplorePage<T> toPage(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new ExplorePage<>(items, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,293 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.FacetCount;
+import com.unbound.backend.repository.KeysetCursor;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Roaring bitmaps per facet value over one kind of catalog item (events or fests).
+ * Filters within a facet are OR-ed and across facets AND-ed. Counts for a facet ignore that
+ * facet's own filter, so the UI can show how many results each alternative value would give.
+ * Bitmaps hold ordinals numbered in (sortKey, id) order rather than ids, so a page is read by
+ * walking the matches from the cursor's position and stopping after one row more than the page.
+ * An item added out of order, or whose sort key changes, is appended and the ordinals are
+ * renumbered once before the next query.
+ */
+final class FacetIndex {
+    private static final int MIN_RENUMBER_GAP = 1024;
+
+    private final List<String> facets;
+    private final Map<String, Map<String, RoaringBitmap>> bitmaps = new HashMap<>();
+    // Display label per normalized value, from the first item that used it.
+    private final Map<String, Map<String, String>> labels = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap(); // Ordinals of live docs
+    // Doc per assigned ordinal; a removed doc keeps its slot (outside all) until the next renumber.
+    private Doc[] byOrdinal = new Doc[64];
+    private int nextOrdinal;
+    private volatile boolean renumber;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final class Doc {
+        final long id;
+        final String sortKey;
+        final Map<String, String> values;
+        int ordinal;
+
+        Doc(long id, String sortKey, Map<String, String> values) {
+            this.id = id;
+            this.sortKey = sortKey;
+            this.values = values;
+        }
+
+        int compareTo(String otherKey, long otherId) {
+            int cmp = sortKey.compareTo(otherKey);
+            return cmp != 0 ? cmp : Long.compare(id, otherId);
+        }
+    }
+
+    record Result(List<Long> ids, KeysetCursor next, boolean hasMore, int total, Map<String, List<FacetCount>> counts) {
+    }
+
+    FacetIndex(List<String> facets) {
+        this.facets = List.copyOf(facets);
+        for (String facet : facets) {
+            bitmaps.put(facet, new HashMap<>());
+            labels.put(facet, new HashMap<>());
+        }
+    }
+
+    List<String> facets() {
+        return facets;
+    }
+
+    /**
+     * Adds or replaces an item. {@code labelsByFacet} maps facet name to the item's raw value;
+     * blank values leave the item out of that facet.
+     */
+    void put(Long id, String sortKey, Map<String, String> labelsByFacet) {
+        lock.writeLock().lock();
+        try {
+            Map<String, String> values = new HashMap<>();
+            for (String facet : facets) {
+                String label = labelsByFacet.get(facet);
+                if (label != null && !label.isBlank()) {
+                    values.put(facet, normalize(label));
+                }
+            }
+            Doc doc = new Doc(id, sortKey, values);
+            Doc previous = docs.get(id);
+            if (previous != null && previous.sortKey.equals(sortKey)) {
+                // Same position: reuse the ordinal, only facet membership changes.
+                unindex(previous);
+                doc.ordinal = previous.ordinal;
+            } else {
+                if (previous != null) {
+                    removeLocked(previous);
+                }
+                doc.ordinal = append(doc);
+            }
+            docs.put(id, doc);
+            byOrdinal[doc.ordinal] = doc;
+            index(doc, labelsByFacet);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Doc previous = docs.get(id);
+            if (previous != null) {
+                removeLocked(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            bitmaps.values().forEach(Map::clear);
+            labels.values().forEach(Map::clear);
+            docs.clear();
+            all.clear();
+            byOrdinal = new Doc[64];
+            nextOrdinal = 0;
+            renumber = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Result query(Map<String, Set<String>> filters, KeysetCursor after, int size) {
+        lock.readLock().lock();
+        try {
+            while (renumber) {
+                lock.readLock().unlock();
+                lock.writeLock().lock();
+                try {
+                    if (renumber) {
+                        renumberLocked();
+                    }
+                } finally {
+                    // Downgrade, so no write can slip in between the renumber and the read.
+                    lock.readLock().lock();
+                    lock.writeLock().unlock();
+                }
+            }
+
+            Map<String, RoaringBitmap> selected = new HashMap<>();
+            for (String facet : facets) {
+                Set<String> wanted = filters.get(facet);
+                if (wanted == null || wanted.isEmpty()) {
+                    continue;
+                }
+                RoaringBitmap union = new RoaringBitmap();
+                for (String value : wanted) {
+                    RoaringBitmap bitmap = bitmaps.get(facet).get(normalize(value));
+                    if (bitmap != null) {
+                        union.or(bitmap);
+                    }
+                }
+                selected.put(facet, union);
+            }
+
+            RoaringBitmap matches = intersect(selected, null);
+            Map<String, List<FacetCount>> counts = new LinkedHashMap<>();
+            for (String facet : facets) {
+                RoaringBitmap base = selected.containsKey(facet) ? intersect(selected, facet) : matches;
+                List<FacetCount> facetCounts = new ArrayList<>();
+                for (Map.Entry<String, RoaringBitmap> entry : bitmaps.get(facet).entrySet()) {
+                    int count = RoaringBitmap.andCardinality(base, entry.getValue());
+                    if (count > 0) {
+                        facetCounts.add(new FacetCount(entry.getKey(), labels.get(facet).get(entry.getKey()), count));
+                    }
+                }
+                facetCounts.sort(Comparator.comparingLong(FacetCount::getCount).reversed().thenComparing(FacetCount::getValue));
+                counts.put(facet, facetCounts);
+            }
+
+            // Ordinals are in page order, so the page is the first size matches from the cursor on.
+            PeekableIntIterator it = matches.getIntIterator();
+            if (after != null) {
+                it.advanceIfNeeded(firstOrdinalAfter(after));
+            }
+            List<Long> ids = new ArrayList<>(size);
+            boolean hasMore = false;
+            Doc last = null;
+            while (it.hasNext()) {
+                Doc doc = byOrdinal[it.next()];
+                if (ids.size() == size) {
+                    hasMore = true;
+                    break;
+                }
+                ids.add(doc.id);
+                last = doc;
+            }
+            KeysetCursor next = hasMore ? new KeysetCursor(last.sortKey, last.id) : null;
+            return new Result(ids, next, hasMore, matches.getCardinality(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap intersect(Map<String, RoaringBitmap> selected, String excludedFacet) {
+        RoaringBitmap result = all.clone();
+        for (Map.Entry<String, RoaringBitmap> entry : selected.entrySet()) {
+            if (!entry.getKey().equals(excludedFacet)) {
+                result.and(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    // Next free ordinal; flags a renumber when the doc does not sort after every ordinal in use.
+    private int append(Doc doc) {
+        if (nextOrdinal > 0) {
+            Doc tail = byOrdinal[nextOrdinal - 1];
+            if (tail.compareTo(doc.sortKey, doc.id) >= 0) {
+                renumber = true;
+            }
+        }
+        if (nextOrdinal == byOrdinal.length) {
+            byOrdinal = Arrays.copyOf(byOrdinal, byOrdinal.length * 2);
+        }
+        return nextOrdinal++;
+    }
+
+    private void index(Doc doc, Map<String, String> labelsByFacet) {
+        for (Map.Entry<String, String> entry : doc.values.entrySet()) {
+            bitmaps.get(entry.getKey()).computeIfAbsent(entry.getValue(), v -> new RoaringBitmap()).add(doc.ordinal);
+            labels.get(entry.getKey()).putIfAbsent(entry.getValue(), labelsByFacet.get(entry.getKey()).trim());
+        }
+        all.add(doc.ordinal);
+    }
+
+    private void unindex(Doc doc) {
+        for (Map.Entry<String, String> entry : doc.values.entrySet()) {
+            Map<String, RoaringBitmap> facetBitmaps = bitmaps.get(entry.getKey());
+            RoaringBitmap bitmap = facetBitmaps.get(entry.getValue());
+            bitmap.remove(doc.ordinal);
+            if (bitmap.isEmpty()) {
+                facetBitmaps.remove(entry.getValue());
+                labels.get(entry.getKey()).remove(entry.getValue());
+            }
+        }
+        all.remove(doc.ordinal);
+    }
+
+    private void removeLocked(Doc doc) {
+        unindex(doc);
+        docs.remove(doc.id);
+        // Reclaim the slots of removed docs once they outnumber the live ones.
+        if (nextOrdinal - docs.size() > Math.max(MIN_RENUMBER_GAP, docs.size())) {
+            renumber = true;
+        }
+    }
+
+    private void renumberLocked() {
+        List<Doc> ordered = new ArrayList<>(docs.values());
+        ordered.sort((a, b) -> a.compareTo(b.sortKey, b.id));
+        byOrdinal = new Doc[Math.max(64, ordered.size() * 2)];
+        all.clear();
+        for (Map<String, RoaringBitmap> facetBitmaps : bitmaps.values()) {
+            facetBitmaps.values().forEach(RoaringBitmap::clear);
+        }
+        for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+            Doc doc = ordered.get(ordinal);
+            doc.ordinal = ordinal;
+            byOrdinal[ordinal] = doc;
+            doc.values.forEach((facet, value) -> bitmaps.get(facet).get(value).add(doc.ordinal));
+            all.add(ordinal);
+        }
+        nextOrdinal = ordered.size();
+        renumber = false;
+    }
+
+    // First ordinal strictly after the cursor in (sortKey, id) order.
+    private int firstOrdinalAfter(KeysetCursor after) {
+        int low = 0;
+        int high = nextOrdinal;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byOrdinal[mid].compareTo(after.sortKey(), after.id()) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
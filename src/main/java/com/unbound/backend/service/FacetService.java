@@ -0,0 +1,134 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.FacetedPage;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Faceted explore over approved, active events and fests. Facet membership lives in
+ * {@link FacetIndex} bitmaps kept current by {@link CatalogChangedEvent}s; only the page of
+ * matching rows is read from MySQL.
+ */
+@Service
+public class FacetService {
+    private static final Logger logger = LoggerFactory.getLogger(FacetService.class);
+
+    public static final List<String> EVENT_FACETS = List.of("category", "mode", "city", "state", "fee");
+    public static final List<String> FEST_FACETS = List.of("mode", "city", "state");
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private FestRepository festRepository;
+    @Autowired
+    private ExploreService exploreService;
+
+    private final FacetIndex events = new FacetIndex(EVENT_FACETS);
+    private final FacetIndex fests = new FacetIndex(FEST_FACETS);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long started = System.currentTimeMillis();
+        events.clear();
+        fests.clear();
+        exploreService.forEachPublicEventBatch(LOAD_BATCH_SIZE, batch -> batch.forEach(this::index));
+        exploreService.forEachPublicFestBatch(LOAD_BATCH_SIZE, batch -> batch.forEach(this::index));
+        logger.info("[FACETS] Loaded facet bitmaps in {} ms", System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogChangedEvent.INDEX_ORDER)
+    public synchronized void onCatalogChanged(CatalogChangedEvent change) {
+        if (change.kind() == CatalogChangedEvent.Kind.EVENT) {
+            Event event = change.removed() ? null : eventRepository.findById(change.id()).orElse(null);
+            if (event != null && event.isApproved() && event.isActive()) {
+                index(event);
+            } else {
+                events.remove(change.id());
+            }
+        } else {
+            Fest fest = change.removed() ? null : festRepository.findById(change.id()).orElse(null);
+            if (fest != null && fest.isApproved() && fest.isActive()) {
+                index(fest);
+            } else {
+                fests.remove(change.id());
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public FacetedPage<Event> findEvents(Map<String, Set<String>> filters, String cursor, Integer limit) {
+        FacetIndex.Result result = events.query(filters, KeysetCursor.decode(cursor), ExploreService.pageSize(limit));
+        List<Event> rows = result.ids().isEmpty() ? List.of() : eventRepository.findAll(EventSpecifications.idIn(result.ids()));
+        return toPage(result, inOrder(result.ids(), rows, Event::getEid));
+    }
+
+    @Transactional(readOnly = true)
+    public FacetedPage<Fest> findFests(Map<String, Set<String>> filters, String cursor, Integer limit) {
+        FacetIndex.Result result = fests.query(filters, KeysetCursor.decode(cursor), ExploreService.pageSize(limit));
+        List<Fest> rows = result.ids().isEmpty() ? List.of() : festRepository.findAll(FestSpecifications.idIn(result.ids()));
+        return toPage(result, inOrder(result.ids(), rows, Fest::getFid));
+    }
+
+    /**
+     * Fee facet value for an event: free, 1-100, 101-500, 501-1000 or 1000+.
+     */
+    public static String feeBucket(Integer fees) {
+        if (fees == null || fees <= 0) {
+            return "free";
+        }
+        if (fees <= 100) {
+            return "1-100";
+        }
+        if (fees <= 500) {
+            return "101-500";
+        }
+        if (fees <= 1000) {
+            return "501-1000";
+        }
+        return "1000+";
+    }
+
+    private void index(Event event) {
+        Map<String, String> values = new HashMap<>();
+        values.put("category", event.getCategory());
+        values.put("mode", event.getMode());
+        values.put("city", event.getCity());
+        values.put("state", event.getState());
+        values.put("fee", feeBucket(event.getFees()));
+        events.put(event.getEid(), event.getEventDate().toString(), values);
+    }
+
+    private void index(Fest fest) {
+        Map<String, String> values = new HashMap<>();
+        values.put("mode", fest.getMode());
+        values.put("city", fest.getCity());
+        values.put("state", fest.getState());
+        fests.put(fest.getFid(), fest.getStartDate().toString(), values);
+    }
+
+    private static <T> List<T> inOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, row -> row));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private static <T> FacetedPage<T> toPage(FacetIndex.Result result, List<T> items) {
+        String nextCursor = result.next() != null ? result.next().encode() : null;
+        return new FacetedPage<>(items, nextCursor, result.hasMore(), result.total(), result.counts());
+    }
+}
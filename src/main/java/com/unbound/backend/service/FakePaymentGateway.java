@@ -0,0 +1,129 @@
+package com.unbound.backend.service;
+
+import com.razorpay.Order;
+import com.razorpay.RazorpayException;
+import jakarta.annotation.PostConstruct;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process stand-in for Razorpay, for load-testing order creation offline. Calls succeed after
+ * a configurable latency; a configurable share of attempts fail with a gateway error or hang
+ * until the request timeout, so retries and the circuit breaker can be observed. Half of the
+ * timed-out creates go through anyway, as real ones can, and are found again by receipt. Status lookups
+ * report a configurable share of orders as paid or failed, for exercising reconciliation. Never enable
+ * it in production: its orders do not exist at the gateway.
+ */
+@Service
+@ConditionalOnProperty(name = "payment.gateway.provider", havingValue = "fake")
+public class FakePaymentGateway extends ResilientPaymentGateway {
+    private static final Logger logger = LoggerFactory.getLogger(FakePaymentGateway.class);
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Value("${payment.gateway.fake.latency-ms:100}")
+    private long latencyMs;
+    @Value("${payment.gateway.fake.latency-jitter-ms:50}")
+    private long latencyJitterMs;
+    @Value("${payment.gateway.fake.error-rate:0.0}")
+    private double errorRate;
+    @Value("${payment.gateway.fake.timeout-rate:0.0}")
+    private double timeoutRate;
+    @Value("${payment.gateway.fake.paid-rate:0.8}")
+    private double paidRate;
+    @Value("${payment.gateway.fake.failed-rate:0.1}")
+    private double failedRate;
+
+    // Orders created by attempts that then timed out, until looked up by receipt
+    private final Map<String, Order> unansweredOrders = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        logger.warn("[PAYMENT] Using the fake payment gateway (latency {}±{} ms, error rate {}, timeout rate {})",
+                latencyMs, latencyJitterMs, errorRate, timeoutRate);
+    }
+
+    @Override
+    protected Order sendCreateOrder(JSONObject orderRequest) throws RazorpayException, TransientGatewayException {
+        try {
+            simulateCall();
+        } catch (OutcomeUnknownException e) {
+            String receipt = orderRequest.optString("receipt", null);
+            if (receipt != null && ThreadLocalRandom.current().nextBoolean()) {
+                unansweredOrders.put(receipt, newOrder(orderRequest));
+            }
+            throw e;
+        }
+        return newOrder(orderRequest);
+    }
+
+    @Override
+    protected Order sendFindOrderByReceipt(String receipt) throws RazorpayException, TransientGatewayException {
+        simulateCall();
+        return unansweredOrders.remove(receipt);
+    }
+
+    private Order newOrder(JSONObject orderRequest) throws RazorpayException {
+        int amount = orderRequest.getInt("amount");
+        JSONObject order = new JSONObject();
+        order.put("id", "order_" + IdGenerator.encode(idGenerator.nextId()));
+        order.put("entity", "order");
+        order.put("amount", amount);
+        order.put("amount_paid", 0);
+        order.put("amount_due", amount);
+        order.put("currency", orderRequest.optString("currency", "INR"));
+        order.put("receipt", orderRequest.optString("receipt", null));
+        order.put("status", "created");
+        order.put("attempts", 0);
+        order.put("created_at", System.currentTimeMillis() / 1000);
+        return new Order(order);
+    }
+
+    // The outcome is derived from the order id, so repeated lookups of an order agree.
+    @Override
+    protected OrderStatus sendFetchOrderStatus(String orderId) throws RazorpayException, TransientGatewayException {
+        simulateCall();
+        double outcome = new SplittableRandom(orderId.hashCode()).nextDouble();
+        String paymentId = "pay_" + Integer.toHexString(orderId.hashCode());
+        if (outcome < paidRate) {
+            return new OrderStatus("paid", paymentId);
+        }
+        if (outcome < paidRate + failedRate) {
+            return new OrderStatus("failed", paymentId);
+        }
+        return new OrderStatus("pending", null);
+    }
+
+    private void simulateCall() throws RazorpayException, TransientGatewayException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double roll = random.nextDouble();
+        if (roll < timeoutRate) {
+            pause(requestTimeoutMs);
+            throw new OutcomeUnknownException("HttpTimeoutException: request timed out", null);
+        }
+        pause(latencyMs + (latencyJitterMs > 0 ? random.nextLong(latencyJitterMs + 1) : 0));
+        if (roll < timeoutRate + errorRate) {
+            throw new TransientGatewayException("HTTP 503: simulated gateway error", null);
+        }
+    }
+
+    private static void pause(long ms) throws RazorpayException {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RazorpayException("Interrupted while calling the payment gateway", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.unbound.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered 64-bit ids in the Snowflake layout: 41 bits of milliseconds since 2025-01-01,
+ * a 10-bit node id and a 12-bit per-millisecond sequence, so each node hands out up to 4096 ids
+ * per millisecond without coordinating with the others. The (millisecond, sequence) pair is a
+ * single AtomicLong advanced by compare-and-set, so callers never block: when the sequence runs
+ * out, or the wall clock steps back, the generator carries on from its own last millisecond
+ * rather than waiting. Rendered as 13 characters of Crockford base32, which sort like the ids.
+ * <p>
+ * The node id comes from {@code ids.node-id}; when that is unset the instance leases a free one
+ * through {@link JobLeaseService} ({@code ids-node-<n>}) and keeps renewing it, so two running
+ * instances never share a node id.
+ */
+@Service
+public class IdGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(IdGenerator.class);
+
+    static final long EPOCH_MS = 1735689600000L; // 2025-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    static final String NODE_LEASE_PREFIX = "ids-node-";
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${ids.node-id:-1}")
+    private long configuredNodeId;
+    @Value("${ids.node-lease-ms:600000}")
+    private long nodeLeaseMs;
+
+    private volatile long nodeId;
+    private volatile boolean leased;
+    // (milliseconds since EPOCH_MS << SEQUENCE_BITS) | sequence of the last id handed out
+    private final AtomicLong state = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (configuredNodeId > MAX_NODE) {
+            throw new IllegalStateException("ids.node-id must be between 0 and " + MAX_NODE);
+        }
+        if (configuredNodeId >= 0) {
+            nodeId = configuredNodeId;
+        } else {
+            nodeId = leaseNodeId();
+            leased = true;
+        }
+        logger.info("[IDS] Generating ids as node {}{}", nodeId, leased ? " (leased)" : "");
+    }
+
+    /**
+     * Renews the leased node id well inside its lease. If it was lost anyway, e.g. the database was
+     * unreachable for a whole lease and another instance took it over, moves to a free one.
+     */
+    @Scheduled(initialDelayString = "${ids.node-lease-renew-ms:120000}", fixedDelayString = "${ids.node-lease-renew-ms:120000}")
+    public void renewNodeLease() {
+        if (!leased) {
+            return;
+        }
+        try {
+            if (!jobLeaseService.tryAcquire(NODE_LEASE_PREFIX + nodeId, Duration.ofMillis(nodeLeaseMs))) {
+                long lost = nodeId;
+                nodeId = leaseNodeId();
+                logger.warn("[IDS] Lease on node {} was taken over, now generating ids as node {}", lost, nodeId);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("[IDS] Could not renew the lease on node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void releaseNodeLease() {
+        if (leased) {
+            jobLeaseService.release(NODE_LEASE_PREFIX + nodeId);
+        }
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = System.currentTimeMillis() - EPOCH_MS;
+            // Adding one to an exhausted sequence carries into the next millisecond.
+            long next = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+            if (state.compareAndSet(current, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                        | nodeId << SEQUENCE_BITS
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * A new id rendered as {@code prefix} followed by its base32 form, e.g. {@code RCP0C8TZ4M0A00G1}.
+     */
+    public String next(String prefix) {
+        return prefix + encode(nextId());
+    }
+
+    public long nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * The node that generated an id rendered by {@link #encode}.
+     */
+    public static long nodeOf(String encoded) {
+        return (decode(encoded) >>> SEQUENCE_BITS) & MAX_NODE;
+    }
+
+    // Fixed width, so string order matches numeric order.
+    public static String encode(long id) {
+        char[] out = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(out);
+    }
+
+    static long decode(String encoded) {
+        if (encoded.length() != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Invalid id");
+        }
+        long id = 0;
+        for (int i = 0; i < ENCODED_LENGTH; i++) {
+            int digit = Arrays.binarySearch(ALPHABET, encoded.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid id");
+            }
+            id = id << 5 | digit;
+        }
+        return id;
+    }
+
+    // Starts at a random id so instances booting together do not all contend for the same leases.
+    private long leaseNodeId() {
+        long start = ThreadLocalRandom.current().nextLong(MAX_NODE + 1);
+        for (long i = 0; i <= MAX_NODE; i++) {
+            long candidate = (start + i) & MAX_NODE;
+            if (jobLeaseService.tryAcquire(NODE_LEASE_PREFIX + candidate, Duration.ofMillis(nodeLeaseMs))) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Every node id is leased; set ids.node-id or clear stale " + NODE_LEASE_PREFIX + "* leases");
+    }
+}
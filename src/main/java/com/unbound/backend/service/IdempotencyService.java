@@ -0,0 +1,185 @@
+package com.unbound.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unbound.backend.exception.IdempotencyConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key support for non-repeatable POSTs. The first request with a key runs and its
+ * response is kept for the TTL; a retry with the same key waits for that request if it is still
+ * running and then gets the same response back, marked with {@code Idempotent-Replayed}. Keys are
+ * scoped per endpoint and user, and reusing one with a different body is rejected. Failures
+ * (exceptions and 5xx responses) are not kept, so the client can retry them with the same key.
+ * <p>
+ * Keys live in this node's memory only, so the guarantee holds for retries that reach the same
+ * node and does not survive a restart. At most {@code idempotency.max-keys} are held, the oldest
+ * completed ones going first, and a user may hold {@code idempotency.max-keys-per-user} at once.
+ */
+@Service
+public class IdempotencyService {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+    @Value("${idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+    @Value("${idempotency.max-keys:100000}")
+    private int maxKeys;
+    @Value("${idempotency.max-keys-per-user:1000}")
+    private int maxKeysPerUser;
+
+    // Guarded by itself, as is keysPerUser. Insertion order, so overflow evicts the oldest keys.
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<Integer, Integer> keysPerUser = new HashMap<>();
+
+    private static final class Entry {
+        final Integer uid;
+        final byte[] fingerprint;
+        final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+        volatile long completedAt;
+
+        Entry(Integer uid, byte[] fingerprint) {
+            this.uid = uid;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Runs {@code action} once per (scope, user, key), replaying its response to later requests
+     * with the same key. Without a key the action simply runs.
+     */
+    public ResponseEntity<?> execute(String scope, Integer uid, String key, Object request, Supplier<ResponseEntity<?>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String id = scope + ":" + uid + ":" + key;
+        Entry entry = new Entry(uid, fingerprint(request));
+        Entry existing;
+        synchronized (entries) {
+            existing = entries.get(id);
+            if (existing == null) {
+                if (keysPerUser.getOrDefault(uid, 0) >= maxKeysPerUser) {
+                    throw new IdempotencyConflictException("Too many " + HEADER + " values in use, retry later.");
+                }
+                entries.put(id, entry);
+                keysPerUser.merge(uid, 1, Integer::sum);
+                evictOverflow();
+            }
+        }
+        if (existing != null) {
+            return replay(existing, entry.fingerprint);
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            // Errors too, or duplicates would wait on an entry that never completes or expires
+            forget(id, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            forget(id, entry);
+        }
+        entry.completedAt = System.currentTimeMillis();
+        entry.response.complete(response);
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:300000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        synchronized (entries) {
+            int before = entries.size();
+            entries.values().removeIf(entry -> {
+                boolean expired = entry.response.isDone() && entry.completedAt < cutoff;
+                if (expired) {
+                    releaseSlot(entry.uid);
+                }
+                return expired;
+            });
+            logger.debug("[IDEMPOTENCY] Evicted {} expired keys, {} remaining", before - entries.size(), entries.size());
+        }
+    }
+
+    // Caller holds the entries lock. Keys still in flight are skipped, so a waiting duplicate is never orphaned.
+    private void evictOverflow() {
+        Iterator<Entry> oldest = entries.values().iterator();
+        while (entries.size() > maxKeys && oldest.hasNext()) {
+            Entry entry = oldest.next();
+            if (entry.response.isDone()) {
+                oldest.remove();
+                releaseSlot(entry.uid);
+            }
+        }
+    }
+
+    private void forget(String id, Entry entry) {
+        synchronized (entries) {
+            if (entries.remove(id, entry)) {
+                releaseSlot(entry.uid);
+            }
+        }
+    }
+
+    private void releaseSlot(Integer uid) {
+        keysPerUser.computeIfPresent(uid, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private ResponseEntity<?> replay(Entry existing, byte[] fingerprint) {
+        if (!Arrays.equals(existing.fingerprint, fingerprint)) {
+            throw new IdempotencyConflictException(HEADER + " was already used with a different request body.");
+        }
+        ResponseEntity<?> original;
+        try {
+            original = existing.response.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("A request with this " + HEADER + " is still being processed.");
+        } catch (ExecutionException e) {
+            // The original attempt failed; answer the duplicate the same way.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("A request with this " + HEADER + " is still being processed.");
+        }
+        return ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(original.getBody());
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+}
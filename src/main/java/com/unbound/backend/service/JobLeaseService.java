@@ -0,0 +1,57 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.repository.JobLeaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Time-limited leases in the {@code job_lease} table, so a scheduled job runs on one instance at a
+ * time. A lease that is not renewed expires, letting another instance take over after a crash.
+ * Expiry is judged by each instance's own clock, so instances need roughly synchronised clocks.
+ */
+@Service
+public class JobLeaseService {
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    private final String owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * Takes or renews the lease for {@code ttl}. Returns false while another instance holds it.
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(ttl);
+        if (jobLeaseRepository.claim(name, owner, now, until) == 1) {
+            return true;
+        }
+        // First use of the lease. Not save(): with an assigned id it merges, and would overwrite a
+        // row another instance inserted in the meantime, leaving both believing they hold it.
+        if (jobLeaseRepository.insertIfAbsent(name, owner, until) == 1) {
+            return true;
+        }
+        return jobLeaseRepository.claim(name, owner, now, until) == 1;
+    }
+
+    public void release(String name) {
+        jobLeaseRepository.release(name, owner, LocalDateTime.now());
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.unbound.backend.service;
+
+import com.razorpay.Order;
+import com.razorpay.RazorpayException;
+import org.json.JSONObject;
+
+/**
+ * Creates orders with the payment gateway. {@code payment.gateway.provider} selects the
+ * implementation: {@code razorpay} (default) or {@code fake} for offline load tests.
+ */
+public interface PaymentGateway {
+    /**
+     * Where an order stands at the gateway: {@code paid}, {@code failed} or {@code pending}, in
+     * the same terms as {@code Payment.status}, with the payment that settled it, if any.
+     */
+    record OrderStatus(String status, String paymentId) {}
+
+    /**
+     * Creates an order from Razorpay order fields (amount in paise, currency, receipt, ...).
+     *
+     * @throws RazorpayException if the gateway rejects the order or stays unreachable after retries
+     * @throws com.unbound.backend.exception.PaymentGatewayUnavailableException if the circuit is
+     *         open or too many calls are already in flight
+     */
+    Order createOrder(JSONObject orderRequest) throws RazorpayException;
+
+    /**
+     * Looks up the payments made against an order. Safe to retry.
+     *
+     * @throws RazorpayException if the gateway does not know the order or stays unreachable
+     * @throws com.unbound.backend.exception.PaymentGatewayUnavailableException as for createOrder
+     */
+    OrderStatus fetchOrderStatus(String orderId) throws RazorpayException;
+}
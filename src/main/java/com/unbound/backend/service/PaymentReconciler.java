@@ -0,0 +1,192 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.exception.PaymentGatewayUnavailableException;
+import com.unbound.backend.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Settles payments whose client never called /verify and whose webhook never arrived. Each run
+ * pages through payments still pending between {@code max-age-ms} and {@code stale-after-ms}
+ * old, in (createdAt, pid) order on idx_payment_status_created, asks the gateway about each order
+ * with at most {@code parallelism} calls in flight, and applies what it finds one page per
+ * transaction. A lease in job_lease keeps the job to one instance at a time, and rows are locked
+ * and re-checked before being changed, so nothing is settled twice.
+ */
+@Service
+public class PaymentReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(PaymentReconciler.class);
+
+    static final String LEASE = "payment-reconciliation";
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private PaymentGateway paymentGateway;
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${payment.reconcile.stale-after-ms:900000}")
+    private long staleAfterMs;
+    @Value("${payment.reconcile.max-age-ms:604800000}")
+    private long maxAgeMs;
+    @Value("${payment.reconcile.page-size:100}")
+    private int pageSize;
+    @Value("${payment.reconcile.parallelism:4}")
+    private int parallelism;
+    @Value("${payment.reconcile.lease-ms:300000}")
+    private long leaseMs;
+
+    private ExecutorService executor;
+
+    // Drift found since startup by runs on this instance
+    private final AtomicLong totalChecked = new AtomicLong();
+    private final AtomicLong totalPaid = new AtomicLong();
+    private final AtomicLong totalFailed = new AtomicLong();
+    private final AtomicLong totalErrors = new AtomicLong();
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "payment-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalChecked", totalChecked.get());
+        stats.put("totalPaid", totalPaid.get());
+        stats.put("totalFailed", totalFailed.get());
+        stats.put("totalErrors", totalErrors.get());
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+
+    @Scheduled(initialDelayString = "${payment.reconcile.interval-ms:600000}", fixedDelayString = "${payment.reconcile.interval-ms:600000}")
+    public synchronized void reconcile() {
+        Duration lease = Duration.ofMillis(leaseMs);
+        if (!jobLeaseService.tryAcquire(LEASE, lease)) {
+            logger.debug("[PAYMENT] Reconciliation is running on another instance");
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.minus(Duration.ofMillis(maxAgeMs));
+        LocalDateTime to = now.minus(Duration.ofMillis(staleAfterMs));
+        int checked = 0, stillPending = 0, errors = 0;
+        Map<String, Integer> settled = new HashMap<>();
+        String stoppedBy = null;
+        try {
+            LocalDateTime afterCreatedAt = from;
+            Integer afterPid = 0;
+            List<Payment> page;
+            do {
+                page = paymentRepository.findPageByStatusCreatedBetween("pending", from, to, afterCreatedAt, afterPid, Limit.of(pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                Payment last = page.get(page.size() - 1);
+                afterCreatedAt = last.getCreatedAt();
+                afterPid = last.getPid();
+
+                Map<Integer, PaymentGateway.OrderStatus> found = fetchStatuses(page);
+                int answered = found.size();
+                found.values().removeIf(status -> "pending".equals(status.status()));
+                checked += page.size();
+                errors += page.size() - answered;
+                stillPending += answered - found.size();
+
+                // Renew before writing, so a page is only applied while the lease is still ours.
+                if (!jobLeaseService.tryAcquire(LEASE, lease)) {
+                    stoppedBy = "lease lost";
+                    break;
+                }
+                if (!found.isEmpty()) {
+                    paymentService.applyReconciled(found).forEach((status, count) -> settled.merge(status, count, Integer::sum));
+                }
+            } while (page.size() == pageSize);
+        } catch (PaymentGatewayUnavailableException e) {
+            stoppedBy = "gateway unavailable";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stoppedBy = "interrupted";
+        } finally {
+            jobLeaseService.release(LEASE);
+        }
+        record(started, checked, settled, stillPending, errors, stoppedBy);
+    }
+
+    // Looks up every order on the page in parallel; orders the gateway could not answer for are left out.
+    private Map<Integer, PaymentGateway.OrderStatus> fetchStatuses(List<Payment> page) throws InterruptedException {
+        List<Callable<PaymentGateway.OrderStatus>> calls = new ArrayList<>();
+        for (Payment payment : page) {
+            calls.add(() -> paymentGateway.fetchOrderStatus(payment.getRazorpayOrderId()));
+        }
+        List<Future<PaymentGateway.OrderStatus>> results = executor.invokeAll(calls);
+
+        Map<Integer, PaymentGateway.OrderStatus> found = new HashMap<>();
+        for (int i = 0; i < page.size(); i++) {
+            try {
+                found.put(page.get(i).getPid(), results.get(i).get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof PaymentGatewayUnavailableException unavailable) {
+                    throw unavailable;
+                }
+                logger.warn("[PAYMENT] Could not check razorpayOrderId {}: {}", page.get(i).getRazorpayOrderId(), e.getCause().getMessage());
+            }
+        }
+        return found;
+    }
+
+    private void record(long started, int checked, Map<String, Integer> settled, int stillPending, int errors, String stoppedBy) {
+        int paid = settled.getOrDefault("paid", 0);
+        int failed = settled.getOrDefault("failed", 0);
+        totalChecked.addAndGet(checked);
+        totalPaid.addAndGet(paid);
+        totalFailed.addAndGet(failed);
+        totalErrors.addAndGet(errors);
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("startedAt", started);
+        run.put("durationMillis", System.currentTimeMillis() - started);
+        run.put("instance", jobLeaseService.owner());
+        run.put("checked", checked);
+        run.put("paid", paid);
+        run.put("failed", failed);
+        run.put("stillPending", stillPending);
+        run.put("errors", errors);
+        run.put("stoppedBy", stoppedBy);
+        lastRun = run;
+
+        if (stoppedBy != null) {
+            logger.warn("[PAYMENT] Reconciliation stopped early ({}) after checking {} payments: {} paid, {} failed, {} errors", stoppedBy, checked, paid, failed, errors);
+        } else {
+            logger.info("[PAYMENT] Reconciliation checked {} pending payments: {} paid, {} failed, {} still pending, {} errors", checked, paid, failed, stillPending, errors);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.unbound.backend.service;
 
 import com.razorpay.Order;
-import com.razorpay.RazorpayClient;
 import com.razorpay.RazorpayException;
 import com.unbound.backend.entity.EventRegistration;
 import com.unbound.backend.entity.Payment;
@@ -12,11 +11,14 @@ import com.unbound.backend.repository.PaymentRepository;
 import com.unbound.backend.service.EmailService;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +26,10 @@ import org.slf4j.LoggerFactory;
 public class PaymentService {
     private static final Logger logger = LoggerFactory.getLogger(PaymentService.class);
 
+    public static final String ORDER_RECEIPT_PREFIX = "ORD";
+    // Orders created without a currency are in rupees; dashboards report earnings in it
+    public static final String DEFAULT_CURRENCY = "INR";
+
     @Autowired
     private PaymentRepository paymentRepository;
 
@@ -33,23 +39,27 @@ public class PaymentService {
     @Autowired
     private EmailService emailService;
 
-    @Value("${razorpay.key}")
-    private String razorpayKey;
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private PaymentGateway paymentGateway;
 
-    @Value("${razorpay.secret}")
-    private String razorpaySecret;
+    @Autowired
+    private RevenueLedgerService revenueLedgerService;
+    @Autowired
+    private CollegePaymentDigestService collegePaymentDigestService;
 
     public Order createOrder(EventRegistration registration, int amount, String currency, String receiptEmail) throws RazorpayException {
         logger.info("[PAYMENT] Creating order for registrationId: {}, amount: {}, currency: {}", registration.getRid(), amount, currency);
-        RazorpayClient client = new RazorpayClient(razorpayKey, razorpaySecret);
-        
         // Get the college that will receive the payment
         College college = registration.getEvent().getCollege();
         
         JSONObject orderRequest = new JSONObject();
         orderRequest.put("amount", amount * 100); // amount in paise
         orderRequest.put("currency", currency);
-        orderRequest.put("receipt", "reg-" + registration.getRid());
+        String receiptNumber = idGenerator.next(ORDER_RECEIPT_PREFIX);
+        orderRequest.put("receipt", receiptNumber);
         orderRequest.put("payment_capture", 1);
         
         // Add college payment routing if configured
@@ -61,7 +71,7 @@ public class PaymentService {
             orderRequest.put("transfers", new JSONObject[]{transferRequest});
         }
         
-        Order order = client.orders.create(orderRequest);
+        Order order = paymentGateway.createOrder(orderRequest);
 
         Payment payment = Payment.builder()
                 .eventRegistration(registration)
@@ -69,8 +79,9 @@ public class PaymentService {
                 .status("pending")
                 .amount(amount)
                 .currency(currency)
-                .createdAt(LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                .createdAt(LocalDateTime.now())
                 .receiptEmail(receiptEmail)
+                .receiptNumber(receiptNumber)
                 .college(college) // Track which college receives the payment
                 .build();
         paymentRepository.save(payment);
@@ -78,80 +89,105 @@ public class PaymentService {
         return order;
     }
 
+    @Transactional
     public void updatePaymentStatus(String razorpayOrderId, String status, String paymentId) {
         logger.info("[PAYMENT] Updating payment status for razorpayOrderId: {}, status: {}, paymentId: {}", razorpayOrderId, status, paymentId);
-        Payment payment = paymentRepository.findAll().stream()
-                .filter(p -> p.getRazorpayOrderId().equals(razorpayOrderId))
-                .findFirst().orElse(null);
+        Payment payment = paymentRepository.findByRazorpayOrderId(razorpayOrderId).orElse(null);
         if (payment != null) {
-            payment.setStatus(status);
-            payment.setPaymentId(paymentId);
-            paymentRepository.save(payment);
+            applyStatus(payment, status, paymentId);
+        }
+        logger.info("[PAYMENT] Payment status updated for razorpayOrderId: {}, status: {}, paymentId: {}", razorpayOrderId, status, paymentId);
+    }
+
+    /**
+     * Applies statuses found at the gateway by reconciliation, keyed by payment id. The rows are
+     * locked and re-read first, so payments settled meanwhile by a webhook or /verify, or by
+     * another reconciler, are left alone. Returns how many payments moved to each status.
+     */
+    @Transactional
+    public Map<String, Integer> applyReconciled(Map<Integer, PaymentGateway.OrderStatus> statuses) {
+        Map<String, Integer> changed = new HashMap<>();
+        for (Payment payment : paymentRepository.findByPidIn(statuses.keySet())) {
+            PaymentGateway.OrderStatus found = statuses.get(payment.getPid());
+            if ("pending".equalsIgnoreCase(payment.getStatus())
+                    && applyStatus(payment, found.status(), found.paymentId())) {
+                logger.info("[PAYMENT] Reconciled razorpayOrderId: {} from pending to {}", payment.getRazorpayOrderId(), found.status());
+                changed.merge(found.status(), 1, Integer::sum);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Moves a payment and its registration to {@code status}. Client verification and gateway
+     * webhooks can report the same payment more than once and in any order, so a paid payment
+     * stays paid and the receipt emails go out only on the transition to paid. Statuses are stored
+     * lower-case, so queries compare them without a function on the indexed column.
+     * Returns whether anything changed. Callers hold the transaction.
+     */
+    public boolean applyStatus(Payment payment, String status, String paymentId) {
+        if (status == null || status.isBlank()) {
+            throw new IllegalArgumentException("Payment status is required");
+        }
+        status = status.trim().toLowerCase(Locale.ROOT);
+        String razorpayOrderId = payment.getRazorpayOrderId();
+        boolean wasPaid = "paid".equalsIgnoreCase(payment.getStatus());
+        if (wasPaid && !"paid".equalsIgnoreCase(status)) {
+            logger.warn("[PAYMENT] Ignoring status {} for already paid razorpayOrderId: {}", status, razorpayOrderId);
+            return false;
+        }
+        if (payment.getStatus().equalsIgnoreCase(status) && Objects.equals(paymentId, payment.getPaymentId())) {
+            return false;
+        }
+        payment.setStatus(status);
+        payment.setPaymentId(paymentId);
+        paymentRepository.save(payment);
+        if (!wasPaid && "paid".equalsIgnoreCase(status)) {
+            revenueLedgerService.record(payment);
+        }
+        
+        // Update EventRegistration paymentStatus
+        EventRegistration reg = payment.getEventRegistration();
+        if (reg != null) {
+            reg.setPaymentStatus(status);
+            eventRegistrationRepository.save(reg);
             
-            // Update EventRegistration paymentStatus
-            EventRegistration reg = payment.getEventRegistration();
-            if (reg != null) {
-                reg.setPaymentStatus(status);
-                eventRegistrationRepository.save(reg);
+            // Send email receipt if payment is successful
+            if (!wasPaid && "paid".equalsIgnoreCase(status) && payment.getReceiptEmail() != null) {
+                Student student = reg.getStudent();
+                College college = payment.getCollege();
                 
-                // Send email receipt if payment is successful
-                if ("paid".equalsIgnoreCase(status) && payment.getReceiptEmail() != null) {
-                    Student student = reg.getStudent();
-                    College college = payment.getCollege();
-                    
-                    String subject = "Payment Receipt - Unbound Event Registration";
-                    String text = String.format(
-                        "Dear %s,\n\n" +
-                        "Your payment for event '%s' was successful!\n\n" +
-                        "Payment Details:\n" +
-                        "- Amount: %d %s\n" +
-                        "- Payment ID: %s\n" +
-                        "- Order ID: %s\n" +
-                        "- College: %s\n" +
-                        "- Event: %s\n\n" +
-                        "The payment has been received by %s.\n\n" +
-                        "Thank you for registering!\n\n" +
-                        "- Unbound Platform Team",
-                        student.getSname(),
-                        reg.getEvent().getEname(),
-                        payment.getAmount(),
-                        payment.getCurrency(),
-                        paymentId,
-                        razorpayOrderId,
-                        college.getCname(),
-                        reg.getEvent().getEname(),
-                        college.getCname()
-                    );
-                    emailService.sendEmail(payment.getReceiptEmail(), subject, text);
-                    
-                    // Send notification to college about the payment
-                    if (college.getContactEmail() != null) {
-                        String collegeSubject = "New Payment Received - Event Registration";
-                        String collegeText = String.format(
-                            "Dear %s,\n\n" +
-                            "A new payment has been received for your event!\n\n" +
-                            "Payment Details:\n" +
-                            "- Student: %s (%s)\n" +
-                            "- Event: %s\n" +
-                            "- Amount: %d %s\n" +
-                            "- Payment ID: %s\n" +
-                            "- Order ID: %s\n\n" +
-                            "The payment has been credited to your account.\n\n" +
-                            "- Unbound Platform Team",
-                            college.getCname(),
-                            student.getSname(),
-                            student.getUser().getEmail(),
-                            reg.getEvent().getEname(),
-                            payment.getAmount(),
-                            payment.getCurrency(),
-                            paymentId,
-                            razorpayOrderId
-                        );
-                        emailService.sendEmail(college.getContactEmail(), collegeSubject, collegeText);
-                    }
+                String subject = "Payment Receipt - Unbound Event Registration";
+                String text = String.format(
+                    "Dear %s,\n\n" +
+                    "Your payment for event '%s' was successful!\n\n" +
+                    "Payment Details:\n" +
+                    "- Amount: %d %s\n" +
+                    "- Payment ID: %s\n" +
+                    "- Order ID: %s\n" +
+                    "- College: %s\n" +
+                    "- Event: %s\n\n" +
+                    "The payment has been received by %s.\n\n" +
+                    "Thank you for registering!\n\n" +
+                    "- Unbound Platform Team",
+                    student.getSname(),
+                    reg.getEvent().getEname(),
+                    payment.getAmount(),
+                    payment.getCurrency(),
+                    paymentId,
+                    razorpayOrderId,
+                    college.getCname(),
+                    reg.getEvent().getEname(),
+                    college.getCname()
+                );
+                emailService.sendEmail(payment.getReceiptEmail(), subject, text);
+                
+                // The college hears about it in its next payment digest
+                if (college.getContactEmail() != null) {
+                    collegePaymentDigestService.enqueue(payment, student, reg.getEvent().getEname());
                 }
             }
         }
-        logger.info("[PAYMENT] Payment status updated for razorpayOrderId: {}, status: {}, paymentId: {}", razorpayOrderId, status, paymentId);
+        return true;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.PaymentWebhookEvent;
+import com.unbound.backend.repository.PaymentWebhookEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Drains PENDING {@link PaymentWebhookEvent} rows in id order, a batch per transaction. If a batch
+ * fails its events are retried one at a time so a single bad event cannot hold up the rest; an
+ * event that keeps failing is marked FAILED after the configured number of attempts. A job lease
+ * keeps the drain to one instance at a time, so events are applied in order across the cluster.
+ */
+@Service
+public class PaymentWebhookProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(PaymentWebhookProcessor.class);
+
+    static final String LEASE = "payment-webhook";
+
+    @Autowired
+    private PaymentWebhookEventRepository webhookEventRepository;
+    @Autowired
+    private PaymentWebhookService paymentWebhookService;
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${payment.webhook.batch-size:100}")
+    private int batchSize;
+    @Value("${payment.webhook.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${payment.webhook.lease-ms:120000}")
+    private long leaseMs;
+
+    @Scheduled(initialDelayString = "${payment.webhook.poll-interval-ms:2000}", fixedDelayString = "${payment.webhook.poll-interval-ms:2000}")
+    public synchronized void process() {
+        Duration lease = Duration.ofMillis(leaseMs);
+        if (!jobLeaseService.tryAcquire(LEASE, lease)) {
+            logger.debug("[PAYMENT] Webhook events are being processed by another instance");
+            return;
+        }
+        try {
+            List<PaymentWebhookEvent> pending;
+            boolean clean = true;
+            do {
+                pending = webhookEventRepository.findByStatusOrderByIdAsc(PaymentWebhookEvent.Status.PENDING, Limit.of(batchSize));
+                if (!pending.isEmpty()) {
+                    clean = applyBatch(pending);
+                }
+                // Events that just failed are still PENDING; leave them for the next poll.
+            } while (clean && pending.size() == batchSize && jobLeaseService.tryAcquire(LEASE, lease));
+        } finally {
+            jobLeaseService.release(LEASE);
+        }
+    }
+
+    // Returns false if any event in the batch failed.
+    private boolean applyBatch(List<PaymentWebhookEvent> batch) {
+        try {
+            int applied = paymentWebhookService.apply(batch);
+            logger.info("[PAYMENT] Applied {} of {} webhook events", applied, batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("[PAYMENT] Webhook batch of {} failed, retrying one at a time: {}", batch.size(), e.getMessage());
+        }
+        boolean clean = true;
+        for (PaymentWebhookEvent event : batch) {
+            try {
+                paymentWebhookService.apply(List.of(event));
+            } catch (RuntimeException e) {
+                clean = false;
+                event.setAttempts(event.getAttempts() + 1);
+                event.setProcessedAt(null);
+                event.setLastError(truncate(String.valueOf(e.getMessage()), 1000));
+                if (event.getAttempts() >= maxAttempts) {
+                    event.setStatus(PaymentWebhookEvent.Status.FAILED);
+                    logger.error("[PAYMENT] Giving up on webhook event {} after {} attempts: {}", event.getEventId(), event.getAttempts(), event.getLastError());
+                } else {
+                    event.setStatus(PaymentWebhookEvent.Status.PENDING);
+                    logger.warn("[PAYMENT] Webhook event {} failed (attempt {}): {}", event.getEventId(), event.getAttempts(), event.getLastError());
+                }
+                webhookEventRepository.save(event);
+            }
+        }
+        return clean;
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+}
@@ -0,0 +1,168 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.PaymentWebhookEvent;
+import com.unbound.backend.repository.PaymentRepository;
+import com.unbound.backend.repository.PaymentWebhookEventRepository;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests Razorpay webhooks. The endpoint only checks the signature and stores the raw event,
+ * deduplicated on the gateway's event id, so the gateway gets its 2xx without waiting on payment
+ * updates or emails. {@link PaymentWebhookProcessor} later applies the stored events in batches.
+ */
+@Service
+public class PaymentWebhookService {
+    private static final Logger logger = LoggerFactory.getLogger(PaymentWebhookService.class);
+
+    public static final String SIGNATURE_HEADER = "X-Razorpay-Signature";
+    public static final String EVENT_ID_HEADER = "X-Razorpay-Event-Id";
+
+    // Gateway events that settle a payment; everything else is recorded and ignored.
+    private static final Map<String, String> STATUS_BY_EVENT = Map.of(
+            "payment.captured", "paid",
+            "order.paid", "paid",
+            "payment.failed", "failed");
+
+    @Autowired
+    private PaymentWebhookEventRepository webhookEventRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private PaymentService paymentService;
+
+    @Value("${razorpay.webhook-secret:}")
+    private String webhookSecret;
+
+    /**
+     * HMAC-SHA256 of the exact request bytes, hex encoded, compared in constant time.
+     */
+    public boolean isValidSignature(byte[] body, String signature) {
+        if (webhookSecret.isBlank()) {
+            logger.warn("[PAYMENT] razorpay.webhook-secret is not set, rejecting webhook");
+            return false;
+        }
+        if (signature == null || body == null) {
+            return false;
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(webhookSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] expected = HexFormat.of().formatHex(mac.doFinal(body)).getBytes(StandardCharsets.US_ASCII);
+            return MessageDigest.isEqual(expected, signature.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+
+    /**
+     * Stores a verified webhook for the processor. Returns false if the event was already recorded.
+     */
+    public boolean record(String eventId, byte[] body) {
+        String payload = new String(body, StandardCharsets.UTF_8);
+        String id = eventId != null && !eventId.isBlank() ? eventId.trim() : sha256(body);
+        if (webhookEventRepository.existsByEventId(id)) {
+            logger.info("[PAYMENT] Duplicate webhook event {}", id);
+            return false;
+        }
+
+        PaymentWebhookEvent event = PaymentWebhookEvent.builder()
+                .eventId(id)
+                .payload(payload)
+                .status(PaymentWebhookEvent.Status.PENDING)
+                .receivedAt(LocalDateTime.now())
+                .build();
+        try {
+            JSONObject json = new JSONObject(payload);
+            event.setEventType(json.optString("event", null));
+            JSONObject entities = json.optJSONObject("payload");
+            JSONObject payment = entity(entities, "payment");
+            JSONObject order = entity(entities, "order");
+            if (payment != null) {
+                event.setOrderId(payment.optString("order_id", null));
+                event.setPaymentId(payment.optString("id", null));
+            } else if (order != null) {
+                event.setOrderId(order.optString("id", null));
+            }
+        } catch (JSONException e) {
+            event.setLastError("Unreadable payload: " + e.getMessage());
+        }
+
+        try {
+            webhookEventRepository.save(event);
+        } catch (DataIntegrityViolationException e) {
+            // The gateway retried while the first delivery was being stored
+            logger.info("[PAYMENT] Duplicate webhook event {}", id);
+            return false;
+        }
+        logger.info("[PAYMENT] Recorded webhook event {} ({}) for razorpayOrderId: {}", id, event.getEventType(), event.getOrderId());
+        return true;
+    }
+
+    /**
+     * Applies a batch of recorded events in one transaction, loading all their payments in one query.
+     * Status transitions are idempotent, so re-applying a batch after a failure is safe.
+     */
+    @Transactional
+    public int apply(List<PaymentWebhookEvent> events) {
+        Set<String> orderIds = events.stream()
+                .map(PaymentWebhookEvent::getOrderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Payment> payments = orderIds.isEmpty() ? Map.of()
+                : paymentRepository.findByRazorpayOrderIdIn(orderIds).stream()
+                        .collect(Collectors.toMap(Payment::getRazorpayOrderId, p -> p));
+
+        LocalDateTime now = LocalDateTime.now();
+        int applied = 0;
+        for (PaymentWebhookEvent event : events) {
+            String status = STATUS_BY_EVENT.get(event.getEventType());
+            Payment payment = event.getOrderId() != null ? payments.get(event.getOrderId()) : null;
+            if (status == null || payment == null) {
+                event.setStatus(PaymentWebhookEvent.Status.IGNORED);
+                if (event.getLastError() == null) {
+                    event.setLastError(status == null ? "Unhandled event type" : "Unknown order");
+                }
+            } else {
+                String paymentId = event.getPaymentId() != null ? event.getPaymentId() : payment.getPaymentId();
+                paymentService.applyStatus(payment, status, paymentId);
+                event.setStatus(PaymentWebhookEvent.Status.APPLIED);
+                event.setLastError(null);
+                applied++;
+            }
+            event.setProcessedAt(now);
+        }
+        webhookEventRepository.saveAll(events);
+        return applied;
+    }
+
+    private static JSONObject entity(JSONObject entities, String name) {
+        JSONObject wrapper = entities != null ? entities.optJSONObject(name) : null;
+        return wrapper != null ? wrapper.optJSONObject("entity") : null;
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.EventRegistration;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory platform totals for the explore and admin dashboards, so reads never scan tables.
+ * Colleges, registrations and payments move by +/-1 after each committed insert or delete
+ * (reported by {@link PlatformCountersListener}); fests and events also move between approval
+ * buckets as they are approved, rejected or deactivated (reported by {@link CatalogCountersListener}).
+ * A scheduled reconcile recounts everything and corrects any drift from bulk statements that bypass
+ * entity callbacks.
+ */
+@Service
+public class PlatformCounters {
+    private static final Logger logger = LoggerFactory.getLogger(PlatformCounters.class);
+
+    /**
+     * Which approval bucket a fest or event counts towards; inactive items only count in the total.
+     */
+    public enum Listing {
+        PUBLIC, PENDING, INACTIVE;
+
+        public static Listing of(boolean approved, boolean active) {
+            return !active ? INACTIVE : approved ? PUBLIC : PENDING;
+        }
+    }
+
+    @Autowired
+    private FestRepository festRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private final AtomicLong totalFests = new AtomicLong();
+    private final AtomicLong publicFests = new AtomicLong();
+    private final AtomicLong pendingFests = new AtomicLong();
+    private final AtomicLong totalEvents = new AtomicLong();
+    private final AtomicLong publicEvents = new AtomicLong();
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong colleges = new AtomicLong();
+    private final AtomicLong registrations = new AtomicLong();
+    private final AtomicLong payments = new AtomicLong();
+
+    public long totalFests() { return totalFests.get(); }
+    public long publicFests() { return publicFests.get(); }
+    public long pendingFests() { return pendingFests.get(); }
+    public long totalEvents() { return totalEvents.get(); }
+    public long publicEvents() { return publicEvents.get(); }
+    public long pendingEvents() { return pendingEvents.get(); }
+    public long colleges() { return colleges.get(); }
+    public long registrations() { return registrations.get(); }
+    public long payments() { return payments.get(); }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${counters.reconcile-interval-ms:300000}", fixedDelayString = "${counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        recountFests();
+        recountEvents();
+        set(colleges, collegeRepository.count(), "colleges");
+        set(registrations, eventRegistrationRepository.count(), "registrations");
+        set(payments, paymentRepository.count(), "payments");
+    }
+
+    /**
+     * Applies a +/-1 for an inserted or deleted college, registration or payment once the
+     * surrounding transaction commits, so rolled-back writes never move the counters.
+     */
+    public void entityWritten(Object entity, long delta) {
+        AtomicLong counter;
+        if (entity instanceof College) {
+            counter = colleges;
+        } else if (entity instanceof EventRegistration) {
+            counter = registrations;
+        } else if (entity instanceof Payment) {
+            counter = payments;
+        } else {
+            return;
+        }
+        addAfterCommit(counter, delta);
+    }
+
+    /**
+     * Moves the fest or event totals for a committed insert ({@code before} null), delete
+     * ({@code after} null) or listing change, as reported by {@link CatalogCountersListener}.
+     */
+    public void catalogWritten(Object entity, Listing before, Listing after) {
+        boolean fest = entity instanceof Fest;
+        if (before == null) {
+            addAfterCommit(fest ? totalFests : totalEvents, 1);
+        } else if (after == null) {
+            addAfterCommit(fest ? totalFests : totalEvents, -1);
+        }
+        if (before == after) {
+            return;
+        }
+        AtomicLong left = fest ? bucket(before, publicFests, pendingFests) : bucket(before, publicEvents, pendingEvents);
+        AtomicLong entered = fest ? bucket(after, publicFests, pendingFests) : bucket(after, publicEvents, pendingEvents);
+        if (left != null) {
+            addAfterCommit(left, -1);
+        }
+        if (entered != null) {
+            addAfterCommit(entered, 1);
+        }
+    }
+
+    /**
+     * For registrations inserted with plain JDBC, which entity callbacks never see.
+     */
+    public void registrationsAdded(long count) {
+        addAfterCommit(registrations, count);
+    }
+
+    private static AtomicLong bucket(Listing listing, AtomicLong listed, AtomicLong pending) {
+        if (listing == Listing.PUBLIC) {
+            return listed;
+        }
+        return listing == Listing.PENDING ? pending : null;
+    }
+
+    private static void addAfterCommit(AtomicLong counter, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.addAndGet(delta);
+                }
+
+                // Ahead of cached responses being dropped, like the catalog indexes.
+                @Override
+                public int getOrder() {
+                    return CatalogChangedEvent.INDEX_ORDER;
+                }
+            });
+        } else {
+            counter.addAndGet(delta);
+        }
+    }
+
+    private synchronized void recountFests() {
+        set(totalFests, festRepository.count(), "totalFests");
+        set(publicFests, festRepository.countByApprovedAndActive(true, true), "publicFests");
+        set(pendingFests, festRepository.countByApprovedAndActive(false, true), "pendingFests");
+    }
+
+    private synchronized void recountEvents() {
+        set(totalEvents, eventRepository.count(), "totalEvents");
+        set(publicEvents, eventRepository.countByApprovedAndActive(true, true), "publicEvents");
+        set(pendingEvents, eventRepository.countByApprovedAndActive(false, true), "pendingEvents");
+    }
+
+    private static void set(AtomicLong counter, long actual, String name) {
+        long previous = counter.getAndSet(actual);
+        if (previous != actual) {
+            logger.debug("[COUNTERS] {} {} -> {}", name, previous, actual);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.unbound.backend.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener, instantiated through Spring, that reports inserts and deletes of counted
+ * entities to {@link PlatformCounters}.
+ */
+@Component
+public class PlatformCountersListener {
+    @Autowired
+    @Lazy
+    private PlatformCounters counters;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        counters.entityWritten(entity, 1);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        counters.entityWritten(entity, -1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener, instantiated through Spring, that drops a user's cached profile from
+ * {@link ProfileService} when the profile or the user row behind it is updated or deleted.
+ */
+@Component
+public class ProfileCacheListener {
+    @Autowired
+    @Lazy
+    private ProfileService profileService;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        User user = null;
+        if (entity instanceof Student student) {
+            user = student.getUser();
+        } else if (entity instanceof College college) {
+            user = college.getUser();
+        } else if (entity instanceof User changed) {
+            user = changed;
+        }
+        if (user != null && user.getUid() != null) {
+            profileService.evict(user.getUid());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Looks up the Student or College profile behind an authenticated user. A request resolves its
+ * profile at most once; across requests profiles come from a size-bounded LRU keyed by user id,
+ * filled by the indexed uid lookup and emptied per user by {@link ProfileCacheListener} whenever
+ * the profile or its user row changes. That eviction only reaches this node's cache, so entries
+ * also expire {@code profile.cache.ttl-ms} after being loaded; a change made through another node
+ * is seen here within that time. Cached profiles are detached, so callers must not rely on lazy
+ * loading or modify them in place.
+ */
+@Service
+public class ProfileService {
+    private static final String REQUEST_ATTRIBUTE = ProfileService.class.getName() + ".";
+
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Value("${profile.cache.max-entries:10000}")
+    private int maxEntries;
+    @Value("${profile.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<Integer, Cached<Student>> students = lru();
+    private final Map<Integer, Cached<College>> colleges = lru();
+    // Bumped on every eviction so a profile read before it is not cached after it.
+    private long generation;
+
+    private record Cached<T>(T profile, long expiresAt) {
+    }
+
+    public Student findStudent(User user) {
+        if (user == null || user.getUid() == null || user.getRole() != User.Role.Student) {
+            return null;
+        }
+        return resolve(students, "student." + user.getUid(), user.getUid(),
+                () -> studentRepository.findByUserUid(user.getUid()).orElse(null));
+    }
+
+    public College findCollege(User user) {
+        if (user == null || user.getUid() == null || user.getRole() != User.Role.College) {
+            return null;
+        }
+        return resolve(colleges, "college." + user.getUid(), user.getUid(),
+                () -> collegeRepository.findByUserUid(user.getUid()).orElse(null));
+    }
+
+    /**
+     * Drops the cached profiles of {@code uid} now and again once the current transaction commits,
+     * so a reader racing the write cannot put the old row back.
+     */
+    public void evict(Integer uid) {
+        evictNow(uid);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(uid);
+                }
+            });
+        }
+    }
+
+    private synchronized void evictNow(Integer uid) {
+        students.remove(uid);
+        colleges.remove(uid);
+        generation++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T resolve(Map<Integer, Cached<T>> cache, String key, Integer uid, Supplier<T> loader) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object resolved = request.getAttribute(REQUEST_ATTRIBUTE + key, RequestAttributes.SCOPE_REQUEST);
+            if (resolved != null) {
+                return (T) resolved;
+            }
+        }
+        T profile = null;
+        long startedAt;
+        synchronized (this) {
+            Cached<T> cached = cache.get(uid);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                profile = cached.profile();
+            } else if (cached != null) {
+                cache.remove(uid);
+            }
+            startedAt = generation;
+        }
+        if (profile == null) {
+            // Misses are not cached, so a profile created later is found on the next request.
+            profile = loader.get();
+            if (profile != null) {
+                synchronized (this) {
+                    if (generation == startedAt) {
+                        cache.put(uid, new Cached<>(profile, System.currentTimeMillis() + ttlMs));
+                    }
+                }
+            }
+        }
+        if (request != null && profile != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE + key, profile, RequestAttributes.SCOPE_REQUEST);
+        }
+        return profile;
+    }
+
+    private <T> Map<Integer, T> lru() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.unbound.backend.service;
+
+import com.razorpay.Order;
+import com.razorpay.RazorpayException;
+import jakarta.annotation.PostConstruct;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Calls the Razorpay Orders API over one shared {@link HttpClient}, so connections are pooled and
+ * kept alive across calls. The SDK's RazorpayClient rebuilds its HTTP client on every
+ * construction and has no per-call timeout, so it is not used for order creation.
+ */
+@Service
+@ConditionalOnProperty(name = "payment.gateway.provider", havingValue = "razorpay", matchIfMissing = true)
+public class RazorpayGateway extends ResilientPaymentGateway {
+    @Value("${razorpay.key}")
+    private String razorpayKey;
+    @Value("${razorpay.secret}")
+    private String razorpaySecret;
+    @Value("${razorpay.api-url:https://api.razorpay.com/v1}")
+    private String apiUrl;
+    @Value("${payment.gateway.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    private HttpClient httpClient;
+    private String authorization;
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((razorpayKey + ":" + razorpaySecret).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    protected Order sendCreateOrder(JSONObject orderRequest) throws RazorpayException, TransientGatewayException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/orders"))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(orderRequest.toString()))
+                .build();
+        return new Order(send(request));
+    }
+
+    @Override
+    protected Order sendFindOrderByReceipt(String receipt) throws RazorpayException, TransientGatewayException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/orders?receipt=" + URLEncoder.encode(receipt, StandardCharsets.UTF_8)))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        JSONArray items = send(request).optJSONArray("items");
+        return items == null || items.length() == 0 ? null : new Order(items.getJSONObject(0));
+    }
+
+    // Settled by a captured payment; failed once every attempt has failed; otherwise still open.
+    @Override
+    protected OrderStatus sendFetchOrderStatus(String orderId) throws RazorpayException, TransientGatewayException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/orders/" + URLEncoder.encode(orderId, StandardCharsets.UTF_8) + "/payments"))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        JSONArray items = send(request).optJSONArray("items");
+        if (items == null || items.length() == 0) {
+            return new OrderStatus("pending", null);
+        }
+        String failedPaymentId = null;
+        boolean allFailed = true;
+        for (int i = 0; i < items.length(); i++) {
+            JSONObject payment = items.getJSONObject(i);
+            String status = payment.optString("status");
+            if ("captured".equals(status)) {
+                return new OrderStatus("paid", payment.optString("id", null));
+            }
+            if ("failed".equals(status)) {
+                failedPaymentId = payment.optString("id", null);
+            } else {
+                allFailed = false;
+            }
+        }
+        return allFailed ? new OrderStatus("failed", failedPaymentId) : new OrderStatus("pending", null);
+    }
+
+    private JSONObject send(HttpRequest request) throws RazorpayException, TransientGatewayException {
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (HttpConnectTimeoutException | ConnectException e) {
+            // The request never reached the gateway
+            throw new TransientGatewayException(e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        } catch (IOException e) {
+            // Includes request timeouts: the gateway may have acted on the request
+            throw new OutcomeUnknownException(e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RazorpayException("Interrupted while calling the payment gateway", e);
+        }
+
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            try {
+                return new JSONObject(response.body());
+            } catch (JSONException e) {
+                throw new OutcomeUnknownException("Unreadable gateway response", e);
+            }
+        }
+        String message = "HTTP " + status + ": " + errorDescription(response.body());
+        if (status == 429 || status >= 500) {
+            throw new TransientGatewayException(message, null);
+        }
+        throw new RazorpayException(message);
+    }
+
+    private static String errorDescription(String body) {
+        try {
+            JSONObject error = new JSONObject(body).optJSONObject("error");
+            if (error != null && error.has("description")) {
+                return error.getString("description");
+            }
+        } catch (JSONException ignored) {
+        }
+        return body.length() <= 200 ? body : body.substring(0, 200);
+    }
+}
@@ -0,0 +1,212 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+/**
+ * Bulk registration of students from a CSV upload. The file is read a line at a time and handled in
+ * chunks: each chunk resolves its students with one query and is registered through
+ * {@link RegistrationService#registerImported} in its own transaction, so memory stays bounded by
+ * the chunk size plus the per-row report. The header names the identifying column(s):
+ * {@code studentId} and/or {@code email}.
+ */
+@Service
+public class RegistrationImportService {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationImportService.class);
+
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Value("${registration.import.batch-size:1000}")
+    private int batchSize;
+
+    public record RowResult(int row, Long studentId, String email, String status, Long registrationId, String message) {
+    }
+
+    public record ImportReport(Long eventId, int totalRows, int registered, int failed, List<RowResult> rows) {
+    }
+
+    private record Row(int row, Long studentId, String email) {
+    }
+
+    public ImportReport importCsv(Event event, Reader csv) throws IOException {
+        long started = System.currentTimeMillis();
+        BufferedReader reader = new BufferedReader(csv);
+        String header = nextNonBlank(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        List<String> columns = parseLine(stripBom(header));
+        int idColumn = -1;
+        int emailColumn = -1;
+        for (int i = 0; i < columns.size(); i++) {
+            String name = columns.get(i).trim().toLowerCase(Locale.ROOT);
+            if (name.equals("studentid") || name.equals("sid")) {
+                idColumn = i;
+            } else if (name.equals("email")) {
+                emailColumn = i;
+            }
+        }
+        if (idColumn < 0 && emailColumn < 0) {
+            throw new IllegalArgumentException("CSV header must include a studentId or email column");
+        }
+
+        List<RowResult> results = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(batchSize);
+        int rowNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = parseLine(line);
+            String rawId = field(fields, idColumn);
+            String email = field(fields, emailColumn);
+            email = email == null ? null : email.toLowerCase(Locale.ROOT);
+            Long studentId = null;
+            if (rawId != null) {
+                try {
+                    studentId = Long.valueOf(rawId);
+                } catch (NumberFormatException e) {
+                    results.add(new RowResult(rowNumber, null, email, "failed", null, "Invalid studentId: " + rawId));
+                    continue;
+                }
+            }
+            if (studentId == null && email == null) {
+                results.add(new RowResult(rowNumber, null, null, "failed", null, "Row has no studentId or email"));
+                continue;
+            }
+            if ((studentId != null && !seenIds.add(studentId)) || (studentId == null && !seenEmails.add(email))) {
+                results.add(new RowResult(rowNumber, studentId, email, "failed", null, "Duplicate row in file"));
+                continue;
+            }
+            chunk.add(new Row(rowNumber, studentId, email));
+            if (chunk.size() == batchSize) {
+                registerChunk(event, chunk, seenIds, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            registerChunk(event, chunk, seenIds, results);
+        }
+
+        results.sort(Comparator.comparingInt(RowResult::row));
+        int registered = (int) results.stream().filter(r -> "registered".equals(r.status())).count();
+        logger.info("[IMPORT] Imported {} of {} rows for event {} in {} ms",
+                registered, results.size(), event.getEid(), System.currentTimeMillis() - started);
+        return new ImportReport(event.getEid(), results.size(), registered, results.size() - registered, results);
+    }
+
+    private void registerChunk(Event event, List<Row> chunk, Set<Long> seenIds, List<RowResult> results) {
+        Set<Long> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (Row row : chunk) {
+            if (row.studentId() != null) {
+                ids.add(row.studentId());
+            } else {
+                emails.add(row.email());
+            }
+        }
+        Map<Long, String> emailsById = new HashMap<>();
+        Map<String, Long> idsByEmail = new HashMap<>();
+        List<StudentRepository.StudentKey> keys = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            keys.addAll(studentRepository.findKeysBySidIn(ids));
+        }
+        if (!emails.isEmpty()) {
+            keys.addAll(studentRepository.findKeysByEmailIn(emails));
+        }
+        for (StudentRepository.StudentKey key : keys) {
+            emailsById.put(key.getSid(), key.getEmail());
+            idsByEmail.put(key.getEmail().toLowerCase(Locale.ROOT), key.getSid());
+        }
+
+        Map<Long, Row> resolved = new LinkedHashMap<>();
+        for (Row row : chunk) {
+            Long sid = row.studentId() != null ? (emailsById.containsKey(row.studentId()) ? row.studentId() : null) : idsByEmail.get(row.email());
+            if (sid == null) {
+                results.add(new RowResult(row.row(), row.studentId(), row.email(), "failed", null, "Student not found"));
+            } else if (resolved.containsKey(sid) || (row.studentId() == null && !seenIds.add(sid))) {
+                // The same student listed once by id and once by email
+                results.add(new RowResult(row.row(), sid, row.email(), "failed", null, "Duplicate row in file"));
+            } else {
+                resolved.put(sid, row);
+            }
+        }
+        if (resolved.isEmpty()) {
+            return;
+        }
+        Map<Long, RegistrationService.Outcome> outcomes = registrationService.registerImported(event.getEid(), new ArrayList<>(resolved.keySet()));
+        resolved.forEach((sid, row) -> {
+            RegistrationService.Outcome outcome = outcomes.get(sid);
+            results.add(new RowResult(row.row(), sid, emailsById.get(sid), outcome.registered() ? "registered" : "failed",
+                    outcome.registrationId(), outcome.message()));
+        });
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String nextNonBlank(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    // One RFC 4180 record on a single line: commas separate fields, quotes may wrap a field and "" is a literal quote.
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
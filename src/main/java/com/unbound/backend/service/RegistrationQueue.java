@@ -0,0 +1,190 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.EventRegistration;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Admission queue for events flagged with {@code queuedRegistration}. A burst of solo registrations
+ * is accepted into a bounded in-memory queue and answered with a ticket straight away; worker
+ * threads drain it in batches through {@link RegistrationService#registerBatch}, so a hot event
+ * takes one row lock and one batched insert per batch instead of one per request. When the
+ * queue is full callers are told to retry rather than piling up on the database. Whether the event
+ * still takes registrations is checked again when an item is admitted, not only when it is queued.
+ * <p>
+ * Tickets live in memory on the node that issued them and are dropped after their TTL or on
+ * restart. Ticket ids are {@link IdGenerator} ids, which carry that node's id, so polling must be
+ * routed back to the issuing node (sticky sessions on the load balancer); another node answers
+ * such a poll with 421 rather than a misleading 404.
+ */
+@Service
+public class RegistrationQueue {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationQueue.class);
+
+    public enum Status { QUEUED, REGISTERED, REJECTED }
+
+    static final String TICKET_PREFIX = "TKT";
+
+    public record Ticket(String ticketId, Integer uid, Long eventId, Status status, Long registrationId,
+                         String message, long updatedAt) {
+    }
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Value("${registration.queue.capacity:10000}")
+    private int capacity;
+    @Value("${registration.queue.workers:2}")
+    private int workers;
+    @Value("${registration.queue.batch-size:100}")
+    private int batchSize;
+    @Value("${registration.queue.ticket-ttl-ms:3600000}")
+    private long ticketTtlMs;
+
+    private BlockingQueue<RegistrationService.QueuedRegistration> queue;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "registration-queue");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::work);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues a solo registration and returns its ticket, or empty when the queue is full.
+     */
+    public Optional<Ticket> submit(Integer uid, Long eventId, Long studentId, String receiptNumber) {
+        String ticketId = idGenerator.next(TICKET_PREFIX);
+        Ticket ticket = new Ticket(ticketId, uid, eventId, Status.QUEUED, null, "Waiting for a seat.", System.currentTimeMillis());
+        tickets.put(ticketId, ticket);
+        if (!queue.offer(new RegistrationService.QueuedRegistration(ticketId, eventId, studentId, receiptNumber))) {
+            tickets.remove(ticketId);
+            logger.warn("[REGISTRATION] Queue full, turning away registration for event {}", eventId);
+            return Optional.empty();
+        }
+        return Optional.of(ticket);
+    }
+
+    public Optional<Ticket> find(String ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    /**
+     * Whether {@code ticketId} was issued by this node, i.e. whether a miss here means it expired.
+     */
+    public boolean issuedHere(String ticketId) {
+        if (ticketId == null || !ticketId.startsWith(TICKET_PREFIX)) {
+            return false;
+        }
+        try {
+            return IdGenerator.nodeOf(ticketId.substring(TICKET_PREFIX.length())) == idGenerator.nodeId();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    @Scheduled(fixedDelayString = "${registration.queue.ticket-ttl-ms:3600000}")
+    public void expireTickets() {
+        long cutoff = System.currentTimeMillis() - ticketTtlMs;
+        tickets.values().removeIf(ticket -> ticket.status() != Status.QUEUED && ticket.updatedAt() < cutoff);
+    }
+
+    private void work() {
+        List<RegistrationService.QueuedRegistration> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                RegistrationService.QueuedRegistration first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                admit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("[REGISTRATION] Queue worker failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void admit(List<RegistrationService.QueuedRegistration> batch) {
+        Map<String, RegistrationService.Outcome> outcomes;
+        try {
+            outcomes = registrationService.registerBatch(batch);
+        } catch (RuntimeException e) {
+            // Usually a concurrent direct registration tripping the unique key; settle each one on its own.
+            logger.warn("[REGISTRATION] Batch of {} failed, registering individually: {}", batch.size(), e.getMessage());
+            outcomes = new HashMap<>();
+            for (RegistrationService.QueuedRegistration item : batch) {
+                outcomes.put(item.ticketId(), registerOne(item));
+            }
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, RegistrationService.Outcome> entry : outcomes.entrySet()) {
+            RegistrationService.Outcome outcome = entry.getValue();
+            tickets.computeIfPresent(entry.getKey(), (id, ticket) -> new Ticket(id, ticket.uid(), ticket.eventId(),
+                    outcome.registered() ? Status.REGISTERED : Status.REJECTED, outcome.registrationId(), outcome.message(), now));
+        }
+    }
+
+    private RegistrationService.Outcome registerOne(RegistrationService.QueuedRegistration item) {
+        try {
+            Event event = eventRepository.findById(item.eventId()).orElse(null);
+            Student student = studentRepository.findBySidIn(List.of(item.studentId())).stream().findFirst().orElse(null);
+            if (event == null || student == null) {
+                return new RegistrationService.Outcome(false, null, event == null ? "Event not found" : "Student not found");
+            }
+            String closed = RegistrationService.closedReason(event);
+            if (closed != null) {
+                return new RegistrationService.Outcome(false, null, closed);
+            }
+            EventRegistration registration = registrationService.registerSolo(event, student, item.receiptNumber());
+            return new RegistrationService.Outcome(true, registration.getRid(), "Registration successful! Check your email for receipt.");
+        } catch (RuntimeException e) {
+            return new RegistrationService.Outcome(false, null, e.getMessage());
+        }
+    }
+}
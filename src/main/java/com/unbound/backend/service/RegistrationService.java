@@ -0,0 +1,469 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.*;
+import com.unbound.backend.exception.RegistrationClosedException;
+import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.StudentRepository;
+import com.unbound.backend.repository.TeamMembersRepository;
+import com.unbound.backend.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates event registrations without oversubscribing. The registration row is inserted first so
+ * the (eid, sid) unique key rejects duplicates, then a single conditional UPDATE takes a seat from
+ * Event.registeredCount. Both run in one transaction, so a full event rolls the insert (and any
+ * team created for it) back. Each registration costs the same regardless of how many came before.
+ * The confirmation email is queued in the outbox by the same transaction.
+ */
+@Service
+public class RegistrationService {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationService.class);
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private TeamMembersRepository teamMembersRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private PlatformCounters platformCounters;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private IdGenerator idGenerator;
+
+    public static final String RECEIPT_PREFIX = "RCP";
+    private static final String DUPLICATE_REGISTRATION_KEY = "uk_event_registration_event_student";
+
+    /**
+     * A solo registration waiting in {@link RegistrationQueue}.
+     */
+    public record QueuedRegistration(String ticketId, Long eventId, Long studentId, String receiptNumber) {
+    }
+
+    public record Outcome(boolean registered, Long registrationId, String message) {
+    }
+
+    /**
+     * A new receipt number, unique across nodes. Every registration row stores one.
+     */
+    public String newReceiptNumber() {
+        return idGenerator.next(RECEIPT_PREFIX);
+    }
+
+    @Transactional
+    public EventRegistration registerSolo(Event event, Student student, String receiptNumber) {
+        return register(event, student, null, receiptNumber);
+    }
+
+    /**
+     * Joins the team with {@code teamId}, or creates a team named {@code teamName} led by the
+     * student when no id is given, and registers the student with it.
+     */
+    @Transactional
+    public EventRegistration registerTeam(Event event, Student student, Long teamId, String teamName, String receiptNumber) {
+        Team team;
+        if (teamId != null) {
+            team = teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("Team not found."));
+            if (teamMembersRepository.findByTeamAndStudent(team, student).isPresent()) {
+                throw new EntityNotFoundException("Already a member of this team.");
+            }
+        } else {
+            team = teamRepository.save(Team.builder()
+                    .event(event)
+                    .creator(student)
+                    .tname(teamName)
+                    .build());
+        }
+        teamMembersRepository.save(TeamMembers.builder()
+                .team(team)
+                .student(student)
+                .build());
+        return register(event, student, team, receiptNumber);
+    }
+
+    /**
+     * Admits a batch of queued solo registrations in one transaction. Each event row is locked once
+     * and re-checked, since registration may have closed while the items waited; duplicates are filtered with a single lookup, seats are handed out in queue order and the
+     * accepted rows go in as one JDBC batch. A unique-key clash with a concurrent direct
+     * registration fails the whole batch; the caller then retries the items one by one.
+     */
+    @Transactional
+    public Map<String, Outcome> registerBatch(List<QueuedRegistration> batch) {
+        Map<String, Outcome> outcomes = new HashMap<>();
+        Map<Long, Student> students = studentRepository.findBySidIn(
+                batch.stream().map(QueuedRegistration::studentId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Student::getSid, Function.identity()));
+        // Events are locked in ascending eid order, so workers whose batches share events cannot deadlock.
+        Map<Long, List<QueuedRegistration>> byEvent = batch.stream()
+                .collect(Collectors.groupingBy(QueuedRegistration::eventId, TreeMap::new, Collectors.toList()));
+
+        for (Map.Entry<Long, List<QueuedRegistration>> entry : byEvent.entrySet()) {
+            Event event = lockEvent(entry.getKey()).orElse(null);
+            if (event == null) {
+                entry.getValue().forEach(item -> outcomes.put(item.ticketId(), new Outcome(false, null, "Event not found")));
+                continue;
+            }
+            String closed = closedReason(event);
+            if (closed != null) {
+                entry.getValue().forEach(item -> outcomes.put(item.ticketId(), new Outcome(false, null, closed)));
+                continue;
+            }
+            Set<Long> taken = eventRegistrationRepository.findByEventEidAndStudentSidIn(event.getEid(),
+                    entry.getValue().stream().map(QueuedRegistration::studentId).collect(Collectors.toSet())).stream()
+                    .map(reg -> reg.getStudent().getSid())
+                    .collect(Collectors.toCollection(HashSet::new));
+            long seatsLeft = event.getCapacity() == null ? Long.MAX_VALUE : event.getCapacity() - event.getRegisteredCount();
+
+            List<QueuedRegistration> accepted = new ArrayList<>();
+            for (QueuedRegistration item : entry.getValue()) {
+                if (!students.containsKey(item.studentId())) {
+                    outcomes.put(item.ticketId(), new Outcome(false, null, "Student not found"));
+                } else if (!taken.add(item.studentId())) {
+                    outcomes.put(item.ticketId(), new Outcome(false, null, "Already registered for this event."));
+                } else if (seatsLeft <= 0) {
+                    outcomes.put(item.ticketId(), new Outcome(false, null, "Event is full."));
+                } else {
+                    accepted.add(item);
+                    seatsLeft--;
+                }
+            }
+            if (accepted.isEmpty()) {
+                continue;
+            }
+
+            Map<Long, String> receipts = new LinkedHashMap<>();
+            accepted.forEach(item -> receipts.put(item.studentId(), item.receiptNumber()));
+            insertRegistrations(event, null, receipts);
+
+            Map<Long, EventRegistration> inserted = eventRegistrationRepository.findByEventEidAndStudentSidIn(event.getEid(),
+                    accepted.stream().map(QueuedRegistration::studentId).collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(reg -> reg.getStudent().getSid(), Function.identity()));
+            for (QueuedRegistration item : accepted) {
+                EventRegistration registration = inserted.get(item.studentId());
+                Student student = students.get(item.studentId());
+                emailService.sendEmail(
+                    student.getUser().getEmail(),
+                    "Registration Confirmation - " + event.getEname(),
+                    generateRegistrationEmailBody(student, event, registration, "solo", null)
+                );
+                outcomes.put(item.ticketId(), new Outcome(true, registration.getRid(), "Registration successful! Check your email for receipt."));
+            }
+            logger.info("[REGISTRATION] Admitted {} of {} queued registrations for event {}", accepted.size(), entry.getValue().size(), event.getEid());
+        }
+        return outcomes;
+    }
+
+    /**
+     * Registers a whole team in one transaction: the creator plus every listed member, resolved with
+     * a single query. Any unknown member, existing registration or shortage of seats rejects the
+     * whole roster. Team membership and registration rows are written as JDBC batches and each
+     * member's confirmation email is queued in the outbox.
+     */
+    @Transactional
+    public RosterRegistration registerRoster(Event event, Student creator, String teamName,
+                                             Collection<Long> memberIds, Collection<String> memberEmails, String receiptNumber) {
+        Set<Long> sids = new LinkedHashSet<>();
+        sids.add(creator.getSid());
+        if (memberIds != null) {
+            memberIds.stream().filter(Objects::nonNull).forEach(sids::add);
+        }
+        Set<String> emails = memberEmails == null ? Set.of() : memberEmails.stream()
+                .filter(Objects::nonNull).map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Student> found = emails.isEmpty()
+                ? studentRepository.findBySidIn(sids)
+                : studentRepository.findBySidInOrUserEmailIn(sids, emails);
+
+        Set<Long> missingIds = new LinkedHashSet<>(sids);
+        Set<String> missingEmails = new LinkedHashSet<>(emails);
+        Map<Long, Student> members = new LinkedHashMap<>();
+        members.put(creator.getSid(), creator);
+        for (Student student : found) {
+            missingIds.remove(student.getSid());
+            missingEmails.remove(student.getUser().getEmail().toLowerCase(Locale.ROOT));
+            members.putIfAbsent(student.getSid(), student);
+        }
+        if (!missingIds.isEmpty() || !missingEmails.isEmpty()) {
+            List<Object> missing = new ArrayList<>(missingIds);
+            missing.addAll(missingEmails);
+            throw new EntityNotFoundException("Students not found: " + missing);
+        }
+
+        Event locked = lockEvent(event.getEid())
+                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+        if (!eventRegistrationRepository.findByEventEidAndStudentSidIn(locked.getEid(), members.keySet()).isEmpty()) {
+            throw new RegistrationClosedException("Already registered for this event.");
+        }
+        if (locked.getCapacity() != null && locked.getCapacity() - locked.getRegisteredCount() < members.size()) {
+            logger.info("[REGISTRATION] Event {} has no room for a team of {}", locked.getEid(), members.size());
+            throw new RegistrationClosedException("Event is full.");
+        }
+
+        Team team = teamRepository.save(Team.builder()
+                .event(locked)
+                .creator(creator)
+                .tname(teamName)
+                .build());
+        List<Long> memberSids = new ArrayList<>(members.keySet());
+        jdbcTemplate.batchUpdate("INSERT INTO team_members (tid, sid) VALUES (?, ?)",
+                memberSids, memberSids.size(), (ps, sid) -> {
+                    ps.setLong(1, team.getTid());
+                    ps.setLong(2, sid);
+                });
+        // The creator's row carries the receipt shown in the response; each member gets their own.
+        Map<Long, String> receipts = new LinkedHashMap<>();
+        memberSids.forEach(sid -> receipts.put(sid, sid.equals(creator.getSid()) ? receiptNumber : newReceiptNumber()));
+        insertRegistrations(locked, team.getTid(), receipts);
+
+        List<EventRegistration> registrations = eventRegistrationRepository.findByEventEidAndStudentSidIn(locked.getEid(), memberSids);
+        for (EventRegistration registration : registrations) {
+            Student student = members.get(registration.getStudent().getSid());
+            emailService.sendEmail(
+                student.getUser().getEmail(),
+                "Registration Confirmation - " + locked.getEname(),
+                generateRegistrationEmailBody(student, locked, registration, "team", team)
+            );
+        }
+        logger.info("[REGISTRATION] Registered team {} with {} members for event {}", team.getTid(), memberSids.size(), locked.getEid());
+        return new RosterRegistration(team, registrations);
+    }
+
+    public record RosterRegistration(Team team, List<EventRegistration> registrations) {
+    }
+
+    /**
+     * Registers already-resolved students for an event on the organizer's behalf, as one chunk of a
+     * bulk import. Duplicates are found with one lookup and seats are handed out in the given order;
+     * students past capacity or already registered are reported rather than failing the chunk.
+     * No confirmation emails are sent.
+     */
+    @Transactional
+    public Map<Long, Outcome> registerImported(Long eventId, List<Long> sids) {
+        Event event = lockEvent(eventId)
+                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+        Set<Long> taken = eventRegistrationRepository.findRegistrationKeys(eventId, sids).stream()
+                .map(EventRegistrationRepository.RegistrationKey::getSid)
+                .collect(Collectors.toCollection(HashSet::new));
+        long seatsLeft = event.getCapacity() == null ? Long.MAX_VALUE : event.getCapacity() - event.getRegisteredCount();
+
+        Map<Long, Outcome> outcomes = new HashMap<>();
+        List<Long> accepted = new ArrayList<>();
+        for (Long sid : sids) {
+            if (!taken.add(sid)) {
+                outcomes.put(sid, new Outcome(false, null, "Already registered for this event."));
+            } else if (seatsLeft <= 0) {
+                outcomes.put(sid, new Outcome(false, null, "Event is full."));
+            } else {
+                accepted.add(sid);
+                seatsLeft--;
+            }
+        }
+        if (!accepted.isEmpty()) {
+            Map<Long, String> receipts = new LinkedHashMap<>();
+            accepted.forEach(sid -> receipts.put(sid, newReceiptNumber()));
+            insertRegistrations(event, null, receipts);
+            eventRegistrationRepository.findRegistrationKeys(eventId, accepted)
+                    .forEach(row -> outcomes.put(row.getSid(), new Outcome(true, row.getRid(), "Registered")));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Why {@code event} no longer takes registrations, or null when it does. Queued registrations are
+     * checked again when admitted, as the event may have closed after they were accepted.
+     */
+    public static String closedReason(Event event) {
+        if (!event.isApproved() || !event.isActive()) {
+            return "Event is not available for registration.";
+        }
+        if (!event.isRegistrationOpen()) {
+            return "Registration for this event is closed.";
+        }
+        if (LocalDate.now().isAfter(event.getRegistrationDeadline())) {
+            return "Registration deadline has passed.";
+        }
+        return null;
+    }
+
+    // Locks the event row and re-reads it; a copy loaded earlier in the request may have a stale seat count.
+    private Optional<Event> lockEvent(Long eid) {
+        Optional<Event> event = eventRepository.findById(eid);
+        event.ifPresent(e -> entityManager.refresh(e, LockModeType.PESSIMISTIC_WRITE));
+        return event;
+    }
+
+    // Caller holds the event row lock and has already checked duplicates and capacity.
+    private void insertRegistrations(Event event, Long tid, Map<Long, String> receiptsBySid) {
+        List<Long> sids = new ArrayList<>(receiptsBySid.keySet());
+        Timestamp erdateTime = Timestamp.valueOf(LocalDateTime.now());
+        String paymentStatus = event.getFees() > 0 ? "pending" : "paid";
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO event_registration (eid, sid, tid, erdate_time, status, payment_status, certificate_approved, receipt_number) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                sids, sids.size(), (ps, sid) -> {
+                    ps.setLong(1, event.getEid());
+                    ps.setLong(2, sid);
+                    ps.setObject(3, tid, Types.BIGINT);
+                    ps.setTimestamp(4, erdateTime);
+                    ps.setString(5, "registered");
+                    ps.setString(6, paymentStatus);
+                    ps.setBoolean(7, false);
+                    ps.setString(8, receiptsBySid.get(sid));
+                });
+        eventRepository.addSeats(event.getEid(), sids.size());
+        platformCounters.registrationsAdded(sids.size());
+    }
+
+    private EventRegistration register(Event event, Student student, Team team, String receiptNumber) {
+        EventRegistration registration = EventRegistration.builder()
+                .event(event)
+                .student(student)
+                .team(team)
+                .erdateTime(LocalDateTime.now())
+                .status("registered")
+                .paymentStatus(event.getFees() > 0 ? "pending" : "paid")
+                .receiptNumber(receiptNumber)
+                .build();
+        try {
+            eventRegistrationRepository.saveAndFlush(registration);
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, DUPLICATE_REGISTRATION_KEY)) {
+                throw new RegistrationClosedException("Already registered for this event.");
+            }
+            throw e;
+        }
+        if (eventRepository.reserveSeat(event.getEid()) == 0) {
+            logger.info("[REGISTRATION] Event {} is full, rejected student {}", event.getEid(), student.getSid());
+            throw new RegistrationClosedException("Event is full.");
+        }
+        emailService.sendEmail(
+            student.getUser().getEmail(),
+            "Registration Confirmation - " + event.getEname(),
+            generateRegistrationEmailBody(student, event, registration, team != null ? "team" : "solo", team)
+        );
+        return registration;
+    }
+
+    // Drivers report the key with a table prefix (MySQL) or index suffix (H2), so match by containment.
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName();
+                return name != null && name.toLowerCase(Locale.ROOT).contains(constraint);
+            }
+        }
+        return false;
+    }
+
+    private String generateRegistrationEmailBody(Student student, Event event, EventRegistration registration, String registrationType, Team team) {
+        StringBuilder emailBody = new StringBuilder();
+        emailBody.append("Dear ").append(student.getSname()).append(",\n\n");
+        emailBody.append("Thank you for registering for the event!\n\n");
+        
+        emailBody.append("=== REGISTRATION RECEIPT ===\n");
+        emailBody.append("Receipt Number: ").append(registration.getReceiptNumber()).append("\n");
+        emailBody.append("Registration Date: ").append(registration.getErdateTime()).append("\n");
+        emailBody.append("Registration Type: ").append(registrationType.toUpperCase()).append("\n\n");
+        
+        emailBody.append("=== EVENT DETAILS ===\n");
+        emailBody.append("Event Name: ").append(event.getEname()).append("\n");
+        emailBody.append("Event Date: ").append(event.getEventDate()).append("\n");
+        emailBody.append("Event Time: ").append(event.getEventDate()).append("\n");
+        emailBody.append("Location: ").append(event.getLocation()).append("\n");
+        emailBody.append("Category: ").append(event.getCategory()).append("\n");
+        emailBody.append("Mode: ").append(event.getMode()).append("\n");
+        emailBody.append("Entry Fee: ₹").append(event.getFees()).append("\n");
+        emailBody.append("Registration Deadline: ").append(event.getRegistrationDeadline()).append("\n\n");
+        
+        if (event.getCashPrize() != null && !event.getCashPrize().isEmpty()) {
+            emailBody.append("=== PRIZES ===\n");
+            emailBody.append("Cash Prize: ").append(event.getCashPrize()).append("\n");
+            if (event.getFirstPrize() != null) emailBody.append("1st Prize: ").append(event.getFirstPrize()).append("\n");
+            if (event.getSecondPrize() != null) emailBody.append("2nd Prize: ").append(event.getSecondPrize()).append("\n");
+            if (event.getThirdPrize() != null) emailBody.append("3rd Prize: ").append(event.getThirdPrize()).append("\n");
+            emailBody.append("\n");
+        }
+        
+        emailBody.append("=== ORGANIZER DETAILS ===\n");
+        emailBody.append("College: ").append(event.getCollege().getCname()).append("\n");
+        if (event.getFest() != null) {
+            emailBody.append("Fest: ").append(event.getFest().getFname()).append("\n");
+        }
+        if (event.getOrganizerName() != null) {
+            emailBody.append("Organizer: ").append(event.getOrganizerName()).append("\n");
+        }
+        if (event.getOrganizerEmail() != null) {
+            emailBody.append("Organizer Email: ").append(event.getOrganizerEmail()).append("\n");
+        }
+        if (event.getOrganizerPhone() != null) {
+            emailBody.append("Organizer Phone: ").append(event.getOrganizerPhone()).append("\n");
+        }
+        emailBody.append("\n");
+        
+        if ("team".equals(registrationType) && team != null) {
+            emailBody.append("=== TEAM DETAILS ===\n");
+            emailBody.append("Team Name: ").append(team.getTname()).append("\n");
+            emailBody.append("Team Creator: ").append(team.getCreator().getSname()).append("\n");
+            emailBody.append("\n");
+        }
+        
+        if (event.getRules() != null && !event.getRules().isEmpty()) {
+            emailBody.append("=== EVENT RULES ===\n");
+            emailBody.append(event.getRules()).append("\n\n");
+        }
+        
+        if (event.getRequirements() != null && !event.getRequirements().isEmpty()) {
+            emailBody.append("=== EVENT REQUIREMENTS ===\n");
+            emailBody.append(event.getRequirements()).append("\n\n");
+        }
+        
+        emailBody.append("=== PAYMENT STATUS ===\n");
+        emailBody.append("Status: ").append(registration.getPaymentStatus().toUpperCase()).append("\n");
+        if ("pending".equalsIgnoreCase(registration.getPaymentStatus()) && event.getFees() > 0) {
+            emailBody.append("Please complete your payment to confirm your registration.\n");
+        }
+        emailBody.append("\n");
+        
+        emailBody.append("=== IMPORTANT NOTES ===\n");
+        emailBody.append("- Please arrive 15 minutes before the event start time\n");
+        emailBody.append("- Bring your college ID card for verification\n");
+        emailBody.append("- Check your email for any updates or changes\n");
+        emailBody.append("- Contact the organizer if you have any questions\n\n");
+        
+        emailBody.append("We look forward to seeing you at the event!\n\n");
+        emailBody.append("Best regards,\n");
+        emailBody.append("Unbound Platform Team\n");
+        emailBody.append("Email: support@unbound.com\n");
+        emailBody.append("Phone: +91-XXXXXXXXXX\n");
+        
+        return emailBody.toString();
+    }
+}
@@ -0,0 +1,173 @@
+package com.unbound.backend.service;
+
+import com.razorpay.Order;
+import com.razorpay.RazorpayException;
+import com.unbound.backend.exception.PaymentGatewayUnavailableException;
+import jakarta.annotation.PostConstruct;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Failure isolation shared by the gateway implementations, so the fake exercises the same paths
+ * as the real thing. At most {@code max-concurrent-calls} requests wait on the gateway at once,
+ * and a request that cannot get a slot within {@code max-wait-ms} is turned away;
+ * transient failures (timeouts, connection errors, 429 and 5xx) are retried with full-jitter
+ * backoff; and once calls keep failing the circuit opens and order creation fails fast with 503
+ * instead of holding request threads for the whole timeout. Creating an order is not idempotent,
+ * so when an attempt may have reached the gateway without an answer coming back, the next attempt
+ * first looks the order up by its receipt and only creates one if none exists.
+ */
+public abstract class ResilientPaymentGateway implements PaymentGateway {
+    private static final Logger logger = LoggerFactory.getLogger(ResilientPaymentGateway.class);
+
+    @Value("${payment.gateway.request-timeout-ms:5000}")
+    protected long requestTimeoutMs;
+    @Value("${payment.gateway.max-attempts:3}")
+    private int maxAttempts;
+    @Value("${payment.gateway.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+    @Value("${payment.gateway.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+    @Value("${payment.gateway.max-wait-ms:1000}")
+    private long maxWaitMs;
+    @Value("${payment.gateway.failure-threshold:5}")
+    private int failureThreshold;
+    @Value("${payment.gateway.open-ms:30000}")
+    private long openMs;
+
+    private Semaphore permits;
+    private CircuitBreaker circuitBreaker;
+
+    /** A failure worth retrying: the gateway may well succeed on the next attempt. */
+    protected static class TransientGatewayException extends Exception {
+        public TransientGatewayException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    @PostConstruct
+    public void initResilience() {
+        permits = new Semaphore(maxConcurrentCalls);
+        circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+    }
+
+    /**
+     * A failure after the request may have reached the gateway, such as a read timeout: a create
+     * may have gone through. Reads are retried as usual.
+     */
+    protected static class OutcomeUnknownException extends TransientGatewayException {
+        public OutcomeUnknownException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /** One attempt at a gateway call. */
+    @FunctionalInterface
+    protected interface GatewayCall<T> {
+        T call() throws RazorpayException, TransientGatewayException;
+    }
+
+    /**
+     * One attempt at creating the order, bounded by {@link #requestTimeoutMs}.
+     *
+     * @throws RazorpayException if the gateway answered but rejected the request
+     */
+    protected abstract Order sendCreateOrder(JSONObject orderRequest) throws RazorpayException, TransientGatewayException;
+
+    /** One attempt at looking up an order's payments, bounded by {@link #requestTimeoutMs}. */
+    protected abstract OrderStatus sendFetchOrderStatus(String orderId) throws RazorpayException, TransientGatewayException;
+
+    /** One attempt at finding the order created with {@code receipt}; null if there is none. */
+    protected abstract Order sendFindOrderByReceipt(String receipt) throws RazorpayException, TransientGatewayException;
+
+    @Override
+    public Order createOrder(JSONObject orderRequest) throws RazorpayException {
+        String receipt = orderRequest.optString("receipt", null);
+        AtomicBoolean mayExist = new AtomicBoolean();
+        // Without a receipt a lost create cannot be looked up, so it is not retried.
+        return execute(() -> {
+            if (mayExist.get()) {
+                Order existing = sendFindOrderByReceipt(receipt);
+                if (existing != null) {
+                    logger.info("[PAYMENT] Found order {} created by an unanswered attempt for receipt {}", existing.get("id"), receipt);
+                    return existing;
+                }
+                mayExist.set(false);
+            }
+            try {
+                return sendCreateOrder(orderRequest);
+            } catch (OutcomeUnknownException e) {
+                mayExist.set(true);
+                throw e;
+            }
+        }, receipt != null ? maxAttempts : 1);
+    }
+
+    @Override
+    public OrderStatus fetchOrderStatus(String orderId) throws RazorpayException {
+        return execute(() -> sendFetchOrderStatus(orderId), maxAttempts);
+    }
+
+    private <T> T execute(GatewayCall<T> call, int attempts) throws RazorpayException {
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new PaymentGatewayUnavailableException("Too many payment requests in progress. Please try again shortly.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RazorpayException("Interrupted while waiting for the payment gateway", e);
+        }
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                throw new PaymentGatewayUnavailableException("Payments are temporarily unavailable. Please try again shortly.");
+            }
+            return callWithRetries(call, attempts);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Each call that passed the circuit breaker reports exactly one outcome back to it.
+    private <T> T callWithRetries(GatewayCall<T> call, int attempts) throws RazorpayException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = call.call();
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (RazorpayException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    circuitBreaker.onCancelled();
+                } else {
+                    // The gateway is up and answered; the request itself was refused.
+                    circuitBreaker.onSuccess();
+                }
+                throw e;
+            } catch (TransientGatewayException e) {
+                if (attempt >= attempts) {
+                    circuitBreaker.onFailure();
+                    logger.warn("[PAYMENT] Gateway call failed after {} attempts, circuit {}: {}", attempt, circuitBreaker.state(), e.getMessage());
+                    throw new RazorpayException("Payment gateway unavailable: " + e.getMessage(), e);
+                }
+                long delay = ThreadLocalRandom.current().nextLong((retryBackoffMs << (attempt - 1)) + 1);
+                logger.info("[PAYMENT] Gateway attempt {} failed, retrying in {} ms: {}", attempt, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    circuitBreaker.onCancelled();
+                    throw new RazorpayException("Interrupted while retrying the payment gateway", interrupted);
+                }
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure();
+                throw e;
+            }
+        }
+    }
+}
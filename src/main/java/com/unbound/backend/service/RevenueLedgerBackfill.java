@@ -0,0 +1,54 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.repository.PaymentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Brings paid payments that predate the revenue ledger into it at startup. A payment another
+ * instance records at the same time fails the page on the ledger's unique pid; the page is then
+ * re-read without it.
+ */
+@Service
+public class RevenueLedgerBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(RevenueLedgerBackfill.class);
+    private static final int MAX_CONFLICTS = 3;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private RevenueLedgerService revenueLedgerService;
+
+    @Value("${revenue.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int recorded = 0, conflicts = 0;
+        List<Payment> missing;
+        while (!(missing = paymentRepository.findPaidWithoutLedgerEntry(Limit.of(batchSize))).isEmpty()) {
+            try {
+                revenueLedgerService.backfill(missing);
+                recorded += missing.size();
+            } catch (DataIntegrityViolationException e) {
+                if (++conflicts >= MAX_CONFLICTS) {
+                    logger.warn("[REVENUE] Stopping ledger backfill after {} conflicting batches: {}", conflicts, e.getMessage());
+                    break;
+                }
+            }
+        }
+        if (recorded > 0) {
+            logger.info("[REVENUE] Backfilled {} paid payments into the revenue ledger", recorded);
+        }
+    }
+}
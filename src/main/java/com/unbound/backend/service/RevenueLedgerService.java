@@ -0,0 +1,102 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.RevenueLedgerEntry;
+import com.unbound.backend.entity.RevenueTotal;
+import com.unbound.backend.repository.RevenueLedgerRepository;
+import com.unbound.backend.repository.RevenueTotalRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only record of paid payments with running totals per college, fest, event and day.
+ * An entry and its four total increments are written in the transaction that marks the payment
+ * paid, and the ledger's unique pid makes a second recording of the same payment roll back, so
+ * the totals always equal the sum of the ledger. Dashboards read the totals instead of scanning
+ * payments.
+ */
+@Service
+public class RevenueLedgerService {
+    @Autowired
+    private RevenueLedgerRepository revenueLedgerRepository;
+    @Autowired
+    private RevenueTotalRepository revenueTotalRepository;
+
+    /**
+     * Records a payment that has just become paid. Callers hold the transaction.
+     */
+    public void record(Payment payment) {
+        record(payment, LocalDate.now());
+    }
+
+    /**
+     * Records payments that were paid before the ledger existed, dated by when their order was
+     * created since the payment time was not kept.
+     */
+    @Transactional
+    public void backfill(List<Payment> payments) {
+        payments.forEach(payment -> record(payment, payment.getCreatedAt().toLocalDate()));
+    }
+
+    private void record(Payment payment, LocalDate paidOn) {
+        Event event = payment.getEventRegistration().getEvent();
+        Long collegeId = payment.getCollege().getCid();
+        Long festId = event.getFest() != null ? event.getFest().getFid() : null;
+        String currency = currency(payment.getCurrency());
+        revenueLedgerRepository.save(RevenueLedgerEntry.builder()
+                .payment(payment)
+                .collegeId(collegeId)
+                .festId(festId)
+                .eventId(event.getEid())
+                .amount(payment.getAmount())
+                .currency(currency)
+                .paidOn(paidOn)
+                .recordedAt(LocalDateTime.now())
+                .build());
+
+        long amount = payment.getAmount();
+        revenueTotalRepository.add(collegeId, RevenueTotal.Scope.COLLEGE.name(), 0L, currency, amount);
+        if (festId != null) {
+            revenueTotalRepository.add(collegeId, RevenueTotal.Scope.FEST.name(), festId, currency, amount);
+        }
+        revenueTotalRepository.add(collegeId, RevenueTotal.Scope.EVENT.name(), event.getEid(), currency, amount);
+        revenueTotalRepository.add(collegeId, RevenueTotal.Scope.DAY.name(), paidOn.toEpochDay(), currency, amount);
+    }
+
+    public long collegeTotal(Long collegeId, String currency) {
+        return revenueTotalRepository.findByCollegeIdAndScopeAndRefIdAndCurrency(collegeId, RevenueTotal.Scope.COLLEGE, 0L, currency(currency))
+                .map(RevenueTotal::getAmount).orElse(0L);
+    }
+
+    /** The college's earnings in each currency it has been paid in. */
+    public Map<String, Long> collegeTotals(Long collegeId) {
+        return revenueTotalRepository.findByCollegeIdAndScope(collegeId, RevenueTotal.Scope.COLLEGE).stream()
+                .collect(Collectors.toMap(RevenueTotal::getCurrency, RevenueTotal::getAmount, Long::sum, TreeMap::new));
+    }
+
+    /** Earnings in {@code currency} keyed by fid or eid; ids with no paid payments are absent. */
+    public Map<Long, Long> totalsBy(Long collegeId, RevenueTotal.Scope scope, String currency) {
+        return revenueTotalRepository.findByCollegeIdAndScopeAndCurrency(collegeId, scope, currency(currency)).stream()
+                .collect(Collectors.toMap(RevenueTotal::getRefId, RevenueTotal::getAmount));
+    }
+
+    /** Daily totals in {@code currency} for the days in [from, to] that had paid payments, in date order. */
+    public List<RevenueTotal> dailyTotals(Long collegeId, String currency, LocalDate from, LocalDate to) {
+        return revenueTotalRepository.findByCollegeIdAndScopeAndCurrencyAndRefIdBetweenOrderByRefId(
+                collegeId, RevenueTotal.Scope.DAY, currency(currency), from.toEpochDay(), to.toEpochDay());
+    }
+
+    private static String currency(String currency) {
+        return currency.trim().toUpperCase(Locale.ROOT);
+    }
+}
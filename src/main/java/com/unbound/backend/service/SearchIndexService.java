@@ -0,0 +1,304 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.SearchHit;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.FestRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Embedded Lucene index over the public (approved and active) catalog.
+ * Kept in step with MySQL through {@link CatalogChangedEvent}s and rebuilt on startup when the
+ * index directory is empty.
+ */
+@Service
+public class SearchIndexService {
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    public static final String TYPE_EVENT = "event";
+    public static final String TYPE_FEST = "fest";
+
+    private static final String F_KEY = "key";
+    private static final String F_TYPE = "type";
+    private static final String F_ID = "id";
+    private static final String F_TITLE = "title";
+    private static final String F_DATE = "date";
+    private static final String F_DESCRIPTION = "description";
+    private static final String F_RULES = "rules";
+    private static final String F_REQUIREMENTS = "requirements";
+    private static final String F_CATEGORY = "category";
+    private static final String F_COLLEGE = "college";
+
+    private static final String[] SEARCH_FIELDS = {F_TITLE, F_CATEGORY, F_COLLEGE, F_DESCRIPTION, F_RULES, F_REQUIREMENTS};
+    private static final Map<String, Float> BOOSTS = Map.of(
+            F_TITLE, 4f,
+            F_CATEGORY, 2f,
+            F_COLLEGE, 1.5f,
+            F_DESCRIPTION, 1f,
+            F_RULES, 0.5f,
+            F_REQUIREMENTS, 0.5f);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private FestRepository festRepository;
+    @Autowired
+    private ExploreService exploreService;
+
+    @Value("${search.index.dir:data/search-index}")
+    private String indexDir;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private boolean rebuildOnStartup;
+
+    @PostConstruct
+    void open() throws IOException {
+        Path path = Path.of(indexDir);
+        Files.createDirectories(path);
+        directory = FSDirectory.open(path);
+        rebuildOnStartup = !DirectoryReader.indexExists(directory);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        logger.info("[SEARCH] Index opened at {} ({} docs)", path.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Drops the index and re-reads the public catalog from MySQL in keyset-ordered batches.
+     */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            writer.deleteAll();
+            long[] counts = new long[2];
+            exploreService.forEachPublicEventBatch(REBUILD_BATCH_SIZE, batch -> {
+                for (Event event : batch) {
+                    addDocument(toDocument(event));
+                }
+                counts[0] += batch.size();
+            });
+            exploreService.forEachPublicFestBatch(REBUILD_BATCH_SIZE, batch -> {
+                for (Fest fest : batch) {
+                    addDocument(toDocument(fest));
+                }
+                counts[1] += batch.size();
+            });
+            writer.commit();
+            searcherManager.maybeRefresh();
+            logger.info("[SEARCH] Index rebuilt: {} events, {} fests in {} ms", counts[0], counts[1], System.currentTimeMillis() - started);
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("[SEARCH] Index rebuild failed", e);
+        }
+    }
+
+    private void addDocument(Document doc) {
+        try {
+            writer.addDocument(doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Runs after the surrounding transaction commits, or straight away when there is none.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogChangedEvent.INDEX_ORDER)
+    public void onCatalogChanged(CatalogChangedEvent change) {
+        try {
+            if (change.kind() == CatalogChangedEvent.Kind.EVENT) {
+                Event event = change.removed() ? null : eventRepository.findById(change.id()).orElse(null);
+                if (event != null && event.isApproved() && event.isActive()) {
+                    writer.updateDocument(keyTerm(TYPE_EVENT, event.getEid()), toDocument(event));
+                } else {
+                    writer.deleteDocuments(keyTerm(TYPE_EVENT, change.id()));
+                }
+            } else {
+                Fest fest = change.removed() ? null : festRepository.findById(change.id()).orElse(null);
+                if (fest != null && fest.isApproved() && fest.isActive()) {
+                    writer.updateDocument(keyTerm(TYPE_FEST, fest.getFid()), toDocument(fest));
+                } else {
+                    writer.deleteDocuments(keyTerm(TYPE_FEST, change.id()));
+                }
+            }
+            searcherManager.maybeRefresh();
+            logger.debug("[SEARCH] Reindexed {} {} (removed={})", change.kind(), change.id(), change.removed());
+        } catch (IOException e) {
+            logger.error("[SEARCH] Failed to reindex {} {}", change.kind(), change.id(), e);
+        }
+    }
+
+    /**
+     * Relevance-ranked search across events and fests. {@code type} narrows to "event" or "fest".
+     */
+    public List<SearchHit> search(String text, String type, int limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (type != null && !TYPE_EVENT.equals(type) && !TYPE_FEST.equals(type)) {
+            throw new IllegalArgumentException("type must be 'event' or 'fest'");
+        }
+        Query query = buildQuery(text, type);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, limit);
+                UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                        .withMaxNoHighlightPassages(0)
+                        .build();
+                Map<String, String[]> passages = highlighter.highlightFields(SEARCH_FIELDS, query, top);
+                List<SearchHit> hits = new ArrayList<>(top.scoreDocs.length);
+                for (int i = 0; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document doc = searcher.storedFields().document(scoreDoc.doc);
+                    Map<String, String> highlights = new LinkedHashMap<>();
+                    for (String field : SEARCH_FIELDS) {
+                        String passage = passages.get(field)[i];
+                        if (passage != null) {
+                            highlights.put(field, passage);
+                        }
+                    }
+                    hits.add(SearchHit.builder()
+                            .type(doc.get(F_TYPE))
+                            .id(doc.getField(F_ID).numericValue().longValue())
+                            .title(doc.get(F_TITLE))
+                            .date(doc.get(F_DATE))
+                            .college(doc.get(F_COLLEGE))
+                            .score(scoreDoc.score)
+                            .highlights(highlights)
+                            .build());
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search index unavailable", e);
+        }
+    }
+
+    // Near-real-time readers already see uncommitted changes; committing only makes them durable.
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            logger.error("[SEARCH] Index commit failed", e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query buildQuery(String text, String type) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        Query parsed;
+        try {
+            parsed = parser.parse(QueryParser.escape(text.trim()));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid search query");
+        }
+        if (type == null) {
+            return parsed;
+        }
+        return new BooleanQuery.Builder()
+                .add(parsed, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(F_TYPE, type)), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    private static Term keyTerm(String type, Long id) {
+        return new Term(F_KEY, type + ":" + id);
+    }
+
+    private static Document toDocument(Event event) {
+        Document doc = baseDocument(TYPE_EVENT, event.getEid(), event.getEname(), event.getEventDate().toString(), event.getCollege().getCname());
+        addText(doc, F_DESCRIPTION, event.getEdescription());
+        addText(doc, F_RULES, event.getRules());
+        addText(doc, F_REQUIREMENTS, event.getRequirements());
+        addText(doc, F_CATEGORY, event.getCategory());
+        return doc;
+    }
+
+    private static Document toDocument(Fest fest) {
+        Document doc = baseDocument(TYPE_FEST, fest.getFid(), fest.getFname(), fest.getStartDate().toString(), fest.getCollege().getCname());
+        addText(doc, F_DESCRIPTION, fest.getFdescription());
+        return doc;
+    }
+
+    private static Document baseDocument(String type, Long id, String title, String date, String college) {
+        Document doc = new Document();
+        doc.add(new StringField(F_KEY, type + ":" + id, Field.Store.NO));
+        doc.add(new StringField(F_TYPE, type, Field.Store.YES));
+        doc.add(new StoredField(F_ID, id));
+        doc.add(new StoredField(F_DATE, date));
+        addText(doc, F_TITLE, title);
+        addText(doc, F_COLLEGE, college);
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.time.LocalDate;
 import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,11 +46,7 @@ public class StudentDashboardService {
                 ));
             } else {
                 eventInfo.put("reviewed", false);
-                boolean canReview = false;
-                try {
-                    canReview = java.time.LocalDate.now().isAfter(java.time.LocalDate.parse(event.getEventDate()));
-                } catch (Exception e) { throw new RuntimeException("Invalid event date format"); }
-                eventInfo.put("canReview", canReview);
+                eventInfo.put("canReview", LocalDate.now().isAfter(event.getEventDate()));
             }
             result.add(eventInfo);
         }
@@ -63,16 +60,9 @@ public class StudentDashboardService {
         int totalEvents = regs.size();
         long totalPaid = regs.stream().filter(r -> "paid".equalsIgnoreCase(r.getPaymentStatus())).count();
         long reviewsGiven = regs.stream().filter(r -> eventReviewRepository.findByEventAndStudent(r.getEvent(), student).isPresent()).count();
-        long upcoming = regs.stream().filter(r -> {
-            try {
-                return java.time.LocalDate.parse(r.getEvent().getEventDate()).isAfter(java.time.LocalDate.now());
-            } catch (Exception e) { throw new RuntimeException("Invalid event date format"); }
-        }).count();
-        long past = regs.stream().filter(r -> {
-            try {
-                return java.time.LocalDate.parse(r.getEvent().getEventDate()).isBefore(java.time.LocalDate.now());
-            } catch (Exception e) { throw new RuntimeException("Invalid event date format"); }
-        }).count();
+        LocalDate today = LocalDate.now();
+        long upcoming = eventRegistrationRepository.countByStudentAndEventEventDateAfter(student, today);
+        long past = eventRegistrationRepository.countByStudentAndEventEventDateBefore(student, today);
         Map<String, Object> stats = Map.of(
             "totalEvents", totalEvents,
             "totalPaid", totalPaid,
@@ -0,0 +1,224 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.Suggestion;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.FestRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Search-box autocomplete over event, fest and college names, cities and categories.
+ * Lookups only read the current {@link SuggestionTrie}; catalog changes are queued and applied on
+ * a background thread, which rebuilds a new trie from the in-memory contributions once per burst
+ * and swaps it in, so committing an edit never waits on a rebuild. Registration counts drift
+ * between full reloads, which run at startup and on a schedule.
+ */
+@Service
+public class SuggestService {
+    private static final Logger logger = LoggerFactory.getLogger(SuggestService.class);
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final int RELOAD_BATCH_SIZE = 500;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private FestRepository festRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private ExploreService exploreService;
+
+    private final AtomicReference<SuggestionTrie> trie = new AtomicReference<>(SuggestionTrie.EMPTY);
+
+    // "event:<eid>" / "fest:<fid>" -> the suggestions that item contributes. Guarded by this.
+    private final Map<String, List<Suggestion>> contributions = new HashMap<>();
+    // Changes committed but not yet applied, keyed like contributions.
+    private final Map<String, CatalogChangedEvent> pendingChanges = new ConcurrentHashMap<>();
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private ExecutorService updater;
+
+    @PostConstruct
+    public void start() {
+        updater = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "suggest-updater");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        updater.shutdownNow();
+    }
+
+    public List<Suggestion> suggest(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Query prefix is required");
+        }
+        int size = limit == null ? MAX_SUGGESTIONS : limit;
+        if (size < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return trie.get().lookup(prefix, Math.min(size, MAX_SUGGESTIONS));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${suggest.reload-interval-ms:3600000}", fixedDelayString = "${suggest.reload-interval-ms:3600000}")
+    public synchronized void reload() {
+        long started = System.currentTimeMillis();
+        Map<Long, Long> registrationsByEvent = new HashMap<>();
+        for (EventRegistrationRepository.EventRegistrationCount row : eventRegistrationRepository.countGroupedByEvent()) {
+            registrationsByEvent.put(row.getEid(), row.getRegistrations());
+        }
+        Map<Long, Long> registrationsByFest = new HashMap<>();
+        contributions.clear();
+
+        exploreService.forEachPublicEventBatch(RELOAD_BATCH_SIZE, batch -> {
+            for (Event event : batch) {
+                long registrations = registrationsByEvent.getOrDefault(event.getEid(), 0L);
+                contributions.put(key(CatalogChangedEvent.Kind.EVENT, event.getEid()), contributionsOf(event, registrations));
+                if (event.getFest() != null) {
+                    registrationsByFest.merge(event.getFest().getFid(), registrations, Long::sum);
+                }
+            }
+        });
+        exploreService.forEachPublicFestBatch(RELOAD_BATCH_SIZE, batch -> {
+            for (Fest fest : batch) {
+                long registrations = registrationsByFest.getOrDefault(fest.getFid(), 0L);
+                contributions.put(key(CatalogChangedEvent.Kind.FEST, fest.getFid()), contributionsOf(fest, registrations));
+            }
+        });
+
+        SuggestionTrie rebuilt = rebuildTrie();
+        logger.info("[SUGGEST] Loaded {} suggestions from {} items in {} ms",
+                rebuilt.size(), contributions.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogChangedEvent.INDEX_ORDER)
+    public void onCatalogChanged(CatalogChangedEvent change) {
+        // Only the latest change per item matters, since the item is reloaded by id anyway.
+        pendingChanges.put(key(change.kind(), change.id()), change);
+        if (updateScheduled.compareAndSet(false, true)) {
+            updater.execute(this::applyPendingChanges);
+        }
+    }
+
+    /**
+     * Applies every change queued since the last pass and rebuilds the trie once for all of them.
+     * Runs on the updater thread, so a burst of catalog edits costs one rebuild instead of one each.
+     */
+    synchronized void applyPendingChanges() {
+        // Cleared first: a change queued while this pass runs schedules another pass.
+        updateScheduled.set(false);
+        int changed = 0;
+        for (String key : new ArrayList<>(pendingChanges.keySet())) {
+            CatalogChangedEvent change = pendingChanges.remove(key);
+            if (change == null) {
+                continue;
+            }
+            try {
+                if (applyChange(key, change)) {
+                    changed++;
+                }
+            } catch (RuntimeException e) {
+                logger.error("[SUGGEST] Failed to update suggestions for {} {}: {}", change.kind(), change.id(), e.getMessage(), e);
+            }
+        }
+        if (changed > 0) {
+            rebuildTrie();
+            logger.debug("[SUGGEST] Applied {} catalog changes", changed);
+        }
+    }
+
+    private boolean applyChange(String key, CatalogChangedEvent change) {
+        List<Suggestion> updated = null;
+        if (!change.removed()) {
+            if (change.kind() == CatalogChangedEvent.Kind.EVENT) {
+                Event event = eventRepository.findById(change.id()).orElse(null);
+                if (event != null && event.isApproved() && event.isActive()) {
+                    updated = contributionsOf(event, eventRegistrationRepository.countByEventEid(event.getEid()));
+                }
+            } else {
+                Fest fest = festRepository.findById(change.id()).orElse(null);
+                if (fest != null && fest.isApproved() && fest.isActive()) {
+                    updated = contributionsOf(fest, eventRegistrationRepository.countByEventFestFid(fest.getFid()));
+                }
+            }
+        }
+        if (updated == null) {
+            return contributions.remove(key) != null;
+        }
+        contributions.put(key, updated);
+        return true;
+    }
+
+    // Merges per-item contributions so a college, city or category appears once with summed weight.
+    private SuggestionTrie rebuildTrie() {
+        Map<String, Suggestion> merged = new HashMap<>();
+        for (List<Suggestion> items : contributions.values()) {
+            for (Suggestion s : items) {
+                String mergeKey = s.getId() != null
+                        ? s.getType() + ":" + s.getId()
+                        : s.getType() + ":" + SuggestionTrie.normalize(s.getText());
+                merged.merge(mergeKey, s, (a, b) -> new Suggestion(a.getType(), a.getId(), a.getText(), a.getWeight() + b.getWeight()));
+            }
+        }
+        SuggestionTrie rebuilt = SuggestionTrie.build(merged.values(), MAX_SUGGESTIONS);
+        trie.set(rebuilt);
+        return rebuilt;
+    }
+
+    private static List<Suggestion> contributionsOf(Event event, long registrations) {
+        long weight = registrations + 1;
+        List<Suggestion> items = new ArrayList<>(4);
+        items.add(new Suggestion("event", event.getEid(), event.getEname(), weight));
+        addShared(items, "college", event.getCollege().getCname(), weight);
+        addShared(items, "city", event.getCity(), weight);
+        addShared(items, "category", event.getCategory(), weight);
+        return items;
+    }
+
+    private static List<Suggestion> contributionsOf(Fest fest, long registrations) {
+        long weight = registrations + 1;
+        List<Suggestion> items = new ArrayList<>(3);
+        items.add(new Suggestion("fest", fest.getFid(), fest.getFname(), weight));
+        addShared(items, "college", fest.getCollege().getCname(), weight);
+        addShared(items, "city", fest.getCity(), weight);
+        return items;
+    }
+
+    private static void addShared(List<Suggestion> items, String type, String text, long weight) {
+        if (text != null && !text.isBlank()) {
+            items.add(new Suggestion(type, null, text.trim(), weight));
+        }
+    }
+
+    private static String key(CatalogChangedEvent.Kind kind, Long id) {
+        return kind.name().toLowerCase(Locale.ROOT) + ":" + id;
+    }
+}
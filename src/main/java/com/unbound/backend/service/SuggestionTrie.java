@@ -0,0 +1,100 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.Suggestion;
+
+import java.util.*;
+
+/**
+ * Immutable prefix trie where every node already holds the top-K suggestions of its subtree,
+ * so a lookup is one walk down the prefix with no sorting. Each word of a suggestion is a
+ * separate entry point, so "bom" finds "IIT Bombay".
+ */
+final class SuggestionTrie {
+    static final int MAX_DEPTH = 32;
+
+    static final SuggestionTrie EMPTY = build(List.of(), 1);
+
+    private final Node root;
+    private final int size;
+
+    private SuggestionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    static SuggestionTrie build(Collection<Suggestion> suggestions, int topK) {
+        List<Suggestion> ranked = new ArrayList<>(suggestions);
+        ranked.sort(Comparator.comparingLong(Suggestion::getWeight).reversed()
+                .thenComparing(Suggestion::getText, String.CASE_INSENSITIVE_ORDER));
+        Node root = new Node();
+        // Inserting in rank order means each node just keeps the first K suggestions it sees.
+        for (Suggestion suggestion : ranked) {
+            String key = normalize(suggestion.getText());
+            for (int start : wordStarts(key)) {
+                Node node = root;
+                int end = Math.min(key.length(), start + MAX_DEPTH);
+                for (int i = start; i < end; i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                    node.offer(suggestion, topK);
+                }
+            }
+        }
+        return new SuggestionTrie(root, ranked.size());
+    }
+
+    List<Suggestion> lookup(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < Math.min(key.length(), MAX_DEPTH) && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, node.top.size()));
+        for (Suggestion suggestion : node.top) {
+            if (result.size() == limit) {
+                break;
+            }
+            // Prefixes longer than the trie depth are checked against the full text.
+            if (key.length() <= MAX_DEPTH || normalize(suggestion.getText()).contains(key)) {
+                result.add(suggestion);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Integer> wordStarts(String key) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < key.length(); i++) {
+            boolean boundary = i == 0 || !Character.isLetterOrDigit(key.charAt(i - 1));
+            if (boundary && Character.isLetterOrDigit(key.charAt(i))) {
+                starts.add(i);
+            }
+        }
+        return starts;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Suggestion> top = new ArrayList<>(2);
+
+        void offer(Suggestion suggestion, int topK) {
+            // The same suggestion can reach a node twice through repeated words ("Tech Tech").
+            if (top.size() < topK && (top.isEmpty() || top.get(top.size() - 1) != suggestion)) {
+                top.add(suggestion);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "Trending" order for explore, driven by registration velocity over the last hour, day and week.
+ * A scheduled aggregator reads registrations in timestamp order and folds each into exponentially
+ * decayed per-event counters (half-lives of one hour, one day and one week). Ids and timestamps are
+ * assigned before commit, so a slow transaction can become visible behind rows already read; each
+ * tick therefore re-reads an overlap window before the newest timestamp seen, and remembers the ids
+ * inside that window so every registration is counted once.
+ * The same tick re-ranks every event with activity into an immutable snapshot, so serving a page
+ * is a walk over that list plus one query for the page's rows.
+ */
+@Service
+public class TrendingService {
+    private static final Logger logger = LoggerFactory.getLogger(TrendingService.class);
+
+    private static final int POLL_BATCH_SIZE = 1000;
+    private static final double HOUR_MS = 3_600_000d;
+    private static final double[] HALF_LIVES_HOURS = {1, 24, 168};
+    // Weights for the hourly rate seen over each half-life; recent activity counts most.
+    private static final double[] WEIGHTS = {0.5, 0.3, 0.2};
+    private static final double MIN_SCORE = 1e-4;
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${trending.commit-overlap-ms:300000}")
+    private long commitOverlapMs;
+
+    private final Map<Long, Velocity> velocities = new ConcurrentHashMap<>();
+    private volatile List<Ranked> ranking = List.of();
+    // Guarded by this: newest registration time consumed, and ids consumed within the overlap before it.
+    private LocalDateTime watermark;
+    private final Map<Long, LocalDateTime> recentRids = new HashMap<>();
+
+    /**
+     * Decayed registration counts as of {@code at}. Immutable; replaced atomically per event.
+     */
+    private record Velocity(double[] counts, long at) {
+
+        Velocity decayedTo(long now) {
+            double[] decayed = new double[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                decayed[i] = counts[i] * decay(now - at, HALF_LIVES_HOURS[i]);
+            }
+            return new Velocity(decayed, Math.max(now, at));
+        }
+
+        Velocity plus(long registeredAt) {
+            long now = Math.max(at, registeredAt);
+            Velocity current = decayedTo(now);
+            for (int i = 0; i < counts.length; i++) {
+                current.counts[i] += decay(now - registeredAt, HALF_LIVES_HOURS[i]);
+            }
+            return current;
+        }
+
+        double score(long now) {
+            double[] decayed = decayedTo(now).counts;
+            double score = 0;
+            for (int i = 0; i < decayed.length; i++) {
+                score += WEIGHTS[i] * decayed[i] / HALF_LIVES_HOURS[i];
+            }
+            return score;
+        }
+
+        private static double decay(long elapsedMs, double halfLifeHours) {
+            return Math.pow(0.5, Math.max(0, elapsedMs) / HOUR_MS / halfLifeHours);
+        }
+    }
+
+    private record Ranked(Long eid, double score) {
+    }
+
+    private static final Comparator<Ranked> RANK_ORDER =
+            Comparator.comparingDouble(Ranked::score).reversed().thenComparing(Ranked::eid);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        refresh();
+    }
+
+    /**
+     * Consumes registrations added since the previous tick and rebuilds the ranking snapshot.
+     */
+    @Scheduled(initialDelayString = "${trending.refresh-interval-ms:60000}", fixedDelayString = "${trending.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        long now = System.currentTimeMillis();
+        // Anything older than a few week half-lives no longer moves the score.
+        LocalDateTime afterTime = watermark == null
+                ? LocalDateTime.now().minusWeeks(4)
+                : watermark.minus(Duration.ofMillis(commitOverlapMs));
+        long afterRid = 0;
+        int consumed = 0;
+        List<EventRegistrationRepository.RegistrationTick> ticks;
+        do {
+            ticks = eventRegistrationRepository.findTicksAfter(afterTime, afterRid, Limit.of(POLL_BATCH_SIZE));
+            for (EventRegistrationRepository.RegistrationTick tick : ticks) {
+                afterTime = tick.getErdateTime();
+                afterRid = tick.getRid();
+                if (watermark == null || afterTime.isAfter(watermark)) {
+                    watermark = afterTime;
+                }
+                if (recentRids.putIfAbsent(tick.getRid(), tick.getErdateTime()) != null) {
+                    continue;
+                }
+                long registeredAt = Math.min(now, toMillis(tick.getErdateTime(), now));
+                velocities.compute(tick.getEid(), (eid, v) ->
+                        (v == null ? new Velocity(new double[HALF_LIVES_HOURS.length], registeredAt) : v).plus(registeredAt));
+                consumed++;
+            }
+        } while (ticks.size() == POLL_BATCH_SIZE);
+        if (watermark != null) {
+            LocalDateTime overlapStart = watermark.minus(Duration.ofMillis(commitOverlapMs));
+            recentRids.values().removeIf(erdateTime -> erdateTime.isBefore(overlapStart));
+        }
+
+        List<Ranked> ranked = new ArrayList<>(velocities.size());
+        for (Map.Entry<Long, Velocity> entry : velocities.entrySet()) {
+            double score = entry.getValue().score(now);
+            if (score < MIN_SCORE) {
+                velocities.remove(entry.getKey(), entry.getValue());
+            } else {
+                ranked.add(new Ranked(entry.getKey(), score));
+            }
+        }
+        ranked.sort(RANK_ORDER);
+        ranking = List.copyOf(ranked);
+        logger.debug("[TRENDING] Consumed {} registrations, {} events ranked", consumed, ranked.size());
+    }
+
+    /**
+     * A page of approved, active events matching {@code criteria}, most trending first.
+     * Events with no registrations in the last few weeks are not listed.
+     */
+    @Transactional(readOnly = true)
+    public ExplorePage<Event> findEvents(EventSearchCriteria criteria, String cursor, Integer limit) {
+        int size = ExploreService.pageSize(limit);
+        List<Ranked> snapshot = ranking;
+        int from = startAfter(snapshot, KeysetCursor.decode(cursor));
+
+        // Walk the ranking in chunks, keeping rows that pass the filters, until one past a full page.
+        List<Event> rows = new ArrayList<>(size + 1);
+        Map<Long, Double> scores = new HashMap<>();
+        int chunk = Math.max(2 * (size + 1), 50);
+        while (rows.size() <= size && from < snapshot.size()) {
+            List<Ranked> candidates = snapshot.subList(from, Math.min(snapshot.size(), from + chunk));
+            from += candidates.size();
+            Map<Long, Event> matches = eventRepository.findAll(
+                    EventSpecifications.explore(criteria, null).and(idIn(candidates))).stream()
+                    .collect(Collectors.toMap(Event::getEid, Function.identity()));
+            for (Ranked candidate : candidates) {
+                Event event = matches.get(candidate.eid());
+                if (event != null && rows.size() <= size) {
+                    rows.add(event);
+                    scores.put(candidate.eid(), candidate.score());
+                }
+            }
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<Event> items = hasMore ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Event last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(Double.toString(scores.get(last.getEid())), last.getEid()).encode();
+        }
+        return new ExplorePage<>(items, nextCursor, hasMore);
+    }
+
+    // Index of the first entry ranked after the cursor; scores move between ticks, so this is by value, not position.
+    private static int startAfter(List<Ranked> snapshot, KeysetCursor after) {
+        if (after == null) {
+            return 0;
+        }
+        Ranked position;
+        try {
+            position = new Ranked(after.id(), Double.parseDouble(after.sortKey()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        int index = Collections.binarySearch(snapshot, position, RANK_ORDER);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static Specification<Event> idIn(List<Ranked> candidates) {
+        List<Long> ids = candidates.stream().map(Ranked::eid).collect(Collectors.toList());
+        return (root, query, cb) -> root.get("eid").in(ids);
+    }
+
+    private static long toMillis(LocalDateTime erdateTime, long fallback) {
+        return erdateTime == null ? fallback : erdateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
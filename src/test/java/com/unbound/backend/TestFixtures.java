@@ -0,0 +1,63 @@
+package com.unbound.backend;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.StudentRepository;
+import com.unbound.backend.repository.UserRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Builders for the rows most tests need. Names are random so tests sharing the
+ * application context (and its in-memory database) never see each other's data.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static User user(UserRepository users, User.Role role) {
+        return users.save(User.builder()
+                .email(UUID.randomUUID() + "@test.local")
+                .password("x")
+                .role(role)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build());
+    }
+
+    public static College college(UserRepository users, CollegeRepository colleges) {
+        return colleges.save(College.builder()
+                .user(user(users, User.Role.College))
+                .cname("College " + UUID.randomUUID())
+                .build());
+    }
+
+    public static Student student(UserRepository users, StudentRepository students, College college) {
+        return students.save(Student.builder()
+                .user(user(users, User.Role.Student))
+                .college(college)
+                .sname("Student " + UUID.randomUUID())
+                .build());
+    }
+
+    public static Event.EventBuilder event(College college, String name, LocalDate date) {
+        return Event.builder()
+                .college(college)
+                .ename(name)
+                .eventDate(date)
+                .fees(0)
+                .capacity(100)
+                .teamIsAllowed(false)
+                .category("Technical")
+                .mode("Offline")
+                .approved(true)
+                .active(true)
+                .registrationDeadline(date)
+                .registrationOpen(true);
+    }
+}
@@ -0,0 +1,64 @@
+package com.unbound.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void keepsRequestedFieldsAndIdInDeclarationOrder() throws Exception {
+        FieldSelection selection = FieldSelection.parse("eventDate, ename", EventSummary.class);
+
+        String json = mapper.writeValueAsString(selection.apply(List.of(summary(1L), summary(2L))));
+
+        assertEquals("[{\"eid\":1,\"ename\":\"Event 1\",\"eventDate\":\"2026-03-01\"},"
+                + "{\"eid\":2,\"ename\":\"Event 2\",\"eventDate\":\"2026-03-01\"}]", json);
+        assertEquals("eid,ename,eventDate", selection.cacheKey());
+    }
+
+    @Test
+    void selectionNestedInsideAResponseMap() throws Exception {
+        FieldSelection selection = FieldSelection.parse("city", EventSummary.class);
+
+        String json = mapper.writeValueAsString(Map.of("event", selection.apply(summary(7L))));
+
+        assertEquals("{\"event\":{\"eid\":7,\"city\":\"Pune\"}}", json);
+    }
+
+    @Test
+    void noFieldsLeavesItemsUntouched() {
+        FieldSelection selection = FieldSelection.parse(" ", EventSummary.class);
+        List<EventSummary> items = List.of(summary(1L));
+
+        assertSame(items, selection.apply(items));
+        assertEquals("*", selection.cacheKey());
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> FieldSelection.parse("ename,password", EventSummary.class));
+        assertTrue(e.getMessage().contains("password"));
+    }
+
+    private static EventSummary summary(long eid) {
+        return EventSummary.builder()
+                .eid(eid)
+                .ename("Event " + eid)
+                .eventDate(LocalDate.of(2026, 3, 1))
+                .city("Pune")
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.unbound.backend.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        KeysetCursor cursor = KeysetCursor.of(LocalDate.of(2025, 3, 14), 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(LocalDate.of(2025, 3, 14), decoded.dateKey());
+    }
+
+    @Test
+    void sortKeyMayContainSeparator() {
+        KeysetCursor cursor = new KeysetCursor("a|b", 7L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!"));
+        String noId = java.util.Base64.getUrlEncoder().encodeToString("2025-01-01".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(noId));
+        assertThrows(IllegalArgumentException.class, () -> new KeysetCursor("tomorrow", 1L).dateKey());
+    }
+}
@@ -0,0 +1,105 @@
+package com.unbound.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensAfterThresholdConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 60_000);
+
+        fail(breaker, 2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 60_000);
+
+        fail(breaker, 2);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        fail(breaker, 2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void staysOpenForTheOpenPeriod() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(1, 200);
+        fail(breaker, 1);
+
+        assertFalse(breaker.tryAcquire());
+        Thread.sleep(300);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    @Test
+    void halfOpenLetsOneProbeThrough() {
+        CircuitBreaker breaker = openedAndExpired();
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    @Test
+    void successfulProbeClosesTheCircuit() {
+        CircuitBreaker breaker = openedAndExpired();
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void failedProbeReopensForAnotherFullPeriod() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 60_000);
+        fail(breaker, 2);
+        // Let the open period lapse without waiting a minute.
+        ReflectionTestUtils.setField(breaker, "openUntil", 0L);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void cancelledProbeFreesTheSlot() {
+        CircuitBreaker breaker = openedAndExpired();
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onCancelled();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    // An open period of zero means the next tryAcquire finds the circuit half-open.
+    private static CircuitBreaker openedAndExpired() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 0);
+        fail(breaker, 2);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        return breaker;
+    }
+
+    private static void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.unbound.backend.service;
+
+import com.icegreen.greenmail.Managers;
+import com.icegreen.greenmail.mail.MailAddress;
+import com.icegreen.greenmail.smtp.SmtpManager;
+import com.icegreen.greenmail.smtp.SmtpState;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.unbound.backend.entity.EmailOutbox;
+import com.unbound.backend.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "email.outbox.batch-size=10",
+        "email.outbox.max-attempts=3",
+        "email.outbox.initial-backoff-ms=60000",
+        "email.outbox.max-backoff-ms=3600000"
+})
+class EmailOutboxDispatcherTest {
+
+    private static final String BOUNCING = "bounce@example.test";
+
+    private static RejectingGreenMail greenMail;
+
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @BeforeAll
+    static void startServer() {
+        greenMail = new RejectingGreenMail();
+        greenMail.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        greenMail.stop();
+    }
+
+    @BeforeEach
+    void reset() throws Exception {
+        emailOutboxRepository.deleteAll();
+        greenMail.purgeEmailFromAllMailboxes();
+        greenMail.connections.clear();
+    }
+
+    @Test
+    void dueMessagesShareOneSmtpConnection() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            emailService.sendEmail("student" + i + "@example.test", "Subject " + i, "Body " + i);
+        }
+
+        dispatcher.dispatch();
+
+        assertEquals(5, greenMail.getReceivedMessages().length);
+        assertEquals(1, greenMail.connections.size());
+        assertEquals(5, emailOutboxRepository.countByStatus(EmailOutbox.Status.SENT));
+        assertTrue(Arrays.stream(greenMail.getReceivedMessages()).map(EmailOutboxDispatcherTest::subject)
+                .toList().containsAll(List.of("Subject 0", "Subject 4")));
+    }
+
+    @Test
+    void rejectedRecipientIsRescheduledWithBackoff() {
+        emailService.sendEmail("first@example.test", "First", "Body");
+        emailService.sendEmail(BOUNCING, "Bounce", "Body");
+        emailService.sendEmail("last@example.test", "Last", "Body");
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch();
+
+        // The rejection fails only its own message; the rest of the batch still goes out.
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertEquals(1, greenMail.connections.size());
+        EmailOutbox bounced = row(BOUNCING);
+        assertEquals(EmailOutbox.Status.PENDING, bounced.getStatus());
+        assertEquals(1, bounced.getAttempts());
+        assertNotNull(bounced.getLastError());
+        assertWithin(before.plusSeconds(60), bounced.getNextAttemptAt());
+
+        // Not due yet, so another poll leaves it alone.
+        dispatcher.dispatch();
+        assertEquals(1, row(BOUNCING).getAttempts());
+
+        makeDue(bounced);
+        before = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        bounced = row(BOUNCING);
+        assertEquals(2, bounced.getAttempts());
+        assertWithin(before.plusSeconds(120), bounced.getNextAttemptAt());
+    }
+
+    @Test
+    void messageIsDeadAfterMaxAttempts() {
+        emailService.sendEmail(BOUNCING, "Bounce", "Body");
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            makeDue(row(BOUNCING));
+            dispatcher.dispatch();
+        }
+
+        EmailOutbox dead = row(BOUNCING);
+        assertEquals(EmailOutbox.Status.DEAD, dead.getStatus());
+        assertEquals(3, dead.getAttempts());
+
+        makeDue(dead);
+        dispatcher.dispatch();
+        assertEquals(3, row(BOUNCING).getAttempts());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    private EmailOutbox row(String recipient) {
+        return emailOutboxRepository.findAll().stream()
+                .filter(r -> r.getRecipient().equals(recipient))
+                .findFirst().orElseThrow();
+    }
+
+    private void makeDue(EmailOutbox row) {
+        row.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        emailOutboxRepository.save(row);
+    }
+
+    private static void assertWithin(LocalDateTime expected, LocalDateTime actual) {
+        Duration drift = Duration.between(expected, actual).abs();
+        assertTrue(drift.compareTo(Duration.ofSeconds(5)) < 0, "expected about " + expected + " but was " + actual);
+    }
+
+    private static String subject(MimeMessage message) {
+        try {
+            return message.getSubject();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * GreenMail that refuses RCPT for {@link #BOUNCING} and records the SMTP sessions mail arrived on.
+     */
+    private static final class RejectingGreenMail extends GreenMail {
+        final Set<SmtpState> connections = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        RejectingGreenMail() {
+            super(ServerSetupTest.SMTP);
+            managers = new Managers() {
+                private final SmtpManager smtpManager = new SmtpManager(getImapHostManager(), getUserManager()) {
+                    @Override
+                    public String checkSender(SmtpState state, MailAddress sender) {
+                        connections.add(state);
+                        return super.checkSender(state, sender);
+                    }
+
+                    @Override
+                    public String checkRecipient(SmtpState state, MailAddress recipient) {
+                        return BOUNCING.equals(recipient.getEmail()) ? "550 5.1.1 Mailbox unavailable" : null;
+                    }
+                };
+
+                @Override
+                public SmtpManager getSmtpManager() {
+                    return smtpManager;
+                }
+            };
+        }
+    }
+}
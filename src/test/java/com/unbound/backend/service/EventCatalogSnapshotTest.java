@@ -0,0 +1,116 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.EventSummary;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.repository.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCatalogSnapshotTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 1);
+
+    private final EventCatalogSnapshot snapshot = EventCatalogSnapshot.build(List.of(
+            summary(5L, "Robo Wars", DAY.plusDays(2), 200, "Technical", "Offline", "Mumbai", "Maharashtra", true, "Techfest", "IIT Bombay"),
+            summary(1L, "Hackathon", DAY, 0, "Technical", "Online", "Pune", "Maharashtra", true, null, "COEP"),
+            summary(3L, "Battle of Bands", DAY, 500, "Cultural", "Offline", "Mumbai", "Maharashtra", false, "Mood Indigo", "IIT Bombay"),
+            summary(2L, "Quiz", DAY.plusDays(1), null, null, "Offline", "Delhi", "Delhi", null, null, "IIT Delhi"),
+            summary(4L, "Code Golf", DAY, 100, "technical", "Online", null, null, false, "Techfest", "IIT Bombay")));
+
+    @Test
+    void rowsComeBackInDateThenIdOrder() {
+        assertEquals(List.of(1L, 3L, 4L, 2L, 5L), eids(find(new EventSearchCriteria())));
+        assertEquals(5, snapshot.size());
+    }
+
+    @Test
+    void textFiltersMatchSubstringsIgnoringCase() {
+        assertEquals(List.of(1L, 4L, 5L), eids(find(EventSearchCriteria.builder().category(" TECH ").build())));
+        assertEquals(List.of(3L, 4L, 5L), eids(find(EventSearchCriteria.builder().college("bombay").build())));
+        assertEquals(List.of(4L, 5L), eids(find(EventSearchCriteria.builder().fest("techfest").build())));
+        assertEquals(List.of(1L), eids(find(EventSearchCriteria.builder().name("hack").build())));
+        assertEquals(List.of(1L, 3L, 5L), eids(find(EventSearchCriteria.builder().state("maha").build())));
+    }
+
+    @Test
+    void rowsWithoutAValueNeverMatchAFilterOnIt() {
+        assertEquals(List.of(2L), eids(find(EventSearchCriteria.builder().city("del").build())));
+        assertEquals(List.of(1L, 3L, 4L, 5L), eids(find(EventSearchCriteria.builder().minFee(0).build())));
+        assertEquals(List.of(3L, 4L), eids(find(EventSearchCriteria.builder().teamAllowed(false).build())));
+    }
+
+    @Test
+    void rangeFiltersAreInclusive() {
+        assertEquals(List.of(4L, 5L), eids(find(EventSearchCriteria.builder().minFee(100).maxFee(200).build())));
+        assertEquals(List.of(2L, 5L), eids(find(EventSearchCriteria.builder()
+                .startDate(DAY.plusDays(1)).endDate(DAY.plusDays(2)).build())));
+    }
+
+    @Test
+    void filtersCombineWithAnd() {
+        EventSearchCriteria criteria = EventSearchCriteria.builder()
+                .category("technical").mode("online").college("iit").build();
+
+        assertEquals(List.of(4L), eids(find(criteria)));
+    }
+
+    @Test
+    void unknownDictionaryValueMatchesNothing() {
+        assertTrue(find(EventSearchCriteria.builder().category("Sports").build()).getItems().isEmpty());
+    }
+
+    @Test
+    void pagingResumesAfterTheCursorWithoutGapsOrRepeats() {
+        EventSearchCriteria criteria = EventSearchCriteria.builder().mode("offline").build();
+        List<Long> seen = new ArrayList<>();
+        KeysetCursor after = null;
+        ExplorePage<EventSummary> page;
+        do {
+            page = snapshot.find(criteria, after, 1);
+            seen.addAll(eids(page));
+            after = KeysetCursor.decode(page.getNextCursor());
+        } while (page.isHasMore());
+
+        assertEquals(List.of(3L, 2L, 5L), seen);
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        ExplorePage<EventSummary> page = snapshot.find(EventSearchCriteria.builder().fest("techfest").build(), null, 2);
+
+        assertEquals(List.of(4L, 5L), eids(page));
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    private ExplorePage<EventSummary> find(EventSearchCriteria criteria) {
+        return snapshot.find(criteria, null, 10);
+    }
+
+    private static List<Long> eids(ExplorePage<EventSummary> page) {
+        return page.getItems().stream().map(EventSummary::getEid).toList();
+    }
+
+    private static EventSummary summary(Long eid, String name, LocalDate date, Integer fees, String category, String mode,
+                                        String city, String state, Boolean team, String fest, String college) {
+        return EventSummary.builder()
+                .eid(eid)
+                .ename(name)
+                .eventDate(date)
+                .fees(fees)
+                .category(category)
+                .mode(mode)
+                .city(city)
+                .state(state)
+                .teamIsAllowed(team)
+                .festName(fest)
+                .collegeName(college)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ExploreServiceTest {
+
+    @Autowired
+    private ExploreService exploreService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private String collegeName;
+    private List<Event> visible;
+
+    @BeforeEach
+    void seed() {
+        College college = TestFixtures.college(userRepository, collegeRepository);
+        collegeName = college.getCname();
+
+        // Several events share a date, so the page boundary has to fall inside a run of equal dates.
+        LocalDate base = LocalDate.of(2030, 1, 1);
+        visible = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            visible.add(eventRepository.save(TestFixtures.event(college, "Event " + i, base.plusDays(i % 3)).build()));
+        }
+        eventRepository.save(TestFixtures.event(college, "Unapproved", base).approved(false).build());
+        eventRepository.save(TestFixtures.event(college, "Inactive", base).active(false).build());
+        visible.sort(Comparator.comparing(Event::getEventDate).thenComparing(Event::getEid));
+    }
+
+    @Test
+    void pagesCoverEveryVisibleEventOnceInOrder() {
+        EventSearchCriteria criteria = EventSearchCriteria.builder().college(collegeName).build();
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ExplorePage<Event> page = exploreService.findEvents(criteria, cursor, 4);
+            assertTrue(page.getItems().size() <= 4);
+            page.getItems().forEach(e -> seen.add(e.getEid()));
+            assertEquals(page.getNextCursor() != null, page.isHasMore());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(visible.stream().map(Event::getEid).toList(), seen);
+    }
+
+    @Test
+    void exactFinalPageReportsNoMore() {
+        EventSearchCriteria criteria = EventSearchCriteria.builder().college(collegeName).build();
+
+        ExplorePage<Event> page = exploreService.findEvents(criteria, null, visible.size());
+
+        assertEquals(visible.size(), page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void pageSizeIsDefaultedAndCapped() {
+        assertEquals(ExploreService.DEFAULT_PAGE_SIZE, ExploreService.pageSize(null));
+        assertEquals(ExploreService.MAX_PAGE_SIZE, ExploreService.pageSize(ExploreService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> ExploreService.pageSize(0));
+    }
+}
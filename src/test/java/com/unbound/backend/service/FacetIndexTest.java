@@ -0,0 +1,163 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.FacetCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FacetIndex(List.of("category", "city"));
+        index.put(1L, "2030-01-01", Map.of("category", "Technical", "city", "Mumbai"));
+        index.put(2L, "2030-01-02", Map.of("category", "technical ", "city", "Pune"));
+        index.put(3L, "2030-01-03", Map.of("category", "Cultural", "city", "Mumbai"));
+        index.put(4L, "2030-01-04", Map.of("category", "Sports", "city", "Delhi"));
+        index.put(5L, "2030-01-05", Map.of("category", "Technical"));
+    }
+
+    @Test
+    void unfilteredCountsCoverEveryItem() {
+        FacetIndex.Result result = index.query(Map.of(), null, 10);
+
+        assertEquals(5, result.total());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), result.ids());
+        assertEquals(Map.of("technical", 3L, "cultural", 1L, "sports", 1L), counts(result, "category"));
+        assertEquals(Map.of("mumbai", 2L, "pune", 1L, "delhi", 1L), counts(result, "city"));
+        assertEquals("technical", result.counts().get("category").get(0).getValue());
+        assertEquals("Technical", result.counts().get("category").get(0).getLabel());
+    }
+
+    @Test
+    void valuesWithinAFacetAreOredAndAcrossFacetsAnded() {
+        FacetIndex.Result result = index.query(Map.of(
+                "category", Set.of("Technical", "cultural"),
+                "city", Set.of("mumbai")), null, 10);
+
+        assertEquals(List.of(1L, 3L), result.ids());
+        assertEquals(2, result.total());
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnFilter() {
+        FacetIndex.Result result = index.query(Map.of("city", Set.of("Mumbai")), null, 10);
+
+        // City counts still show every city reachable under the (absent) category filter...
+        assertEquals(Map.of("mumbai", 2L, "pune", 1L, "delhi", 1L), counts(result, "city"));
+        // ...while category counts are narrowed to Mumbai.
+        assertEquals(Map.of("technical", 1L, "cultural", 1L), counts(result, "category"));
+    }
+
+    @Test
+    void unknownValuesMatchNothing() {
+        FacetIndex.Result result = index.query(Map.of("category", Set.of("Quizzing")), null, 10);
+
+        assertEquals(0, result.total());
+        assertTrue(result.ids().isEmpty());
+        assertTrue(result.counts().get("city").isEmpty());
+    }
+
+    @Test
+    void replacingAndRemovingItemsUpdatesCounts() {
+        index.put(5L, "2030-01-05", Map.of("category", "Sports", "city", "Delhi"));
+        index.remove(3L);
+
+        FacetIndex.Result result = index.query(Map.of(), null, 10);
+
+        assertEquals(4, result.total());
+        assertEquals(Map.of("technical", 2L, "sports", 2L), counts(result, "category"));
+        assertEquals(Map.of("mumbai", 1L, "pune", 1L, "delhi", 2L), counts(result, "city"));
+    }
+
+    @Test
+    void pagesFollowTheCursor() {
+        FacetIndex.Result first = index.query(Map.of(), null, 2);
+        FacetIndex.Result second = index.query(Map.of(), first.next(), 2);
+        FacetIndex.Result third = index.query(Map.of(), second.next(), 2);
+
+        assertEquals(List.of(1L, 2L), first.ids());
+        assertTrue(first.hasMore());
+        assertEquals(List.of(3L, 4L), second.ids());
+        assertEquals(List.of(5L), third.ids());
+        assertFalse(third.hasMore());
+        assertNull(third.next());
+        assertEquals(5, third.total());
+    }
+
+    @Test
+    void outOfOrderInsertsAndMovedItemsPageInSortOrder() {
+        index.put(6L, "2029-12-31", Map.of("category", "Technical"));
+        index.put(2L, "2030-02-01", Map.of("category", "Technical"));
+        index.put(7L, "2030-01-03", Map.of("category", "Technical"));
+
+        List<Long> seen = new ArrayList<>();
+        FacetIndex.Result page = index.query(Map.of(), null, 2);
+        seen.addAll(page.ids());
+        while (page.hasMore()) {
+            page = index.query(Map.of(), page.next(), 2);
+            seen.addAll(page.ids());
+        }
+
+        assertEquals(List.of(6L, 1L, 3L, 7L, 4L, 5L, 2L), seen);
+        assertEquals(Map.of("technical", 5L, "cultural", 1L, "sports", 1L),
+                counts(index.query(Map.of(), null, 1), "category"));
+    }
+
+    @Test
+    void cursorStaysValidAfterItsRowIsRemoved() {
+        FacetIndex.Result first = index.query(Map.of("category", Set.of("technical")), null, 2);
+        index.remove(2L);
+
+        FacetIndex.Result second = index.query(Map.of("category", Set.of("technical")), first.next(), 2);
+
+        assertEquals(List.of(1L, 2L), first.ids());
+        assertEquals(List.of(5L), second.ids());
+        assertFalse(second.hasMore());
+    }
+
+    @Test
+    void heavyChurnKeepsOrderAndCounts() {
+        index.clear();
+        Random random = new Random(42);
+        Map<Long, String> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long id = random.nextInt(800);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                expected.remove(id);
+            } else {
+                String key = "2030-01-" + String.format("%02d", 1 + random.nextInt(28));
+                index.put(id, key, Map.of("category", random.nextBoolean() ? "A" : "B"));
+                expected.put(id, key);
+            }
+        }
+        List<Long> order = expected.entrySet().stream()
+                .sorted(Map.Entry.<Long, String>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        List<Long> seen = new ArrayList<>();
+        FacetIndex.Result page = index.query(Map.of(), null, 37);
+        seen.addAll(page.ids());
+        while (page.hasMore()) {
+            page = index.query(Map.of(), page.next(), 37);
+            seen.addAll(page.ids());
+        }
+
+        assertEquals(order, seen);
+        assertEquals(expected.size(), page.total());
+        assertEquals(expected.size(), counts(page, "category").values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private static Map<String, Long> counts(FacetIndex.Result result, String facet) {
+        return result.counts().get(facet).stream()
+                .collect(Collectors.toMap(FacetCount::getValue, FacetCount::getCount));
+    }
+}
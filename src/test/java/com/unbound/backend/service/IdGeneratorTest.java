@@ -0,0 +1,184 @@
+package com.unbound.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    @Test
+    void idsIncreaseAndSortTheSameWhenEncoded() {
+        IdGenerator generator = generator(7);
+        long previous = generator.nextId();
+        String previousText = IdGenerator.encode(previous);
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            String text = IdGenerator.encode(id);
+            assertTrue(id > previous);
+            assertTrue(text.compareTo(previousText) > 0);
+            previous = id;
+            previousText = text;
+        }
+    }
+
+    @Test
+    void idsCarryNodeAndTimestamp() {
+        long before = System.currentTimeMillis() - IdGenerator.EPOCH_MS;
+        long id = generator(513).nextId();
+        long after = System.currentTimeMillis() - IdGenerator.EPOCH_MS;
+
+        assertEquals(513, (id >>> 12) & IdGenerator.MAX_NODE);
+        long millis = id >>> 22;
+        assertTrue(millis >= before && millis <= after, "timestamp " + millis + " outside [" + before + ", " + after + "]");
+    }
+
+    @Test
+    void nodeIsReadBackFromTheEncodedForm() {
+        String text = IdGenerator.encode(generator(513).nextId());
+
+        assertEquals(513, IdGenerator.nodeOf(text));
+        assertThrows(IllegalArgumentException.class, () -> IdGenerator.nodeOf(text.substring(1)));
+        assertThrows(IllegalArgumentException.class, () -> IdGenerator.nodeOf(text.substring(1) + "U"));
+    }
+
+    @Test
+    void concurrentCallersNeverShareAnId() throws Exception {
+        IdGenerator generator = generator(1);
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> all = new HashSet<>(threads * perThread);
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get(30, TimeUnit.SECONDS);
+                for (int i = 0; i < ids.length; i++) {
+                    // Each caller sees its own ids in increasing order.
+                    assertTrue(i == 0 || ids[i] > ids[i - 1]);
+                    all.add(ids[i]);
+                }
+            }
+            assertEquals(threads * perThread, all.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentNodesNeverCollide() {
+        IdGenerator a = generator(1);
+        IdGenerator b = generator(2);
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(seen.add(a.nextId()));
+            assertTrue(seen.add(b.nextId()));
+        }
+    }
+
+    @Test
+    void prefixedIdsAreFixedWidth() {
+        String receipt = generator(3).next("RCP");
+
+        assertTrue(receipt.startsWith("RCP"));
+        assertEquals(3 + 13, receipt.length());
+        assertEquals("0000000000000", IdGenerator.encode(0));
+        assertEquals("000000000000Z", IdGenerator.encode(31));
+        assertEquals("0000000000010", IdGenerator.encode(32));
+        assertTrue(IdGenerator.encode(Long.MAX_VALUE).compareTo(IdGenerator.encode(Long.MAX_VALUE - 1)) > 0);
+    }
+
+    @Test
+    void nodeIdAboveRangeIsRejected() {
+        IdGenerator generator = new IdGenerator();
+        ReflectionTestUtils.setField(generator, "configuredNodeId", IdGenerator.MAX_NODE + 1);
+
+        assertThrows(IllegalStateException.class, generator::init);
+    }
+
+    @Test
+    void unconfiguredInstancesLeaseDistinctNodes() {
+        Map<String, String> holders = new ConcurrentHashMap<>();
+        IdGenerator first = leasing(new FakeLeases(holders, "a"));
+        IdGenerator second = leasing(new FakeLeases(holders, "b"));
+
+        assertNotEquals(first.nodeId(), second.nodeId());
+        assertEquals(Map.of(IdGenerator.NODE_LEASE_PREFIX + first.nodeId(), "a",
+                IdGenerator.NODE_LEASE_PREFIX + second.nodeId(), "b"), holders);
+
+        first.releaseNodeLease();
+        assertEquals(Set.of(IdGenerator.NODE_LEASE_PREFIX + second.nodeId()), holders.keySet());
+    }
+
+    @Test
+    void lostNodeLeaseMovesToAFreeNode() {
+        Map<String, String> holders = new ConcurrentHashMap<>();
+        IdGenerator generator = leasing(new FakeLeases(holders, "a"));
+        long original = generator.nodeId();
+        holders.put(IdGenerator.NODE_LEASE_PREFIX + original, "b");
+
+        generator.renewNodeLease();
+
+        assertNotEquals(original, generator.nodeId());
+        assertEquals("a", holders.get(IdGenerator.NODE_LEASE_PREFIX + generator.nodeId()));
+        assertEquals(generator.nodeId(), (generator.nextId() >>> 12) & IdGenerator.MAX_NODE);
+    }
+
+    // Leases held by owner name, never expiring; enough to tell instances apart.
+    private static class FakeLeases extends JobLeaseService {
+        private final Map<String, String> holders;
+        private final String owner;
+
+        FakeLeases(Map<String, String> holders, String owner) {
+            this.holders = holders;
+            this.owner = owner;
+        }
+
+        @Override
+        public boolean tryAcquire(String name, Duration ttl) {
+            return owner.equals(holders.computeIfAbsent(name, key -> owner));
+        }
+
+        @Override
+        public void release(String name) {
+            holders.remove(name, owner);
+        }
+    }
+
+    private static IdGenerator leasing(JobLeaseService leases) {
+        IdGenerator generator = new IdGenerator();
+        ReflectionTestUtils.setField(generator, "jobLeaseService", leases);
+        ReflectionTestUtils.setField(generator, "configuredNodeId", -1L);
+        ReflectionTestUtils.setField(generator, "nodeLeaseMs", 600_000L);
+        generator.init();
+        return generator;
+    }
+
+    private static IdGenerator generator(long nodeId) {
+        IdGenerator generator = new IdGenerator();
+        ReflectionTestUtils.setField(generator, "configuredNodeId", nodeId);
+        generator.init();
+        return generator;
+    }
+}
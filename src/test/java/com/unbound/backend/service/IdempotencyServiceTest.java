@@ -0,0 +1,130 @@
+package com.unbound.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unbound.backend.exception.IdempotencyConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyService service = service(100, 10);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void completedKeyIsReplayed() {
+        ResponseEntity<?> first = service.execute("register", 1, "k1", Map.of("eventId", 5), this::created);
+        ResponseEntity<?> second = service.execute("register", 1, "k1", Map.of("eventId", 5), this::created);
+
+        assertEquals(1, runs.get());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals(201, second.getStatusCode().value());
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    void keysAreScopedPerUserAndEndpoint() {
+        service.execute("register", 1, "k1", Map.of(), this::created);
+        service.execute("register", 2, "k1", Map.of(), this::created);
+        service.execute("create-order", 1, "k1", Map.of(), this::created);
+
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheRequestInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<?>> original = pool.submit(() -> service.execute("register", 1, "k1", Map.of(), () -> {
+                started.countDown();
+                await(release);
+                return created();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<ResponseEntity<?>> duplicate = pool.submit(() -> service.execute("register", 1, "k1", Map.of(), this::created));
+
+            assertThrows(TimeoutException.class, () -> duplicate.get(200, TimeUnit.MILLISECONDS));
+            release.countDown();
+
+            assertEquals(original.get(5, TimeUnit.SECONDS).getBody(), duplicate.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(1, runs.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void reusingAKeyWithADifferentBodyIsRejected() {
+        service.execute("register", 1, "k1", Map.of("eventId", 5), this::created);
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> service.execute("register", 1, "k1", Map.of("eventId", 6), this::created));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void failedAttemptReleasesTheKey() {
+        assertThrows(IllegalStateException.class, () -> service.execute("register", 1, "k1", Map.of(), () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(503, service.execute("register", 1, "k1", Map.of(), () -> ResponseEntity.status(503).build())
+                .getStatusCode().value());
+
+        service.execute("register", 1, "k1", Map.of(), this::created);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void userCannotHoldMoreThanTheirShareOfKeys() {
+        for (int i = 0; i < 10; i++) {
+            service.execute("register", 1, "k" + i, Map.of(), this::created);
+        }
+
+        assertThrows(IdempotencyConflictException.class, () -> service.execute("register", 1, "k10", Map.of(), this::created));
+        service.execute("register", 2, "k10", Map.of(), this::created);
+        assertEquals(11, runs.get());
+    }
+
+    @Test
+    void oldestCompletedKeysAreEvictedPastTheTotalCap() {
+        IdempotencyService small = service(3, 10);
+        for (int uid = 1; uid <= 4; uid++) {
+            small.execute("register", uid, "k", Map.of(), this::created);
+        }
+
+        small.execute("register", 4, "k", Map.of(), this::created);
+        small.execute("register", 1, "k", Map.of(), this::created);
+        assertEquals(5, runs.get());
+    }
+
+    private ResponseEntity<?> created() {
+        return ResponseEntity.status(201).body(Map.of("run", runs.incrementAndGet()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static IdempotencyService service(int maxKeys, int maxKeysPerUser) {
+        IdempotencyService service = new IdempotencyService();
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "ttlMs", 86_400_000L);
+        ReflectionTestUtils.setField(service, "waitTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(service, "maxKeys", maxKeys);
+        ReflectionTestUtils.setField(service, "maxKeysPerUser", maxKeysPerUser);
+        return service;
+    }
+}
@@ -0,0 +1,129 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.JobLease;
+import com.unbound.backend.repository.JobLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class JobLeaseServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Test
+    void holderRenewsWhileOthersAreRefused() {
+        JobLeaseService a = node();
+        JobLeaseService b = node();
+        String name = leaseName();
+
+        assertTrue(a.tryAcquire(name, TTL));
+        assertTrue(a.tryAcquire(name, TTL));
+        assertFalse(b.tryAcquire(name, TTL));
+        assertEquals(a.owner(), jobLeaseRepository.findById(name).orElseThrow().getOwner());
+    }
+
+    @Test
+    void releasedLeaseCanBeTakenByAnotherNode() {
+        JobLeaseService a = node();
+        JobLeaseService b = node();
+        String name = leaseName();
+
+        assertTrue(a.tryAcquire(name, TTL));
+        a.release(name);
+
+        assertTrue(b.tryAcquire(name, TTL));
+        assertFalse(a.tryAcquire(name, TTL));
+    }
+
+    @Test
+    void expiredLeaseIsTakenOver() {
+        JobLeaseService crashed = node();
+        JobLeaseService b = node();
+        String name = leaseName();
+
+        assertTrue(crashed.tryAcquire(name, Duration.ofSeconds(-1)));
+
+        assertTrue(b.tryAcquire(name, TTL));
+        assertEquals(b.owner(), jobLeaseRepository.findById(name).orElseThrow().getOwner());
+    }
+
+    @Test
+    void releaseByANonHolderChangesNothing() {
+        JobLeaseService a = node();
+        JobLeaseService b = node();
+        String name = leaseName();
+
+        assertTrue(a.tryAcquire(name, TTL));
+        b.release(name);
+
+        assertFalse(b.tryAcquire(name, TTL));
+    }
+
+    @Test
+    void insertLeavesAnExistingRowAlone() {
+        String name = leaseName();
+        LocalDateTime until = LocalDateTime.now().plusMinutes(1).withNano(0);
+        assertEquals(1, jobLeaseRepository.insertIfAbsent(name, "first", until));
+
+        assertEquals(0, jobLeaseRepository.insertIfAbsent(name, "second", until.plusHours(1)));
+
+        JobLease lease = jobLeaseRepository.findById(name).orElseThrow();
+        assertEquals("first", lease.getOwner());
+        assertEquals(until, lease.getLeaseUntil());
+    }
+
+    @Test
+    void racingNodesGetExactlyOneHolder() throws Exception {
+        int nodes = 8;
+        List<JobLeaseService> services = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            services.add(node());
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(nodes);
+        try {
+            for (int round = 0; round < 20; round++) {
+                String name = leaseName();
+                CyclicBarrier barrier = new CyclicBarrier(nodes);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (JobLeaseService service : services) {
+                    results.add(pool.submit(() -> {
+                        barrier.await();
+                        return service.tryAcquire(name, TTL);
+                    }));
+                }
+                int holders = 0;
+                for (Future<Boolean> result : results) {
+                    holders += result.get(30, TimeUnit.SECONDS) ? 1 : 0;
+                }
+                assertEquals(1, holders, "lease " + name);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // A second instance of the application, with its own owner id, sharing the database.
+    private JobLeaseService node() {
+        JobLeaseService service = new JobLeaseService();
+        ReflectionTestUtils.setField(service, "jobLeaseRepository", jobLeaseRepository);
+        return service;
+    }
+
+    private static String leaseName() {
+        return "test-" + UUID.randomUUID();
+    }
+}
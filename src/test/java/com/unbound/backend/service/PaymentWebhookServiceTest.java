@@ -0,0 +1,176 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.EventRegistration;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.PaymentWebhookEvent;
+import com.unbound.backend.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PaymentWebhookServiceTest {
+
+    @Autowired
+    private PaymentWebhookService webhookService;
+    @Autowired
+    private PaymentWebhookEventRepository webhookEventRepository;
+    @Autowired
+    private PaymentWebhookProcessor webhookProcessor;
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private RevenueLedgerService revenueLedgerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Value("${razorpay.webhook-secret}")
+    private String secret;
+
+    @Test
+    void signatureIsHmacOfTheExactBody() throws Exception {
+        byte[] body = "{\"event\":\"payment.captured\"}".getBytes(StandardCharsets.UTF_8);
+        String signature = sign(body);
+
+        assertTrue(webhookService.isValidSignature(body, signature));
+        assertTrue(webhookService.isValidSignature(body, " " + signature.toUpperCase(Locale.ROOT) + " "));
+        assertFalse(webhookService.isValidSignature("{\"event\":\"payment.failed\"}".getBytes(StandardCharsets.UTF_8), signature));
+        assertFalse(webhookService.isValidSignature(body, signature.substring(1)));
+        assertFalse(webhookService.isValidSignature(body, null));
+    }
+
+    @Test
+    void redeliveredEventIsStoredOnce() {
+        String orderId = "order_" + UUID.randomUUID();
+        String eventId = "evt_" + UUID.randomUUID();
+        byte[] body = captured(orderId, "pay_1");
+
+        assertTrue(webhookService.record(eventId, body));
+        assertFalse(webhookService.record(eventId, body));
+
+        PaymentWebhookEvent stored = pendingFor(orderId);
+        assertEquals("payment.captured", stored.getEventType());
+        assertEquals("pay_1", stored.getPaymentId());
+    }
+
+    @Test
+    void eventsWithoutIdAreDeduplicatedByPayload() {
+        String orderId = "order_" + UUID.randomUUID();
+        byte[] body = captured(orderId, "pay_2");
+
+        assertTrue(webhookService.record(null, body));
+        assertFalse(webhookService.record(" ", body));
+        assertTrue(webhookService.record(null, captured(orderId, "pay_3")));
+    }
+
+    @Test
+    void applyingTheSameEventTwiceSettlesThePaymentOnce() {
+        College college = TestFixtures.college(userRepository, collegeRepository);
+        Event event = eventRepository.save(TestFixtures.event(college, "Paid event", LocalDate.now().plusDays(10)).fees(250).build());
+        EventRegistration registration = registrationService.registerSolo(event,
+                TestFixtures.student(userRepository, studentRepository, college), registrationService.newReceiptNumber());
+        String orderId = "order_" + UUID.randomUUID();
+        Payment payment = paymentRepository.save(Payment.builder()
+                .eventRegistration(registration)
+                .college(college)
+                .razorpayOrderId(orderId)
+                .status("pending")
+                .amount(250)
+                .currency(PaymentService.DEFAULT_CURRENCY)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        webhookService.record("evt_" + UUID.randomUUID(), captured(orderId, "pay_9"));
+        PaymentWebhookEvent stored = pendingFor(orderId);
+        assertEquals(1, webhookService.apply(List.of(stored)));
+        webhookService.apply(List.of(stored));
+
+        Payment settled = paymentRepository.findById(payment.getPid()).orElseThrow();
+        assertEquals("paid", settled.getStatus());
+        assertEquals("pay_9", settled.getPaymentId());
+        assertEquals("paid", eventRegistrationRepository.findById(registration.getRid()).orElseThrow().getPaymentStatus());
+        assertEquals(250, revenueLedgerService.collegeTotal(college.getCid(), PaymentService.DEFAULT_CURRENCY));
+        assertEquals(PaymentWebhookEvent.Status.APPLIED,
+                webhookEventRepository.findById(stored.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void unknownOrderIsIgnored() {
+        String orderId = "order_" + UUID.randomUUID();
+        webhookService.record(null, captured(orderId, "pay_4"));
+        PaymentWebhookEvent stored = pendingFor(orderId);
+
+        assertEquals(0, webhookService.apply(List.of(stored)));
+
+        PaymentWebhookEvent ignored = webhookEventRepository.findById(stored.getId()).orElseThrow();
+        assertEquals(PaymentWebhookEvent.Status.IGNORED, ignored.getStatus());
+        assertEquals("Unknown order", ignored.getLastError());
+    }
+
+    @Test
+    void processorLeavesEventsToTheInstanceHoldingTheLease() {
+        String orderId = "order_" + UUID.randomUUID();
+        webhookService.record(null, captured(orderId, "pay_5"));
+        JobLeaseService otherInstance = new JobLeaseService();
+        ReflectionTestUtils.setField(otherInstance, "jobLeaseRepository", jobLeaseRepository);
+        assertTrue(otherInstance.tryAcquire(PaymentWebhookProcessor.LEASE, Duration.ofMinutes(5)));
+
+        webhookProcessor.process();
+        PaymentWebhookEvent stored = pendingFor(orderId);
+
+        otherInstance.release(PaymentWebhookProcessor.LEASE);
+        webhookProcessor.process();
+        assertEquals(PaymentWebhookEvent.Status.IGNORED, webhookEventRepository.findById(stored.getId()).orElseThrow().getStatus());
+    }
+
+    private PaymentWebhookEvent pendingFor(String orderId) {
+        List<PaymentWebhookEvent> events = webhookEventRepository.findAll().stream()
+                .filter(e -> orderId.equals(e.getOrderId()))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals(PaymentWebhookEvent.Status.PENDING, events.get(0).getStatus());
+        return events.get(0);
+    }
+
+    private static byte[] captured(String orderId, String paymentId) {
+        return ("{\"event\":\"payment.captured\",\"payload\":{\"payment\":{\"entity\":"
+                + "{\"id\":\"" + paymentId + "\",\"order_id\":\"" + orderId + "\",\"status\":\"captured\"}}}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String sign(byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(body));
+    }
+}
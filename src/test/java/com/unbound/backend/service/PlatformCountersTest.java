@@ -0,0 +1,93 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.FestRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PlatformCountersTest {
+
+    @Autowired
+    private PlatformCounters counters;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private FestRepository festRepository;
+
+    @Test
+    void eventLifecycleMovesOneCountAtATime() {
+        College college = TestFixtures.college(userRepository, collegeRepository);
+        counters.reconcile();
+        long total = counters.totalEvents();
+        long listed = counters.publicEvents();
+        long pending = counters.pendingEvents();
+
+        Event event = eventRepository.save(TestFixtures.event(college, "Counted", LocalDate.now()).approved(false).build());
+        assertEquals(total + 1, counters.totalEvents());
+        assertEquals(pending + 1, counters.pendingEvents());
+
+        event.setApproved(true);
+        event = eventRepository.save(event);
+        assertEquals(pending, counters.pendingEvents());
+        assertEquals(listed + 1, counters.publicEvents());
+
+        event.setActive(false);
+        event = eventRepository.save(event);
+        assertEquals(listed, counters.publicEvents());
+        assertEquals(total + 1, counters.totalEvents());
+
+        eventRepository.delete(event);
+        assertEquals(total, counters.totalEvents());
+        assertEquals(listed, counters.publicEvents());
+        assertEquals(pending, counters.pendingEvents());
+    }
+
+    @Test
+    void festApprovalAndDeleteMatchARecount() {
+        College college = TestFixtures.college(userRepository, collegeRepository);
+        Fest fest = festRepository.save(Fest.builder()
+                .college(college)
+                .fname("Counted fest")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(2))
+                .approved(false)
+                .active(true)
+                .build());
+        fest.setApproved(true);
+        festRepository.save(fest);
+        Fest other = festRepository.save(Fest.builder()
+                .college(college)
+                .fname("Deleted fest")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .approved(false)
+                .active(true)
+                .build());
+        festRepository.delete(other);
+
+        long total = counters.totalFests();
+        long listed = counters.publicFests();
+        long pending = counters.pendingFests();
+        counters.reconcile();
+
+        assertEquals(total, counters.totalFests());
+        assertEquals(listed, counters.publicFests());
+        assertEquals(pending, counters.pendingFests());
+    }
+}
@@ -0,0 +1,158 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.StudentRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RegistrationImportServiceTest {
+
+    @Autowired
+    private RegistrationImportService importService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private College college;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        college = TestFixtures.college(userRepository, collegeRepository);
+        event = eventRepository.save(TestFixtures.event(college, "Import", LocalDate.now().plusDays(10)).build());
+    }
+
+    @Test
+    void parsesQuotedFieldsAndEscapedQuotes() {
+        assertEquals(List.of("a", "b,\"c\"", ""), RegistrationImportService.parseLine("a,\"b,\"\"c\"\"\","));
+    }
+
+    @Test
+    void byteOrderMarkAndQuotedColumnsAreAccepted() throws Exception {
+        Student student = student();
+        String csv = "\uFEFFname,\"Email\"\r\n"
+                + "\"Doe, Jane\",\"" + email(student).toUpperCase(Locale.ROOT) + "\"\r\n";
+
+        RegistrationImportService.ImportReport report = importService.importCsv(event, new StringReader(csv));
+
+        assertEquals(1, report.registered());
+        RegistrationImportService.RowResult row = report.rows().get(0);
+        assertEquals(2, row.row());
+        assertEquals(student.getSid(), row.studentId());
+        assertNotNull(row.registrationId());
+    }
+
+    @Test
+    void invalidAndDuplicateRowsAreReportedPerRow() throws Exception {
+        Student student = student();
+        String csv = "studentId,email\n"
+                + student.getSid() + ",\n"
+                + "abc,\n"
+                + ",\n"
+                + "\n"
+                + "999999999,\n"
+                + student.getSid() + ",\n";
+
+        RegistrationImportService.ImportReport report = importService.importCsv(event, new StringReader(csv));
+
+        assertEquals(5, report.totalRows());
+        assertEquals(1, report.registered());
+        assertEquals(List.of("registered", "Invalid studentId: abc", "Row has no studentId or email", "Student not found", "Duplicate row in file"),
+                report.rows().stream().map(r -> "registered".equals(r.status()) ? r.status() : r.message()).toList());
+        assertEquals(List.of(2, 3, 4, 6, 7), report.rows().stream().map(RegistrationImportService.RowResult::row).toList());
+    }
+
+    @Test
+    void sameStudentByIdAndByEmailRegistersOnce() throws Exception {
+        Student student = student();
+        String csv = "studentId,email\n"
+                + student.getSid() + ",\n"
+                + "," + email(student) + "\n";
+
+        RegistrationImportService.ImportReport report = importService.importCsv(event, new StringReader(csv));
+
+        assertEquals(1, report.registered());
+        assertEquals(1, report.failed());
+        assertEquals("Duplicate row in file", report.rows().get(1).message());
+        assertEquals(1, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void rowsAcrossChunkBoundariesAreAllReported() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            students.add(student());
+        }
+        StringBuilder csv = new StringBuilder("studentId,email\n");
+        students.forEach(s -> csv.append(s.getSid()).append(",\n"));
+        // Listed again by email three chunks later.
+        csv.append(",").append(email(students.get(0))).append("\n");
+
+        Object batchSize = ReflectionTestUtils.getField(importService, "batchSize");
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        RegistrationImportService.ImportReport report;
+        try {
+            report = importService.importCsv(event, new StringReader(csv.toString()));
+        } finally {
+            ReflectionTestUtils.setField(importService, "batchSize", batchSize);
+        }
+
+        assertEquals(6, report.totalRows());
+        assertEquals(5, report.registered());
+        assertEquals(List.of(2, 3, 4, 5, 6, 7), report.rows().stream().map(RegistrationImportService.RowResult::row).toList());
+        assertEquals("Duplicate row in file", report.rows().get(5).message());
+        assertEquals(5, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void rowsPastCapacityAreReportedAsFull() throws Exception {
+        Event small = eventRepository.save(TestFixtures.event(college, "Small", LocalDate.now().plusDays(10)).capacity(2).build());
+        StringBuilder csv = new StringBuilder("studentId\n");
+        for (int i = 0; i < 3; i++) {
+            csv.append(student().getSid()).append("\n");
+        }
+
+        RegistrationImportService.ImportReport report = importService.importCsv(small, new StringReader(csv.toString()));
+
+        assertEquals(2, report.registered());
+        assertEquals("Event is full.", report.rows().get(2).message());
+        assertEquals(2, eventRepository.findById(small.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void headerWithoutAnIdentifyingColumnIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> importService.importCsv(event, new StringReader("name,phone\nx,1\n")));
+        assertThrows(IllegalArgumentException.class, () -> importService.importCsv(event, new StringReader("\n\n")));
+    }
+
+    private Student student() {
+        return TestFixtures.student(userRepository, studentRepository, college);
+    }
+
+    private static String email(Student student) {
+        return student.getUser().getEmail();
+    }
+}
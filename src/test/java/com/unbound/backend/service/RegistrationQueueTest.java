@@ -0,0 +1,179 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.StudentRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RegistrationQueueTest {
+
+    @Autowired
+    private RegistrationQueue registrationQueue;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private IdGenerator idGenerator;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private College college;
+
+    @BeforeEach
+    void setUp() {
+        college = TestFixtures.college(userRepository, collegeRepository);
+    }
+
+    @Test
+    void workersAdmitUpToCapacityAndRejectTheRest() throws Exception {
+        Event event = eventRepository.save(TestFixtures.event(college, "Launch", LocalDate.now().plusDays(7))
+                .capacity(2).queuedRegistration(true).build());
+        List<String> ticketIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Student student = student();
+            ticketIds.add(registrationQueue.submit(student.getUser().getUid(), event.getEid(), student.getSid(),
+                    registrationService.newReceiptNumber()).orElseThrow().ticketId());
+        }
+
+        List<RegistrationQueue.Ticket> settled = new ArrayList<>();
+        for (String ticketId : ticketIds) {
+            settled.add(awaitSettled(ticketId));
+        }
+
+        assertEquals(2, settled.stream().filter(t -> t.status() == RegistrationQueue.Status.REGISTERED && t.registrationId() != null).count());
+        assertEquals(List.of("Event is full."), settled.stream()
+                .filter(t -> t.status() == RegistrationQueue.Status.REJECTED).map(RegistrationQueue.Ticket::message).toList());
+        assertEquals(2, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+        assertTrue(registrationQueue.issuedHere(ticketIds.get(0)));
+    }
+
+    @Test
+    void registrationClosedWhileQueuedIsRejectedOnAdmission() {
+        Event event = eventRepository.save(TestFixtures.event(college, "Closing", LocalDate.now().plusDays(7)).build());
+        RegistrationQueue queue = queue(10, 3_600_000);
+        String ticketId = submit(queue, event, student(), registrationService.newReceiptNumber());
+
+        event.setRegistrationOpen(false);
+        eventRepository.save(event);
+        admitAll(queue);
+
+        RegistrationQueue.Ticket ticket = queue.find(ticketId).orElseThrow();
+        assertEquals(RegistrationQueue.Status.REJECTED, ticket.status());
+        assertEquals("Registration for this event is closed.", ticket.message());
+        assertEquals(0, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void failedBatchFallsBackToRegisteringEachItem() {
+        Event event = eventRepository.save(TestFixtures.event(college, "Fallback", LocalDate.now().plusDays(7)).build());
+        String usedReceipt = registrationService.newReceiptNumber();
+        registrationService.registerSolo(event, student(), usedReceipt);
+        RegistrationQueue queue = queue(10, 3_600_000);
+        // The reused receipt number fails the batched insert, then only its own item.
+        String clashing = submit(queue, event, student(), usedReceipt);
+        String fine = submit(queue, event, student(), registrationService.newReceiptNumber());
+
+        admitAll(queue);
+
+        assertEquals(RegistrationQueue.Status.REJECTED, queue.find(clashing).orElseThrow().status());
+        assertEquals(RegistrationQueue.Status.REGISTERED, queue.find(fine).orElseThrow().status());
+        assertEquals(2, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void settledTicketsExpireButQueuedOnesStay() throws Exception {
+        Event event = eventRepository.save(TestFixtures.event(college, "Expiry", LocalDate.now().plusDays(7)).build());
+        RegistrationQueue queue = queue(10, 0);
+        String settled = submit(queue, event, student(), registrationService.newReceiptNumber());
+        admitAll(queue);
+        String waiting = submit(queue, event, student(), registrationService.newReceiptNumber());
+        Thread.sleep(5);
+
+        queue.expireTickets();
+
+        assertTrue(queue.find(settled).isEmpty());
+        assertEquals(RegistrationQueue.Status.QUEUED, queue.find(waiting).orElseThrow().status());
+    }
+
+    @Test
+    void fullQueueTurnsSubmissionsAway() {
+        Event event = eventRepository.save(TestFixtures.event(college, "Busy", LocalDate.now().plusDays(7)).build());
+        RegistrationQueue queue = queue(1, 3_600_000);
+
+        String accepted = submit(queue, event, student(), registrationService.newReceiptNumber());
+        Student late = student();
+        Optional<RegistrationQueue.Ticket> turnedAway = queue.submit(late.getUser().getUid(), event.getEid(), late.getSid(),
+                registrationService.newReceiptNumber());
+
+        assertTrue(turnedAway.isEmpty());
+        assertEquals(1, queue.depth());
+        assertTrue(queue.find(accepted).isPresent());
+        assertEquals(1, ((Map<?, ?>) ReflectionTestUtils.getField(queue, "tickets")).size());
+    }
+
+    // A queue without worker threads; admitAll stands in for one worker pass.
+    private RegistrationQueue queue(int capacity, long ticketTtlMs) {
+        RegistrationQueue queue = new RegistrationQueue();
+        ReflectionTestUtils.setField(queue, "registrationService", registrationService);
+        ReflectionTestUtils.setField(queue, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(queue, "studentRepository", studentRepository);
+        ReflectionTestUtils.setField(queue, "idGenerator", idGenerator);
+        ReflectionTestUtils.setField(queue, "ticketTtlMs", ticketTtlMs);
+        ReflectionTestUtils.setField(queue, "queue", new ArrayBlockingQueue<RegistrationService.QueuedRegistration>(capacity));
+        return queue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void admitAll(RegistrationQueue queue) {
+        List<RegistrationService.QueuedRegistration> batch = new ArrayList<>();
+        ((BlockingQueue<RegistrationService.QueuedRegistration>) ReflectionTestUtils.getField(queue, "queue")).drainTo(batch);
+        ReflectionTestUtils.invokeMethod(queue, "admit", batch);
+    }
+
+    private static String submit(RegistrationQueue queue, Event event, Student student, String receiptNumber) {
+        return queue.submit(student.getUser().getUid(), event.getEid(), student.getSid(), receiptNumber)
+                .orElseThrow().ticketId();
+    }
+
+    private RegistrationQueue.Ticket awaitSettled(String ticketId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            RegistrationQueue.Ticket ticket = registrationQueue.find(ticketId).orElseThrow();
+            if (ticket.status() != RegistrationQueue.Status.QUEUED) {
+                return ticket;
+            }
+            Thread.sleep(20);
+        }
+        fail("Ticket " + ticketId + " still queued");
+        return null;
+    }
+
+    private Student student() {
+        return TestFixtures.student(userRepository, studentRepository, college);
+    }
+}
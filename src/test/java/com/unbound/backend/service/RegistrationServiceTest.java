@@ -0,0 +1,135 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Student;
+import com.unbound.backend.exception.RegistrationClosedException;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.StudentRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RegistrationServiceTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private College college;
+
+    @BeforeEach
+    void setUp() {
+        college = TestFixtures.college(userRepository, collegeRepository);
+    }
+
+    @Test
+    void concurrentRegistrationsNeverOversubscribe() throws Exception {
+        int capacity = 5;
+        int contenders = 24;
+        Event event = eventRepository.save(TestFixtures.event(college, "Limited", LocalDate.now().plusDays(30))
+                .capacity(capacity).build());
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < contenders; i++) {
+            students.add(TestFixtures.student(userRepository, studentRepository, college));
+        }
+
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Student student : students) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        registrationService.registerSolo(event, student, registrationService.newReceiptNumber());
+                        registered.incrementAndGet();
+                    } catch (RegistrationClosedException e) {
+                        assertEquals("Event is full.", e.getMessage());
+                        full.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(capacity, registered.get());
+        assertEquals(contenders - capacity, full.get());
+        assertEquals(capacity, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+        assertEquals(capacity, eventRegistrationRepository.countByEventEid(event.getEid()));
+    }
+
+    @Test
+    void reserveSeatStopsAtCapacity() {
+        Event limited = eventRepository.save(TestFixtures.event(college, "Two seats", LocalDate.now()).capacity(2).build());
+
+        assertEquals(1, reserve(limited));
+        assertEquals(1, reserve(limited));
+        assertEquals(0, reserve(limited));
+        assertEquals(2, eventRepository.findById(limited.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void duplicateRegistrationDoesNotTakeASeat() {
+        Event event = eventRepository.save(TestFixtures.event(college, "Once", LocalDate.now()).capacity(3).build());
+        Student student = TestFixtures.student(userRepository, studentRepository, college);
+
+        registrationService.registerSolo(event, student, registrationService.newReceiptNumber());
+        RegistrationClosedException e = assertThrows(RegistrationClosedException.class,
+                () -> registrationService.registerSolo(event, student, registrationService.newReceiptNumber()));
+
+        assertEquals("Already registered for this event.", e.getMessage());
+        assertEquals(1, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void otherConstraintViolationsAreNotReportedAsDuplicates() {
+        Event event = eventRepository.save(TestFixtures.event(college, "Receipts", LocalDate.now()).build());
+        String receipt = registrationService.newReceiptNumber();
+
+        registrationService.registerSolo(event, TestFixtures.student(userRepository, studentRepository, college), receipt);
+        Student other = TestFixtures.student(userRepository, studentRepository, college);
+
+        assertThrows(DataIntegrityViolationException.class, () -> registrationService.registerSolo(event, other, receipt));
+        assertEquals(1, eventRepository.findById(event.getEid()).orElseThrow().getRegisteredCount());
+    }
+
+    private int reserve(Event event) {
+        return transactionTemplate.execute(status -> eventRepository.reserveSeat(event.getEid()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.RevenueTotal;
+import com.unbound.backend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RevenueLedgerServiceTest {
+
+    @Autowired
+    private RevenueLedgerService revenueLedgerService;
+    @Autowired
+    private RevenueLedgerBackfill revenueLedgerBackfill;
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private College college;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        college = TestFixtures.college(userRepository, collegeRepository);
+        event = eventRepository.save(TestFixtures.event(college, "Paid", LocalDate.now().plusDays(10)).fees(250).build());
+    }
+
+    @Test
+    void paymentIsRecordedOnceWhenItBecomesPaid() {
+        Payment payment = payment("pending", "INR", 250);
+
+        assertTrue(applyStatus(payment, "paid", "pay_1"));
+        // Later reports for the same payment, in any order, leave the ledger alone.
+        assertTrue(applyStatus(payment, "PAID", "pay_2"));
+        assertFalse(applyStatus(payment, "failed", "pay_2"));
+        assertFalse(applyStatus(payment, "paid", "pay_2"));
+
+        assertEquals(250, revenueLedgerService.collegeTotal(college.getCid(), "INR"));
+        assertEquals(Map.of(event.getEid(), 250L), revenueLedgerService.totalsBy(college.getCid(), RevenueTotal.Scope.EVENT, "INR"));
+        List<RevenueTotal> days = revenueLedgerService.dailyTotals(college.getCid(), "INR", LocalDate.now(), LocalDate.now());
+        assertEquals(1, days.size());
+        assertEquals(250, days.get(0).getAmount());
+        assertEquals(1, days.get(0).getPayments());
+    }
+
+    @Test
+    void secondRecordingOfAPaymentRollsBack() {
+        Payment payment = payment("pending", "INR", 250);
+        applyStatus(payment, "paid", "pay_1");
+
+        assertThrows(DataIntegrityViolationException.class, () -> transactionTemplate.executeWithoutResult(status ->
+                revenueLedgerService.record(paymentRepository.findById(payment.getPid()).orElseThrow())));
+
+        assertEquals(250, revenueLedgerService.collegeTotal(college.getCid(), "INR"));
+    }
+
+    @Test
+    void totalsAreKeptPerCurrency() {
+        applyStatus(payment("pending", "INR", 250), "paid", "pay_1");
+        applyStatus(payment("pending", "INR", 250), "paid", "pay_2");
+        applyStatus(payment("pending", "usd ", 40), "paid", "pay_3");
+
+        assertEquals(Map.of("INR", 500L, "USD", 40L), revenueLedgerService.collegeTotals(college.getCid()));
+        assertEquals(40, revenueLedgerService.collegeTotal(college.getCid(), "usd"));
+        assertEquals(Map.of(event.getEid(), 40L), revenueLedgerService.totalsBy(college.getCid(), RevenueTotal.Scope.EVENT, "USD"));
+        assertEquals(0, revenueLedgerService.collegeTotal(college.getCid(), "EUR"));
+    }
+
+    @Test
+    void backfillSkipsPaymentsAlreadyInTheLedger() {
+        Payment recorded = payment("pending", "INR", 100);
+        applyStatus(recorded, "paid", "pay_1");
+        Payment oldB = payment("paid", "INR", 20);
+        Payment oldC = payment("paid", "INR", 3);
+
+        // A page overlapping a payment another instance recorded fails as a whole on the unique pid...
+        assertThrows(DataIntegrityViolationException.class, () -> revenueLedgerService.backfill(List.of(oldB, recorded)));
+        assertEquals(100, revenueLedgerService.collegeTotal(college.getCid(), "INR"));
+
+        // ...and the backfill re-reads the page, which no longer contains it.
+        revenueLedgerBackfill.backfill();
+        assertEquals(123, revenueLedgerService.collegeTotal(college.getCid(), "INR"));
+        revenueLedgerBackfill.backfill();
+        assertEquals(123, revenueLedgerService.collegeTotal(college.getCid(), "INR"));
+
+        List<RevenueTotal> days = revenueLedgerService.dailyTotals(college.getCid(), "INR", LocalDate.now().minusDays(3), LocalDate.now());
+        assertEquals(List.of(LocalDate.now().minusDays(2).toEpochDay(), LocalDate.now().toEpochDay()),
+                days.stream().map(RevenueTotal::getRefId).toList());
+    }
+
+    private boolean applyStatus(Payment payment, String status, String paymentId) {
+        return transactionTemplate.execute(tx ->
+                paymentService.applyStatus(paymentRepository.findById(payment.getPid()).orElseThrow(), status, paymentId));
+    }
+
+    // Payments stored as already paid predate the ledger; they are dated two days back.
+    private Payment payment(String status, String currency, int amount) {
+        return paymentRepository.save(Payment.builder()
+                .eventRegistration(registrationService.registerSolo(event,
+                        TestFixtures.student(userRepository, studentRepository, college), registrationService.newReceiptNumber()))
+                .college(college)
+                .razorpayOrderId("order_" + UUID.randomUUID())
+                .status(status)
+                .amount(amount)
+                .currency(currency)
+                .createdAt("paid".equals(status) ? LocalDateTime.now().minusDays(2) : LocalDateTime.now())
+                .build());
+    }
+}
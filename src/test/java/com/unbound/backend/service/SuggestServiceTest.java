@@ -0,0 +1,73 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.dto.Suggestion;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SuggestServiceTest {
+
+    @Autowired
+    private SuggestService suggestService;
+    @Autowired
+    private ApplicationEventPublisher publisher;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void burstOfChangesShowsUpWithoutBlockingThePublisher() throws Exception {
+        College college = TestFixtures.college(userRepository, collegeRepository);
+        String word = "Zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(eventRepository.save(TestFixtures.event(college, word + " " + i, LocalDate.now()).build()));
+        }
+
+        events.forEach(e -> publisher.publishEvent(CatalogChangedEvent.eventSaved(e.getEid())));
+
+        awaitSuggestions(word, list -> list.stream().filter(s -> "event".equals(s.getType())).count() == 5);
+    }
+
+    @Test
+    void removedEventDropsOut() throws Exception {
+        College college = TestFixtures.college(userRepository, collegeRepository);
+        String word = "Zr" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        Event event = eventRepository.save(TestFixtures.event(college, word, LocalDate.now()).build());
+
+        publisher.publishEvent(CatalogChangedEvent.eventSaved(event.getEid()));
+        awaitSuggestions(word, list -> !list.isEmpty());
+
+        publisher.publishEvent(CatalogChangedEvent.eventRemoved(event.getEid()));
+        awaitSuggestions(word, List::isEmpty);
+    }
+
+    private void awaitSuggestions(String prefix, Predicate<List<Suggestion>> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        List<Suggestion> current = suggestService.suggest(prefix, null);
+        while (!condition.test(current)) {
+            assertTrue(System.currentTimeMillis() < deadline, "suggestions for " + prefix + " never settled: " + current);
+            Thread.sleep(20);
+            current = suggestService.suggest(prefix, null);
+        }
+    }
+}
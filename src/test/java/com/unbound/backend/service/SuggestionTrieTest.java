@@ -0,0 +1,77 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    @Test
+    void heavierSuggestionsRankFirstAndTiesAreAlphabetical() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(
+                suggestion("Techfest", 5),
+                suggestion("Technova", 9),
+                suggestion("techweek", 5),
+                suggestion("Robotics", 50)), 10);
+
+        assertEquals(List.of("Technova", "Techfest", "techweek"), texts(trie.lookup("tech", 10)));
+    }
+
+    @Test
+    void everyWordIsAnEntryPoint() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(suggestion("IIT Bombay", 1)), 5);
+
+        assertEquals(List.of("IIT Bombay"), texts(trie.lookup("bom", 5)));
+        assertEquals(List.of("IIT Bombay"), texts(trie.lookup("  IIT   b ", 5)));
+        assertTrue(trie.lookup("ombay", 5).isEmpty());
+    }
+
+    @Test
+    void nodesKeepOnlyTopKAndLookupHonoursLimit() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(
+                suggestion("Code A", 1),
+                suggestion("Code B", 2),
+                suggestion("Code C", 3),
+                suggestion("Code D", 4)), 3);
+
+        assertEquals(List.of("Code D", "Code C", "Code B"), texts(trie.lookup("code", 10)));
+        assertEquals(List.of("Code D"), texts(trie.lookup("code", 1)));
+    }
+
+    @Test
+    void repeatedWordsDoNotDuplicateASuggestion() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(suggestion("Tech Tech", 1)), 5);
+
+        assertEquals(1, trie.lookup("tech", 5).size());
+    }
+
+    @Test
+    void prefixesBeyondTrieDepthAreCheckedAgainstFullText() {
+        String longName = "a".repeat(SuggestionTrie.MAX_DEPTH) + "bc";
+        String other = "a".repeat(SuggestionTrie.MAX_DEPTH) + "xy";
+        SuggestionTrie trie = SuggestionTrie.build(List.of(suggestion(longName, 1), suggestion(other, 2)), 5);
+
+        assertEquals(List.of(longName), texts(trie.lookup(longName, 5)));
+    }
+
+    @Test
+    void blankOrUnknownPrefixesReturnNothing() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(suggestion("Hackathon", 1)), 5);
+
+        assertTrue(trie.lookup("", 5).isEmpty());
+        assertTrue(trie.lookup(null, 5).isEmpty());
+        assertTrue(trie.lookup("zzz", 5).isEmpty());
+        assertTrue(SuggestionTrie.EMPTY.lookup("hack", 5).isEmpty());
+    }
+
+    private static Suggestion suggestion(String text, long weight) {
+        return Suggestion.builder().type("event").text(text).weight(weight).build();
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestFixtures;
+import com.unbound.backend.dto.EventSearchCriteria;
+import com.unbound.backend.dto.ExplorePage;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.EventRegistration;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.KeysetCursor;
+import com.unbound.backend.repository.StudentRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TrendingServiceTest {
+
+    @Autowired
+    private TrendingService trendingService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    private College college;
+    private EventSearchCriteria criteria;
+
+    @BeforeEach
+    void setUp() {
+        college = TestFixtures.college(userRepository, collegeRepository);
+        criteria = EventSearchCriteria.builder().college(college.getCname()).build();
+    }
+
+    @Test
+    void overlapWindowCountsLateCommitsOnce() {
+        Event a = eventRepository.save(TestFixtures.event(college, "Alpha", LocalDate.now().plusDays(30)).build());
+        Event b = eventRepository.save(TestFixtures.event(college, "Beta", LocalDate.now().plusDays(30)).build());
+        register(a, LocalDateTime.now());
+        register(a, LocalDateTime.now());
+        register(b, LocalDateTime.now());
+
+        trendingService.refresh();
+        ExplorePage<Event> first = trendingService.findEvents(criteria, null, 1);
+        assertEquals(a.getEid(), first.getItems().get(0).getEid());
+        double score = Double.parseDouble(KeysetCursor.decode(first.getNextCursor()).sortKey());
+
+        // The next tick re-reads the overlap window but must not count those rows again.
+        trendingService.refresh();
+        double again = Double.parseDouble(KeysetCursor.decode(trendingService.findEvents(criteria, null, 1).getNextCursor()).sortKey());
+        assertEquals(score, again, score * 1e-3);
+
+        // Rows stamped before the newest one consumed, as from a transaction that committed late.
+        register(b, LocalDateTime.now().minusMinutes(1));
+        register(b, LocalDateTime.now().minusMinutes(1));
+        trendingService.refresh();
+        assertEquals(b.getEid(), trendingService.findEvents(criteria, null, 1).getItems().get(0).getEid());
+    }
+
+    private void register(Event event, LocalDateTime at) {
+        eventRegistrationRepository.save(EventRegistration.builder()
+                .event(event)
+                .student(TestFixtures.student(userRepository, studentRepository, college))
+                .erdateTime(at)
+                .status("registered")
+                .paymentStatus("paid")
+                .build());
+    }
+}